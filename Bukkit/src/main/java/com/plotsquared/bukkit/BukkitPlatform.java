@@ -40,6 +40,7 @@ import com.plotsquared.bukkit.inject.WorldManagerModule;
 import com.plotsquared.bukkit.listener.BlockEventListener;
 import com.plotsquared.bukkit.listener.ChunkListener;
 import com.plotsquared.bukkit.listener.EntityEventListener;
+import com.plotsquared.bukkit.listener.EntityCountListener;
 import com.plotsquared.bukkit.listener.EntitySpawnListener;
 import com.plotsquared.bukkit.listener.PaperListener;
 import com.plotsquared.bukkit.listener.PaperListener113;
@@ -48,6 +49,7 @@ import com.plotsquared.bukkit.listener.ProjectileEventListener;
 import com.plotsquared.bukkit.listener.ServerListener;
 import com.plotsquared.bukkit.listener.SingleWorldListener;
 import com.plotsquared.bukkit.listener.WorldEvents;
+import com.plotsquared.bukkit.permissions.LuckPermsPermissionListener;
 import com.plotsquared.bukkit.placeholder.PAPIPlaceholders;
 import com.plotsquared.bukkit.placeholder.PlaceholderFormatter;
 import com.plotsquared.bukkit.player.BukkitPlayer;
@@ -131,7 +133,10 @@ import org.bukkit.command.PluginCommand;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.world.WorldUnloadEvent;
 import org.bukkit.generator.ChunkGenerator;
 import org.bukkit.metadata.FixedMetadataValue;
 import org.bukkit.metadata.MetadataValue;
@@ -144,6 +149,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -185,9 +191,12 @@ public final class BukkitPlatform extends JavaPlugin implements Listener, PlotPl
     private SingleWorldListener singleWorldListener;
     private Method methodUnloadChunk0;
     private boolean methodUnloadSetup = false;
+    // Plot world name -> time at which the world was last seen without players
+    private final Map<String, Long> idleWorlds = new HashMap<>();
     private boolean metricsStarted;
     private boolean faweHook = false;
     private EconHandler econ;
+    private CacheUUIDService cacheUUIDService;
 
     private Injector injector;
 
@@ -353,12 +362,24 @@ public final class BukkitPlatform extends JavaPlugin implements Listener, PlotPl
                 } else {
                     getServer().getPluginManager().registerEvents(injector().getInstance(PaperListener.class), this);
                 }
+                if (Settings.Paper_Components.ENTITY_COUNTS) {
+                    final EntityCountListener entityCountListener = injector().getInstance(EntityCountListener.class);
+                    getServer().getPluginManager().registerEvents(entityCountListener, this);
+                    entityCountListener.start();
+                }
             }
             this.plotListener.startRunnable();
         }
 
         // Required
         getServer().getPluginManager().registerEvents(injector().getInstance(WorldEvents.class), this);
+        if (this.plotAreaManager instanceof SinglePlotAreaManager) {
+            // Worlds loaded before the plugin was enabled did not pass through WorldEvents
+            final SinglePlotArea area = ((SinglePlotAreaManager) this.plotAreaManager).getArea();
+            for (final World world : Bukkit.getWorlds()) {
+                area.loadWorldEntry(world.getName());
+            }
+        }
         if (Settings.Enabled_Components.CHUNK_PROCESSOR) {
             getServer().getPluginManager().registerEvents(injector().getInstance(ChunkListener.class), this);
         }
@@ -426,6 +447,11 @@ public final class BukkitPlatform extends JavaPlugin implements Listener, PlotPl
 
         // Services are accessed in order
         final CacheUUIDService cacheUUIDService = new CacheUUIDService(Settings.UUID.UUID_CACHE_SIZE);
+        this.cacheUUIDService = cacheUUIDService;
+        final int snapshotSize = cacheUUIDService.loadSnapshot(this.getUuidSnapshotFile());
+        if (snapshotSize > 0) {
+            LOGGER.info("(UUID) Loaded {} UUIDs from the UUID cache snapshot", snapshotSize);
+        }
         this.impromptuPipeline.registerService(cacheUUIDService);
         this.backgroundPipeline.registerService(cacheUUIDService);
         this.impromptuPipeline.registerConsumer(cacheUUIDService);
@@ -532,10 +558,18 @@ public final class BukkitPlatform extends JavaPlugin implements Listener, PlotPl
             LOGGER.info("PlotSquared hooked into PlaceholderAPI");
         }
 
+        if (Bukkit.getPluginManager().getPlugin("LuckPerms") != null && LuckPermsPermissionListener.register(this)) {
+            LOGGER.info("PlotSquared hooked into LuckPerms permission changes");
+        }
+
         this.startMetrics();
 
         if (Settings.Enabled_Components.WORLDS) {
             TaskManager.getPlatformImplementation().taskRepeat(this::unload, TaskTime.seconds(1L));
+            Bukkit.getPluginManager().registerEvents(this, this);
+            if (this.plotAreaManager instanceof SinglePlotAreaManager) {
+                ((SinglePlotAreaManager) this.plotAreaManager).getArea().getWorldPool().replenish();
+            }
             try {
                 singleWorldListener = injector().getInstance(SingleWorldListener.class);
                 Bukkit.getPluginManager().registerEvents(singleWorldListener, this);
@@ -563,6 +597,12 @@ public final class BukkitPlatform extends JavaPlugin implements Listener, PlotPl
         ServerLib.checkJavaLTS();
     }
 
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(final WorldUnloadEvent event) {
+        // A world may be unloaded by something else, and must be kept warm again once it is loaded again
+        this.idleWorlds.remove(event.getWorld().getName());
+    }
+
     private void unload() {
         if (!this.methodUnloadSetup) {
             this.methodUnloadSetup = true;
@@ -580,28 +620,27 @@ public final class BukkitPlatform extends JavaPlugin implements Listener, PlotPl
             }
         }
 
-        if (this.plotAreaManager instanceof SinglePlotAreaManager) {
+        if (this.plotAreaManager instanceof SinglePlotAreaManager && Settings.Single_Worlds.UNLOAD_IDLE) {
             long start = System.currentTimeMillis();
             final SinglePlotArea area = ((SinglePlotAreaManager) this.plotAreaManager).getArea();
+            final long keepWarm = TimeUnit.SECONDS.toMillis(Settings.Single_Worlds.KEEP_WARM);
 
             outer:
             for (final World world : Bukkit.getWorlds()) {
-                final String name = world.getName();
-                final char char0 = name.charAt(0);
-                if (!Character.isDigit(char0) && char0 != '-') {
+                final PlotId id = area.getWorldPlotId(world.getName());
+                if (id == null) {
                     continue;
                 }
 
                 if (!world.getPlayers().isEmpty()) {
+                    this.idleWorlds.remove(world.getName());
                     continue;
                 }
-
-                PlotId id;
-                try {
-                    id = PlotId.fromString(name);
-                } catch (IllegalArgumentException ignored) {
+                final long idleSince = this.idleWorlds.computeIfAbsent(world.getName(), name -> start);
+                if (start - idleSince < keepWarm) {
                     continue;
                 }
+
                 final Plot plot = area.getOwnedPlot(id);
                 if (plot != null) {
                     if (!plot.getFlag(ServerPlotFlag.class) || PlotSquared
@@ -616,6 +655,9 @@ public final class BukkitPlatform extends JavaPlugin implements Listener, PlotPl
                         if (chunks.length == 0) {
                             if (!Bukkit.unloadWorld(world, true)) {
                                 LOGGER.warn("Failed to unload {}", world.getName());
+                            } else {
+                                this.idleWorlds.remove(world.getName());
+                                area.getWorldPool().recordUnload();
                             }
                             return;
                         } else {
@@ -653,24 +695,25 @@ public final class BukkitPlatform extends JavaPlugin implements Listener, PlotPl
             final @NonNull CacheUUIDService cacheUUIDService
     ) {
         // Load all uuids into a big chunky boi queue
-        final Queue<UUID> uuidQueue = new LinkedBlockingQueue<>();
+        final Set<UUID> uuids = new HashSet<>();
         PlotSquared.get().forEachPlotRaw(plot -> {
-            final Set<UUID> uuids = new HashSet<>();
             uuids.add(plot.getOwnerAbs());
             uuids.addAll(plot.getMembers());
             uuids.addAll(plot.getTrusted());
             uuids.addAll(plot.getDenied());
-            for (final UUID uuid : uuids) {
-                if (!uuidQueue.contains(uuid)) {
-                    uuidQueue.add(uuid);
-                }
-            }
         });
+        final Queue<UUID> uuidQueue = new LinkedBlockingQueue<>();
+        for (final UUID uuid : uuids) {
+            if (!cacheUUIDService.contains(uuid)) {
+                uuidQueue.add(uuid);
+            }
+        }
 
         LOGGER.info("(UUID) {} UUIDs will be cached", uuidQueue.size());
 
         Executors.newSingleThreadScheduledExecutor().schedule(() -> {
-            // Begin by reading all the SQLite cache at once
+            // Begin by reading all the SQLite cache at once. This also runs if a snapshot was loaded, as the
+            // snapshot is only written on shutdown and misses any mappings stored after an unclean one
             cacheUUIDService.accept(sqLiteUUIDService.getAll());
             // Now fetch names for all known UUIDs
             final int totalSize = uuidQueue.size();
@@ -719,10 +762,21 @@ public final class BukkitPlatform extends JavaPlugin implements Listener, PlotPl
 
     @Override
     public void onDisable() {
+        if (this.cacheUUIDService != null) {
+            try {
+                this.cacheUUIDService.saveSnapshot(this.getUuidSnapshotFile());
+            } catch (final IOException e) {
+                LOGGER.error("(UUID) Failed to save the UUID cache snapshot", e);
+            }
+        }
         PlotSquared.get().disable();
         Bukkit.getScheduler().cancelTasks(this);
     }
 
+    private @NonNull File getUuidSnapshotFile() {
+        return new File(getDataFolder(), "uuids.bin");
+    }
+
     @Override
     public void shutdown() {
         this.getServer().getPluginManager().disablePlugin(this);
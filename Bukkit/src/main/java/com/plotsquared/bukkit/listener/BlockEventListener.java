@@ -63,6 +63,7 @@ import com.plotsquared.core.plot.flag.implementations.VineGrowFlag;
 import com.plotsquared.core.plot.flag.types.BlockTypeWrapper;
 import com.plotsquared.core.plot.flag.types.BooleanFlag;
 import com.plotsquared.core.plot.world.PlotAreaManager;
+import com.plotsquared.core.plot.world.PlotRasterCache;
 import com.plotsquared.core.util.Permissions;
 import com.plotsquared.core.util.task.TaskManager;
 import com.plotsquared.core.util.task.TaskTime;
@@ -149,12 +150,13 @@ public class BlockEventListener implements Listener {
     @EventHandler
     public void onRedstoneEvent(BlockRedstoneEvent event) {
         Block block = event.getBlock();
-        Location location = BukkitUtil.adapt(block.getLocation());
-        PlotArea area = location.getPlotArea();
+        String world = block.getWorld().getName();
+        PlotRasterCache rasterCache = this.plotAreaManager.getRasterCache();
+        PlotArea area = rasterCache.getPlotArea(world, block.getX(), block.getY(), block.getZ());
         if (area == null) {
             return;
         }
-        Plot plot = location.getOwnedPlot();
+        Plot plot = rasterCache.getOwnedPlot(world, block.getX(), block.getY(), block.getZ());
         if (plot == null) {
             if (area.isRoadFlags() && !area.getRoadFlag(RedstoneFlag.class)) {
                 event.setNewCurrent(0);
@@ -208,12 +210,13 @@ public class BlockEventListener implements Listener {
     @EventHandler(ignoreCancelled = true, priority = EventPriority.HIGHEST)
     public void onPhysicsEvent(BlockPhysicsEvent event) {
         Block block = event.getBlock();
-        Location location = BukkitUtil.adapt(block.getLocation());
-        PlotArea area = location.getPlotArea();
+        String world = block.getWorld().getName();
+        PlotRasterCache rasterCache = this.plotAreaManager.getRasterCache();
+        PlotArea area = rasterCache.getPlotArea(world, block.getX(), block.getY(), block.getZ());
         if (area == null) {
             return;
         }
-        Plot plot = area.getOwnedPlotAbs(location);
+        Plot plot = rasterCache.getOwnedPlotAbs(world, block.getX(), block.getY(), block.getZ());
         if (plot == null) {
             return;
         }
@@ -249,6 +252,7 @@ public class BlockEventListener implements Listener {
                     switch (block.getType()) {
                         case PISTON, STICKY_PISTON -> {
                             org.bukkit.block.data.Directional piston = (org.bukkit.block.data.Directional) block.getBlockData();
+                            Location location = BukkitUtil.adapt(block.getLocation());
                             switch (piston.getFacing()) {
                                 case EAST -> location = location.add(1, 0, 0);
                                 case SOUTH -> location = location.add(-1, 0, 0);
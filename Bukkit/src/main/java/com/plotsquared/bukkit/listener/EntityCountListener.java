@@ -0,0 +1,255 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *                  Copyright (C) 2021 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.bukkit.listener;
+
+import com.destroystokyo.paper.event.entity.EntityAddToWorldEvent;
+import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.plotsquared.core.plot.PlotArea;
+import com.plotsquared.core.plot.PlotId;
+import com.plotsquared.core.plot.world.PlotAreaManager;
+import com.plotsquared.core.util.entity.EntityCategories;
+import com.plotsquared.core.util.task.TaskManager;
+import com.plotsquared.core.util.task.TaskTime;
+import com.sk89q.worldedit.bukkit.BukkitAdapter;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityTeleportEvent;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Keeps the entity counters of the plot areas up to date (see {@link PlotArea#isEntityCountTracked(String)}),
+ * so that entity caps can be checked without counting the entities of the plot. This uses Paper's
+ * events for entities being added to and removed from a world, which are also called for the
+ * entities of chunks that are loaded and unloaded.
+ * <p>
+ * An entity is counted in the plot it was added in. Entities that teleport are moved to the plot
+ * they teleport to right away, entities that walk or are pushed into another plot are moved by a
+ * task that checks the positions of the tracked entities every second.
+ */
+@Singleton
+public class EntityCountListener implements Listener {
+
+    private static final TaskTime MOVE_CHECK_INTERVAL = TaskTime.ticks(20L);
+
+    private final PlotAreaManager plotAreaManager;
+    // Where each entity was counted, by world, so that it is removed from the same counters.
+    // Worlds without plot areas have no entry
+    private final Map<String, Map<UUID, TrackedEntity>> tracked = new HashMap<>();
+    // Cap masks by entity type ordinal, -1 if not resolved yet
+    private final int[] capMasks = new int[EntityType.values().length];
+    // Reused for entity positions, all events and the move check run on the main thread
+    private final Location scratch = new Location(null, 0, 0, 0);
+
+    @Inject
+    public EntityCountListener(final @NonNull PlotAreaManager plotAreaManager) {
+        this.plotAreaManager = plotAreaManager;
+        Arrays.fill(this.capMasks, -1);
+    }
+
+    /**
+     * Start tracking the plot areas of the worlds that are already loaded, and start checking
+     * whether tracked entities moved to another plot. Worlds that are loaded later on are tracked
+     * once they have finished loading.
+     */
+    public void start() {
+        for (final World world : Bukkit.getWorlds()) {
+            this.track(world);
+        }
+        TaskManager.runTaskRepeat(this::updateMoved, MOVE_CHECK_INTERVAL);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldLoad(final WorldLoadEvent event) {
+        this.track(event.getWorld());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(final WorldUnloadEvent event) {
+        final String worldName = event.getWorld().getName();
+        // Only drop the counters of this world, areas such as the single plot area span many worlds
+        for (final PlotArea area : this.plotAreaManager.getPlotAreas(worldName, null)) {
+            area.setEntityCountTracked(worldName, false);
+        }
+        this.tracked.remove(worldName);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityAdd(final EntityAddToWorldEvent event) {
+        this.add(event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityRemove(final EntityRemoveFromWorldEvent event) {
+        final Entity entity = event.getEntity();
+        final Map<UUID, TrackedEntity> entities = this.tracked.get(entity.getWorld().getName());
+        final TrackedEntity trackedEntity = entities == null ? null : entities.remove(entity.getUniqueId());
+        if (trackedEntity != null) {
+            trackedEntity.uncount();
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityTeleport(final EntityTeleportEvent event) {
+        final Entity entity = event.getEntity();
+        final Location to = event.getTo();
+        // Entities that change worlds are removed from the old world and added to the new one
+        if (to == null || to.getWorld() != entity.getWorld()) {
+            return;
+        }
+        final Map<UUID, TrackedEntity> entities = this.tracked.get(entity.getWorld().getName());
+        final TrackedEntity trackedEntity = entities == null ? null : entities.get(entity.getUniqueId());
+        if (trackedEntity != null) {
+            this.move(trackedEntity, to.getBlockX(), to.getBlockY(), to.getBlockZ());
+        }
+    }
+
+    private void track(final @NonNull World world) {
+        final String worldName = world.getName();
+        final PlotArea[] areas = this.plotAreaManager.getPlotAreas(worldName, null);
+        if (areas.length == 0 || this.tracked.containsKey(worldName)) {
+            return;
+        }
+        for (final PlotArea area : areas) {
+            area.setEntityCountTracked(worldName, true);
+        }
+        this.tracked.put(worldName, new HashMap<>());
+        for (final Entity entity : world.getEntities()) {
+            this.add(entity);
+        }
+    }
+
+    private void add(final @NonNull Entity entity) {
+        final int capMask = this.getCapMask(entity.getType());
+        if (capMask == 0) {
+            return;
+        }
+        final String worldName = entity.getWorld().getName();
+        final Map<UUID, TrackedEntity> entities = this.tracked.get(worldName);
+        if (entities == null) {
+            return;
+        }
+        // Entities outside of plots are tracked as well, they may still move into one
+        final TrackedEntity trackedEntity = new TrackedEntity(worldName, entity, capMask);
+        final TrackedEntity previous = entities.put(entity.getUniqueId(), trackedEntity);
+        if (previous != null) {
+            previous.uncount();
+        }
+        final Location location = entity.getLocation(this.scratch);
+        this.move(trackedEntity, location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    /**
+     * Move the entities whose block column changed since they were last counted to the plot they
+     * are in now
+     */
+    private void updateMoved() {
+        for (final Map<UUID, TrackedEntity> entities : this.tracked.values()) {
+            for (final TrackedEntity trackedEntity : entities.values()) {
+                final Location location = trackedEntity.entity.getLocation(this.scratch);
+                if (location.getBlockX() != trackedEntity.x || location.getBlockZ() != trackedEntity.z) {
+                    this.move(trackedEntity, location.getBlockX(), location.getBlockY(), location.getBlockZ());
+                }
+            }
+        }
+    }
+
+    private void move(final @NonNull TrackedEntity trackedEntity, final int x, final int y, final int z) {
+        trackedEntity.x = x;
+        trackedEntity.z = z;
+        final String world = trackedEntity.world;
+        PlotArea area = this.plotAreaManager.getRasterCache().getPlotArea(world, x, y, z);
+        final PlotId id = area == null ? null : area.getPlotId(world, x, y, z);
+        if (id == null) {
+            area = null;
+        }
+        if (area == trackedEntity.area && Objects.equals(id, trackedEntity.id)) {
+            return;
+        }
+        trackedEntity.uncount();
+        trackedEntity.area = area;
+        trackedEntity.id = id;
+        if (area != null) {
+            area.updateEntityCount(world, id, trackedEntity.capMask, 1);
+        }
+    }
+
+    private int getCapMask(final @NonNull EntityType type) {
+        int capMask = this.capMasks[type.ordinal()];
+        if (capMask < 0) {
+            if (type == EntityType.UNKNOWN) {
+                capMask = 1 << EntityCategories.CAP_ENTITY;
+            } else {
+                capMask = EntityCategories.getCapMask(BukkitAdapter.adapt(type));
+            }
+            this.capMasks[type.ordinal()] = capMask;
+        }
+        return capMask;
+    }
+
+    private static final class TrackedEntity {
+
+        private final String world;
+        private final Entity entity;
+        private final int capMask;
+        // The plot the entity is counted in, both null if it is not in a plot
+        private @Nullable PlotArea area;
+        private @Nullable PlotId id;
+        // The block column the entity was last seen in
+        private int x;
+        private int z;
+
+        private TrackedEntity(final @NonNull String world, final @NonNull Entity entity, final int capMask) {
+            this.world = world;
+            this.entity = entity;
+            this.capMask = capMask;
+        }
+
+        private void uncount() {
+            if (this.area != null) {
+                this.area.updateEntityCount(this.world, this.id, this.capMask, -1);
+            }
+        }
+
+    }
+
+}
@@ -25,7 +25,6 @@
  */
 package com.plotsquared.bukkit.listener;
 
-import com.google.common.collect.Iterables;
 import com.plotsquared.bukkit.player.BukkitPlayer;
 import com.plotsquared.bukkit.util.BukkitUtil;
 import com.plotsquared.core.location.Location;
@@ -44,13 +43,25 @@ import java.util.UUID;
 @SuppressWarnings("unused")
 public class ForceFieldListener {
 
+    private static final double FORCEFIELD_RADIUS = 5d;
+
+    private static boolean isNearby(Player player, PlotPlayer<?> other) {
+        if (!(other instanceof BukkitPlayer) || ((BukkitPlayer) other).player == player) {
+            return false;
+        }
+        org.bukkit.Location location = player.getLocation();
+        org.bukkit.Location otherLocation = ((BukkitPlayer) other).player.getLocation();
+        return location.getWorld() == otherLocation.getWorld()
+                && Math.abs(location.getX() - otherLocation.getX()) <= FORCEFIELD_RADIUS
+                && Math.abs(location.getY() - otherLocation.getY()) <= FORCEFIELD_RADIUS
+                && Math.abs(location.getZ() - otherLocation.getZ()) <= FORCEFIELD_RADIUS;
+    }
+
     private static Set<PlotPlayer<?>> getNearbyPlayers(Player player, Plot plot) {
         Set<PlotPlayer<?>> players = new HashSet<>();
-        for (Player nearPlayer : Iterables
-                .filter(player.getNearbyEntities(5d, 5d, 5d), Player.class)) {
-            PlotPlayer<?> plotPlayer;
-            if ((plotPlayer = BukkitUtil.adapt(nearPlayer)) == null || !plot
-                    .equals(plotPlayer.getCurrentPlot())) {
+        // Only players inside the plot are affected, so there is no need to query the world for nearby entities
+        for (PlotPlayer<?> plotPlayer : plot.getPlayersInPlot()) {
+            if (!isNearby(player, plotPlayer)) {
                 continue;
             }
             if (!plot.isAdded(plotPlayer.getUUID())) {
@@ -61,11 +72,8 @@ public class ForceFieldListener {
     }
 
     private static PlotPlayer<?> hasNearbyPermitted(Player player, Plot plot) {
-        for (Player nearPlayer : Iterables
-                .filter(player.getNearbyEntities(5d, 5d, 5d), Player.class)) {
-            PlotPlayer<?> plotPlayer;
-            if ((plotPlayer = BukkitUtil.adapt(nearPlayer)) == null || !plot
-                    .equals(plotPlayer.getCurrentPlot())) {
+        for (PlotPlayer<?> plotPlayer : plot.getPlayersInPlot()) {
+            if (!isNearby(player, plotPlayer)) {
                 continue;
             }
             if (plot.isAdded(plotPlayer.getUUID())) {
@@ -44,6 +44,7 @@ import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.PlotArea;
 import com.plotsquared.core.plot.flag.implementations.DoneFlag;
 import com.plotsquared.core.plot.world.PlotAreaManager;
+import com.plotsquared.core.plot.world.PlotRasterCache;
 import net.kyori.adventure.text.minimessage.Template;
 import org.bukkit.Chunk;
 import org.bukkit.block.Block;
@@ -87,13 +88,15 @@ public class PaperListener implements Listener {
         if (!Settings.Paper_Components.ENTITY_PATHING) {
             return;
         }
-        Location toLoc = BukkitUtil.adapt(event.getLoc());
-        Location fromLoc = BukkitUtil.adapt(event.getEntity().getLocation());
-        PlotArea tarea = toLoc.getPlotArea();
+        org.bukkit.Location toLoc = event.getLoc();
+        org.bukkit.Location fromLoc = event.getEntity().getLocation();
+        String world = fromLoc.getWorld().getName();
+        PlotRasterCache rasterCache = this.plotAreaManager.getRasterCache();
+        PlotArea tarea = rasterCache.getPlotArea(world, toLoc.getBlockX(), toLoc.getBlockY(), toLoc.getBlockZ());
         if (tarea == null) {
             return;
         }
-        PlotArea farea = fromLoc.getPlotArea();
+        PlotArea farea = rasterCache.getPlotArea(world, fromLoc.getBlockX(), fromLoc.getBlockY(), fromLoc.getBlockZ());
         if (farea == null) {
             return;
         }
@@ -101,8 +104,8 @@ public class PaperListener implements Listener {
             event.setCancelled(true);
             return;
         }
-        Plot tplot = toLoc.getPlot();
-        Plot fplot = fromLoc.getPlot();
+        Plot tplot = rasterCache.getPlot(world, toLoc.getBlockX(), toLoc.getBlockY(), toLoc.getBlockZ());
+        Plot fplot = rasterCache.getPlot(world, fromLoc.getBlockX(), fromLoc.getBlockY(), fromLoc.getBlockZ());
         if (tplot == null ^ fplot == null) {
             event.setCancelled(true);
             return;
@@ -128,13 +131,15 @@ public class PaperListener implements Listener {
             return;
         }
 
-        Location toLoc = BukkitUtil.adapt(b.getLocation());
-        Location fromLoc = BukkitUtil.adapt(event.getEntity().getLocation());
-        PlotArea tarea = toLoc.getPlotArea();
+        org.bukkit.Location toLoc = b.getLocation();
+        org.bukkit.Location fromLoc = event.getEntity().getLocation();
+        String world = fromLoc.getWorld().getName();
+        PlotRasterCache rasterCache = this.plotAreaManager.getRasterCache();
+        PlotArea tarea = rasterCache.getPlotArea(world, toLoc.getBlockX(), toLoc.getBlockY(), toLoc.getBlockZ());
         if (tarea == null) {
             return;
         }
-        PlotArea farea = fromLoc.getPlotArea();
+        PlotArea farea = rasterCache.getPlotArea(world, fromLoc.getBlockX(), fromLoc.getBlockY(), fromLoc.getBlockZ());
         if (farea == null) {
             return;
         }
@@ -143,8 +148,8 @@ public class PaperListener implements Listener {
             event.setCancelled(true);
             return;
         }
-        Plot tplot = toLoc.getPlot();
-        Plot fplot = fromLoc.getPlot();
+        Plot tplot = rasterCache.getPlot(world, toLoc.getBlockX(), toLoc.getBlockY(), toLoc.getBlockZ());
+        Plot fplot = rasterCache.getPlot(world, fromLoc.getBlockX(), fromLoc.getBlockY(), fromLoc.getBlockZ());
         if (tplot == null ^ fplot == null) {
             event.setCancelled(true);
             return;
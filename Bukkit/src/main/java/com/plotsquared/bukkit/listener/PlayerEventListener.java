@@ -683,17 +683,13 @@ public class PlayerEventListener extends PlotListener implements Listener {
         Set<Player> recipients = event.getRecipients();
         recipients.clear();
         Set<PlotPlayer<?>> spies = new HashSet<>();
-        Set<PlotPlayer<?>> plotRecipients = new HashSet<>();
         for (final PlotPlayer<?> pp : PlotSquared.platform().playerManager().getPlayers()) {
             if (pp.getAttribute("chatspy")) {
                 spies.add(pp);
-            } else {
-                Plot current = pp.getCurrentPlot();
-                if (current != null && current.getBasePlot(false).equals(plot)) {
-                    plotRecipients.add(pp);
-                }
             }
         }
+        Set<PlotPlayer<?>> plotRecipients = new HashSet<>(plot.getPlayersInPlot());
+        plotRecipients.removeAll(spies);
         String message = event.getMessage();
         String sender = event.getPlayer().getDisplayName();
         PlotId id = plot.getId();
@@ -742,6 +738,8 @@ public class PlayerEventListener extends PlotListener implements Listener {
     public void onWorldChanged(PlayerChangedWorldEvent event) {
         Player player = event.getPlayer();
         BukkitPlayer pp = BukkitUtil.adapt(player);
+        // Permissions may be per world
+        pp.invalidatePermissionCache();
         // Delete last location
         Plot plot;
         try (final MetaDataAccess<Plot> lastPlotAccess =
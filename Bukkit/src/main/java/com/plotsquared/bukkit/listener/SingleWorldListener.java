@@ -83,7 +83,8 @@ public class SingleWorldListener implements Listener {
         if (!(man instanceof SinglePlotAreaManager)) {
             return;
         }
-        if (!isPlotId(name)) {
+        // Resolved once per world, see SinglePlotArea#isPlotWorld
+        if (!((SinglePlotAreaManager) man).getArea().isPlotWorld(name)) {
             return;
         }
 
@@ -100,31 +101,4 @@ public class SingleWorldListener implements Listener {
         handle(event);
     }
 
-    private boolean isPlotId(String worldName) {
-        int len = worldName.length();
-        int separator = 0;
-        for (int i = 0; i < len; i++) {
-            switch (worldName.charAt(i)) {
-                case '_':
-                    separator++;
-                    break;
-                case '-':
-                case '0':
-                case '1':
-                case '2':
-                case '3':
-                case '4':
-                case '5':
-                case '6':
-                case '7':
-                case '8':
-                case '9':
-                    break;
-                default:
-                    return false;
-            }
-        }
-        return separator == 1;
-    }
-
 }
@@ -31,11 +31,14 @@ import com.plotsquared.core.PlotSquared;
 import com.plotsquared.core.generator.GeneratorWrapper;
 import com.plotsquared.core.plot.world.PlotAreaManager;
 import com.plotsquared.core.plot.world.SinglePlotAreaManager;
+import org.bukkit.Chunk;
 import org.bukkit.World;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkUnloadEvent;
 import org.bukkit.event.world.WorldInitEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
 import org.bukkit.generator.ChunkGenerator;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
@@ -54,6 +57,7 @@ public class WorldEvents implements Listener {
         World world = event.getWorld();
         String name = world.getName();
         if (this.plotAreaManager instanceof final SinglePlotAreaManager single) {
+            single.getArea().loadWorldEntry(name);
             if (single.isWorld(name)) {
                 world.setKeepSpawnInMemory(false);
                 return;
@@ -67,4 +71,19 @@ public class WorldEvents implements Listener {
         }
     }
 
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        Chunk chunk = event.getChunk();
+        this.plotAreaManager.getRasterCache().invalidateChunk(chunk.getWorld().getName(), chunk.getX(), chunk.getZ());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        final String name = event.getWorld().getName();
+        this.plotAreaManager.getRasterCache().invalidateWorld(name);
+        if (this.plotAreaManager instanceof final SinglePlotAreaManager single) {
+            single.getArea().invalidateWorld(name);
+        }
+    }
+
 }
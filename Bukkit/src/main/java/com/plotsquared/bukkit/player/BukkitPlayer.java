@@ -164,7 +164,7 @@ public class BukkitPlayer extends PlotPlayer<Player> {
 
     @Override
     @NonNegative
-    public int hasPermissionRange(
+    protected int resolvePermissionRange(
             final @NonNull String stub,
             @NonNegative final int range
     ) {
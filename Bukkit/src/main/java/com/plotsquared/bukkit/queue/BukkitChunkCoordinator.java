@@ -29,9 +29,8 @@ import com.google.inject.Inject;
 import com.google.inject.assistedinject.Assisted;
 import com.plotsquared.bukkit.BukkitPlatform;
 import com.plotsquared.core.queue.ChunkCoordinator;
+import com.plotsquared.core.queue.ChunkCoordinatorScheduler;
 import com.plotsquared.core.queue.subscriber.ProgressSubscriber;
-import com.plotsquared.core.util.task.TaskManager;
-import com.plotsquared.core.util.task.TaskTime;
 import com.sk89q.worldedit.math.BlockVector2;
 import com.sk89q.worldedit.world.World;
 import io.papermc.lib.PaperLib;
@@ -46,6 +45,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
@@ -72,6 +72,7 @@ public final class BukkitChunkCoordinator extends ChunkCoordinator {
     private final Consumer<Throwable> throwableConsumer;
     private final boolean unloadAfter;
     private final int totalSize;
+    private final ChunkCoordinatorScheduler scheduler;
 
     private final AtomicInteger expectedSize;
     private int batchSize;
@@ -86,7 +87,8 @@ public final class BukkitChunkCoordinator extends ChunkCoordinator {
             @Assisted final @NonNull Runnable whenDone,
             @Assisted final @NonNull Consumer<Throwable> throwableConsumer,
             @Assisted final boolean unloadAfter,
-            @Assisted final @NonNull Collection<ProgressSubscriber> progressSubscribers
+            @Assisted final @NonNull Collection<ProgressSubscriber> progressSubscribers,
+            final @NonNull ChunkCoordinatorScheduler scheduler
     ) {
         this.requestedChunks = new LinkedBlockingQueue<>(requestedChunks);
         this.availableChunks = new LinkedBlockingQueue<>();
@@ -101,40 +103,57 @@ public final class BukkitChunkCoordinator extends ChunkCoordinator {
         this.plugin = JavaPlugin.getPlugin(BukkitPlatform.class);
         this.bukkitWorld = Bukkit.getWorld(world.getName());
         this.progressSubscribers.addAll(progressSubscribers);
+        this.scheduler = scheduler;
     }
 
     @Override
     public void start() {
         // Request initial batch
         this.requestBatch();
-        // Wait until next tick to give the chunks a chance to be loaded
-        TaskManager.runTaskLater(() -> TaskManager.runTaskRepeat(this, TaskTime.ticks(1)), TaskTime.ticks(1));
+        // Chunks are processed by the shared scheduler once they have been loaded
+        this.scheduler.schedule(this);
     }
 
+    /**
+     * Process loaded chunks on the calling thread for up to the coordinator's own maximum iteration time,
+     * instead of waiting for the {@link ChunkCoordinatorScheduler}
+     */
     @Override
     public void runTask() {
-        Chunk chunk = this.availableChunks.poll();
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.maxIterationTime);
+        int processedChunks = 0;
+        while (System.nanoTime() < deadline && this.processNextChunk()) {
+            processedChunks++;
+        }
+        this.finishTick(processedChunks);
+    }
+
+    @Override
+    public boolean processNextChunk() {
+        // Loaded chunks wait, and no more are requested, until the consumer has room for them
+        if (!this.isConsumerReady()) {
+            return false;
+        }
+        final Chunk chunk = this.availableChunks.poll();
         if (chunk == null) {
+            return false;
+        }
+        try {
+            this.chunkConsumer.accept(BlockVector2.at(chunk.getX(), chunk.getZ()));
+        } catch (final Throwable throwable) {
+            this.throwableConsumer.accept(throwable);
+        }
+        if (unloadAfter) {
+            this.freeChunk(chunk);
+        }
+        return true;
+    }
+
+    @Override
+    public void finishTick(final int processedChunks) {
+        if (processedChunks == 0) {
             return;
         }
-        long[] iterationTime = new long[2];
-        int processedChunks = 0;
-        do {
-            final long start = System.currentTimeMillis();
-            try {
-                this.chunkConsumer.accept(BlockVector2.at(chunk.getX(), chunk.getZ()));
-            } catch (final Throwable throwable) {
-                this.throwableConsumer.accept(throwable);
-            }
-            if (unloadAfter) {
-                this.freeChunk(chunk);
-            }
-            processedChunks++;
-            final long end = System.currentTimeMillis();
-            // Update iteration time
-            iterationTime[0] = iterationTime[1];
-            iterationTime[1] = end - start;
-        } while (iterationTime[0] + iterationTime[1] < this.maxIterationTime * 2 && (chunk = availableChunks.poll()) != null);
         if (processedChunks < this.batchSize) {
             // Adjust batch size based on the amount of processed chunks per tick
             this.batchSize = processedChunks;
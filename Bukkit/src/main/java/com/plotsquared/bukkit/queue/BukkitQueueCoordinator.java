@@ -32,6 +32,7 @@ import com.plotsquared.core.inject.factory.ChunkCoordinatorBuilderFactory;
 import com.plotsquared.core.inject.factory.ChunkCoordinatorFactory;
 import com.plotsquared.core.queue.BasicQueueCoordinator;
 import com.plotsquared.core.queue.ChunkCoordinator;
+import com.plotsquared.core.queue.LightingMode;
 import com.plotsquared.core.queue.LocalChunk;
 import com.plotsquared.core.util.ChunkUtil;
 import com.sk89q.jnbt.CompoundTag;
@@ -51,10 +52,12 @@ import com.sk89q.worldedit.world.block.BaseBlock;
 import com.sk89q.worldedit.world.block.BlockState;
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
 import org.bukkit.block.Block;
 import org.bukkit.block.Container;
 import org.bukkit.block.data.BlockData;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -142,17 +145,26 @@ public class BukkitQueueCoordinator extends BasicQueueCoordinator {
                 }
                 int sx = blockVector2.getX() << 4;
                 int sz = blockVector2.getZ() << 4;
-                for (int layer = 0; layer < localChunk.getBaseblocks().length; layer++) {
-                    BaseBlock[] blocksLayer = localChunk.getBaseblocks()[layer];
-                    if (blocksLayer == null) {
+                ChunkSnapshot snapshot = null;
+                for (int layer = 0; layer < localChunk.getLayerCount(); layer++) {
+                    if (localChunk.getBlockCount(layer) == 0) {
                         continue;
                     }
-                    for (int j = 0; j < blocksLayer.length; j++) {
-                        if (blocksLayer[j] == null) {
-                            continue;
+                    BaseBlock uniform = localChunk.getUniformBlock(layer);
+                    if (uniform != null && !uniform.hasNbtData()) {
+                        // Whole section set to one block, skip it entirely if the world already holds exactly that
+                        if (snapshot == null) {
+                            snapshot = getBukkitWorld()
+                                    .getChunkAt(blockVector2.getX(), blockVector2.getZ())
+                                    .getChunkSnapshot(false, false, false);
                         }
-                        BaseBlock block = blocksLayer[j];
-
+                        if (!isSectionFilled(snapshot, layer, uniform)) {
+                            setWorldSection(sx, layer, sz, uniform, blockVector2);
+                        }
+                        continue;
+                    }
+                    for (int j = 0; j < 4096; j++) {
+                        BaseBlock block = localChunk.getBlock(layer, j);
                         if (block != null) {
                             int x = sx + ChunkUtil.getX(j);
                             int y = ChunkUtil.getY(layer, j);
@@ -161,7 +173,7 @@ public class BukkitQueueCoordinator extends BasicQueueCoordinator {
                         }
                     }
                 }
-                for (int layer = 0; layer < localChunk.getBaseblocks().length; layer++) {
+                for (int layer = 0; layer < localChunk.getLayerCount(); layer++) {
                     BiomeType[] biomesLayer = localChunk.getBiomes()[layer];
                     if (biomesLayer == null) {
                         continue;
@@ -210,34 +222,86 @@ public class BukkitQueueCoordinator extends BasicQueueCoordinator {
                         .withThrowableConsumer(Throwable::printStackTrace)
                         .withFinalAction(getCompleteTask())
                         .withConsumer(consumer)
+                        .withConsumerReady(getChunkConsumerReady())
                         .unloadAfter(isUnloadAfter())
                         .withProgressSubscribers(getProgressSubscribers())
                         .build();
         return super.enqueue();
     }
 
+    /**
+     * Check whether a chunk section of the world consists of the given block only
+     */
+    private boolean isSectionFilled(@NonNull ChunkSnapshot snapshot, int layer, @NonNull BaseBlock block) {
+        if (block.getBlockType().getMaterial().isAir()) {
+            return snapshot.isSectionEmpty(layer);
+        }
+        if (snapshot.isSectionEmpty(layer)) {
+            return false;
+        }
+        BlockData blockData = BukkitAdapter.adapt(block);
+        int sy = layer << 4;
+        for (int y = sy; y < sy + 16; y++) {
+            for (int x = 0; x < 16; x++) {
+                for (int z = 0; z < 16; z++) {
+                    if (!blockData.equals(snapshot.getBlockData(x, y, z))) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Fill a whole 16x16x16 chunk section with a single block
+     */
+    private void setWorldSection(int sx, int layer, int sz, @NonNull BaseBlock block, @NonNull BlockVector2 blockVector2) {
+        // Only replacement lighting depends on the existing block, otherwise the side effects are the same for the section
+        SideEffectSet sideEffectSet = getLightingMode() == LightingMode.REPLACEMENT ? null : getSideEffectSet(block, null);
+        int sy = layer << 4;
+        for (int y = sy; y < sy + 16; y++) {
+            for (int x = sx; x < sx + 16; x++) {
+                for (int z = sz; z < sz + 16; z++) {
+                    setWorldBlock(x, y, z, block, blockVector2, sideEffectSet);
+                }
+            }
+        }
+    }
+
+    private @NonNull SideEffectSet getSideEffectSet(@NonNull BaseBlock block, @Nullable BlockVector3 loc) {
+        boolean lighting = false;
+        switch (getLightingMode()) {
+            case NONE:
+                break;
+            case PLACEMENT:
+                lighting = block.getBlockType().getMaterial().getLightValue() > 0;
+                break;
+            case REPLACEMENT:
+                lighting = block.getBlockType().getMaterial().getLightValue() > 0
+                        || getWorld().getBlock(loc).getBlockType().getMaterial().getLightValue() > 0;
+                break;
+            default:
+                // Can only be "all"
+                lighting = true;
+        }
+        return lighting ? lightingSideEffectSet : noSideEffectSet;
+    }
+
     /**
      * Set a block to the world. First tries WNA but defaults to normal block setting methods if that fails
      */
     private void setWorldBlock(int x, int y, int z, @NonNull BaseBlock block, @NonNull BlockVector2 blockVector2) {
+        setWorldBlock(x, y, z, block, blockVector2, null);
+    }
+
+    private void setWorldBlock(
+            int x, int y, int z, @NonNull BaseBlock block, @NonNull BlockVector2 blockVector2,
+            @Nullable SideEffectSet sideEffectSet
+    ) {
         try {
             BlockVector3 loc = BlockVector3.at(x, y, z);
-            boolean lighting = false;
-            switch (getLightingMode()) {
-                case NONE:
-                    break;
-                case PLACEMENT:
-                    lighting = block.getBlockType().getMaterial().getLightValue() > 0;
-                    break;
-                case REPLACEMENT:
-                    lighting = block.getBlockType().getMaterial().getLightValue() > 0
-                            || getWorld().getBlock(loc).getBlockType().getMaterial().getLightValue() > 0;
-                    break;
-                default:
-                    // Can only be "all"
-                    lighting = true;
-            }
-            getWorld().setBlock(loc, block, lighting ? lightingSideEffectSet : noSideEffectSet);
+            getWorld().setBlock(loc, block, sideEffectSet != null ? sideEffectSet : getSideEffectSet(block, loc));
         } catch (WorldEditException ignored) {
             // Fallback to not so nice method
             BlockData blockData = BukkitAdapter.adapt(block);
@@ -25,6 +25,7 @@
  */
 package com.plotsquared.bukkit.uuid;
 
+import com.google.common.collect.Lists;
 import com.plotsquared.core.PlotSquared;
 import com.plotsquared.core.database.SQLite;
 import com.plotsquared.core.util.FileUtils;
@@ -36,9 +37,14 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Consumer;
 
@@ -47,6 +53,11 @@ import java.util.function.Consumer;
  */
 public class SQLiteUUIDService implements UUIDService, Consumer<List<UUIDMapping>> {
 
+    /**
+     * Maximum number of values bound in a single {@code IN (...)} lookup, well below SQLite's variable limit
+     */
+    private static final int LOOKUP_CHUNK_SIZE = 500;
+
     private final SQLite sqlite;
 
     public SQLiteUUIDService(final String fileName) {
@@ -58,12 +69,30 @@ public class SQLiteUUIDService implements UUIDService, Consumer<List<UUIDMapping
             e.printStackTrace();
         }
 
+        try (Statement stmt = getConnection().createStatement()) {
+            // Readers don't block the writer (and vice versa) in write-ahead logging mode
+            stmt.execute("PRAGMA journal_mode=WAL");
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+
         try (PreparedStatement stmt = getConnection().prepareStatement(
                 "CREATE TABLE IF NOT EXISTS `usercache` (uuid VARCHAR(32) NOT NULL, username VARCHAR(32) NOT NULL, PRIMARY KEY (uuid))")) {
             stmt.execute();
         } catch (SQLException e) {
             e.printStackTrace();
         }
+
+        try (PreparedStatement stmt = getConnection().prepareStatement(
+                "CREATE INDEX IF NOT EXISTS `usercache_username` ON `usercache` (username COLLATE NOCASE)")) {
+            stmt.execute();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static @NonNull String getPlaceholders(final int amount) {
+        return String.join(", ", Collections.nCopies(amount, "?"));
     }
 
     private Connection getConnection() {
@@ -74,56 +103,101 @@ public class SQLiteUUIDService implements UUIDService, Consumer<List<UUIDMapping
 
     @Override
     public @NonNull List<UUIDMapping> getNames(final @NonNull List<UUID> uuids) {
-        final List<UUIDMapping> mappings = new ArrayList<>(uuids.size());
-        try (final PreparedStatement statement = getConnection()
-                .prepareStatement("SELECT `username` FROM `usercache` WHERE `uuid` = ?")) {
-            for (final UUID uuid : uuids) {
-                statement.setString(1, uuid.toString());
-                try (final ResultSet resultSet = statement.executeQuery()) {
-                    if (resultSet.next()) {
-                        mappings.add(new UUIDMapping(uuid, resultSet.getString("username")));
+        final Map<UUID, String> usernames = new HashMap<>();
+        synchronized (this.sqlite) {
+            try {
+                for (final List<UUID> chunk : Lists.partition(uuids, LOOKUP_CHUNK_SIZE)) {
+                    try (final PreparedStatement statement = getConnection().prepareStatement(
+                            "SELECT `uuid`, `username` FROM `usercache` WHERE `uuid` IN (" + getPlaceholders(chunk.size()) + ")")) {
+                        for (int i = 0; i < chunk.size(); i++) {
+                            statement.setString(i + 1, chunk.get(i).toString());
+                        }
+                        try (final ResultSet resultSet = statement.executeQuery()) {
+                            while (resultSet.next()) {
+                                usernames.put(UUID.fromString(resultSet.getString("uuid")), resultSet.getString("username"));
+                            }
+                        }
                     }
                 }
+            } catch (final Exception e) {
+                e.printStackTrace();
+            }
+        }
+        final List<UUIDMapping> mappings = new ArrayList<>(usernames.size());
+        for (final UUID uuid : uuids) {
+            final String username = usernames.get(uuid);
+            if (username != null) {
+                mappings.add(new UUIDMapping(uuid, username));
             }
-        } catch (final Exception e) {
-            e.printStackTrace();
         }
         return mappings;
     }
 
     @Override
     public @NonNull List<UUIDMapping> getUUIDs(@NonNull List<String> usernames) {
-        final List<UUIDMapping> mappings = new ArrayList<>(usernames.size());
-        try (final PreparedStatement statement = getConnection()
-                .prepareStatement("SELECT `uuid` FROM `usercache` WHERE `username` = ?")) {
-            for (final String username : usernames) {
-                statement.setString(1, username);
-                try (final ResultSet resultSet = statement.executeQuery()) {
-                    if (resultSet.next()) {
-                        mappings.add(new UUIDMapping(
-                                UUID.fromString(resultSet.getString("uuid")),
-                                username
-                        ));
+        final Map<String, UUIDMapping> found = new HashMap<>();
+        synchronized (this.sqlite) {
+            try {
+                for (final List<String> chunk : Lists.partition(usernames, LOOKUP_CHUNK_SIZE)) {
+                    try (final PreparedStatement statement = getConnection().prepareStatement(
+                            "SELECT `uuid`, `username` FROM `usercache` WHERE `username` COLLATE NOCASE IN ("
+                                    + getPlaceholders(chunk.size()) + ")")) {
+                        for (int i = 0; i < chunk.size(); i++) {
+                            statement.setString(i + 1, chunk.get(i));
+                        }
+                        try (final ResultSet resultSet = statement.executeQuery()) {
+                            while (resultSet.next()) {
+                                final String username = resultSet.getString("username");
+                                found.putIfAbsent(username.toLowerCase(Locale.ROOT), new UUIDMapping(
+                                        UUID.fromString(resultSet.getString("uuid")),
+                                        username
+                                ));
+                            }
+                        }
                     }
                 }
+            } catch (final Exception e) {
+                e.printStackTrace();
+            }
+        }
+        final List<UUIDMapping> mappings = new ArrayList<>(found.size());
+        for (final String username : usernames) {
+            final UUIDMapping mapping = found.get(username.toLowerCase(Locale.ROOT));
+            if (mapping != null) {
+                mappings.add(mapping);
             }
-        } catch (final Exception e) {
-            e.printStackTrace();
         }
         return mappings;
     }
 
     @Override
     public void accept(final List<UUIDMapping> uuidWrappers) {
-        try (final PreparedStatement statement = getConnection()
-                .prepareStatement("INSERT OR REPLACE INTO `usercache` (`uuid`, `username`) VALUES(?, ?)")) {
-            for (final UUIDMapping mapping : uuidWrappers) {
-                statement.setString(1, mapping.getUuid().toString());
-                statement.setString(2, mapping.getUsername());
-                statement.executeUpdate();
+        if (uuidWrappers.isEmpty()) {
+            return;
+        }
+        // Write the whole list in one transaction, rather than committing every row on its own
+        synchronized (this.sqlite) {
+            final Connection connection = getConnection();
+            try {
+                connection.setAutoCommit(false);
+                try (final PreparedStatement statement = connection
+                        .prepareStatement("INSERT OR REPLACE INTO `usercache` (`uuid`, `username`) VALUES(?, ?)")) {
+                    for (final UUIDMapping mapping : uuidWrappers) {
+                        statement.setString(1, mapping.getUuid().toString());
+                        statement.setString(2, mapping.getUsername());
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                    connection.commit();
+                } catch (final SQLException e) {
+                    connection.rollback();
+                    throw e;
+                } finally {
+                    connection.setAutoCommit(true);
+                }
+            } catch (SQLException e) {
+                e.printStackTrace();
             }
-        } catch (SQLException e) {
-            e.printStackTrace();
         }
     }
 
@@ -134,14 +208,16 @@ public class SQLiteUUIDService implements UUIDService, Consumer<List<UUIDMapping
      */
     public @NonNull List<UUIDMapping> getAll() {
         final List<UUIDMapping> mappings = new LinkedList<>();
-        try (final PreparedStatement statement = getConnection().prepareStatement("SELECT * FROM `usercache`")) {
-            try (final ResultSet resultSet = statement.executeQuery()) {
-                while (resultSet.next()) {
-                    mappings.add(new UUIDMapping(UUID.fromString(resultSet.getString("uuid")), resultSet.getString("username")));
+        synchronized (this.sqlite) {
+            try (final PreparedStatement statement = getConnection().prepareStatement("SELECT * FROM `usercache`")) {
+                try (final ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        mappings.add(new UUIDMapping(UUID.fromString(resultSet.getString("uuid")), resultSet.getString("username")));
+                    }
                 }
+            } catch (final Exception e) {
+                e.printStackTrace();
             }
-        } catch (final Exception e) {
-            e.printStackTrace();
         }
         return mappings;
     }
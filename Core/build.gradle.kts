@@ -1,5 +1,9 @@
 import java.time.format.DateTimeFormatter
 
+plugins {
+    id("me.champeau.jmh")
+}
+
 dependencies {
     // Expected everywhere.
     compileOnlyApi(libs.checkerqual)
@@ -33,6 +37,7 @@ dependencies {
     testImplementation(libs.worldeditCore)
     compileOnlyApi(libs.fastasyncworldeditBukkit)
     testImplementation(libs.fastasyncworldeditBukkit)
+    jmhImplementation(libs.worldeditCore)
 
     // Logging
     compileOnlyApi(libs.log4j)
@@ -56,3 +61,9 @@ tasks.processResources {
         )
     }
 }
+
+jmh {
+    jmhVersion.set("1.33")
+    // Reports the bytes allocated per operation next to the throughput
+    profilers.add("gc")
+}
@@ -0,0 +1,248 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *                  Copyright (C) 2021 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.queue;
+
+import com.sk89q.worldedit.world.block.BaseBlock;
+import com.sk89q.worldedit.world.block.BlockState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the palette storage of {@link LocalChunk} with the {@code BaseBlock[16][4096]} layout it replaced,
+ * for the chunk writes of a plot clear, a merge (road strip) and a schematic paste. Each operation fills one
+ * chunk and then reads every block back, as the queue does when the chunk is applied.
+ * <p>
+ * Run with {@code ./gradlew :PlotSquared-Core:jmh}. The gc profiler is enabled in the build, so
+ * {@code gc.alloc.rate.norm} reports the bytes allocated per chunk next to the throughput.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocalChunkBenchmark {
+
+    private static final int HEIGHT = 256;
+    private static final int GROUND = 64;
+    private static final int ROAD_WIDTH = 7;
+
+    /**
+     * Number of distinct blocks in the pasted schematic
+     */
+    @Param({"16", "256"})
+    public int schematicBlocks;
+
+    private BaseBlock bedrock;
+    private BaseBlock stone;
+    private BaseBlock grass;
+    private BaseBlock air;
+    private BaseBlock[] schematic;
+
+    /**
+     * Create a block that stands in for a WorldEdit block state. Resolving real states needs a running platform,
+     * and queues hand out one shared BaseBlock per state anyway, so identity based blocks behave the same way in
+     * both storages.
+     */
+    private static BaseBlock block() {
+        return new BaseBlock((BlockState) null) {
+            @Override
+            public boolean equals(final Object o) {
+                return this == o;
+            }
+
+            @Override
+            public int hashCode() {
+                return System.identityHashCode(this);
+            }
+        };
+    }
+
+    @Setup
+    public void setup() {
+        this.bedrock = block();
+        this.stone = block();
+        this.grass = block();
+        this.air = block();
+        this.schematic = new BaseBlock[this.schematicBlocks];
+        for (int i = 0; i < this.schematic.length; i++) {
+            this.schematic[i] = block();
+        }
+    }
+
+    private BaseBlock getClearBlock(final int y) {
+        if (y == 0) {
+            return this.bedrock;
+        }
+        if (y < GROUND) {
+            return this.stone;
+        }
+        return y == GROUND ? this.grass : this.air;
+    }
+
+    @Benchmark
+    public int clearPalette() {
+        final LocalChunk chunk = new LocalChunk(null, 0, 0);
+        for (int y = 0; y < HEIGHT; y++) {
+            final BaseBlock block = this.getClearBlock(y);
+            for (int x = 0; x < 16; x++) {
+                for (int z = 0; z < 16; z++) {
+                    chunk.setBlock(x, y, z, block);
+                }
+            }
+        }
+        return read(chunk);
+    }
+
+    @Benchmark
+    public int clearLegacy() {
+        final LegacyChunk chunk = new LegacyChunk();
+        for (int y = 0; y < HEIGHT; y++) {
+            final BaseBlock block = this.getClearBlock(y);
+            for (int x = 0; x < 16; x++) {
+                for (int z = 0; z < 16; z++) {
+                    chunk.setBlock(x, y, z, block);
+                }
+            }
+        }
+        return chunk.read();
+    }
+
+    @Benchmark
+    public int mergePalette() {
+        final LocalChunk chunk = new LocalChunk(null, 0, 0);
+        for (int y = 0; y < HEIGHT; y++) {
+            final BaseBlock block = this.getClearBlock(y);
+            for (int x = 0; x < ROAD_WIDTH; x++) {
+                for (int z = 0; z < 16; z++) {
+                    chunk.setBlock(x, y, z, block);
+                }
+            }
+        }
+        return read(chunk);
+    }
+
+    @Benchmark
+    public int mergeLegacy() {
+        final LegacyChunk chunk = new LegacyChunk();
+        for (int y = 0; y < HEIGHT; y++) {
+            final BaseBlock block = this.getClearBlock(y);
+            for (int x = 0; x < ROAD_WIDTH; x++) {
+                for (int z = 0; z < 16; z++) {
+                    chunk.setBlock(x, y, z, block);
+                }
+            }
+        }
+        return chunk.read();
+    }
+
+    @Benchmark
+    public int pastePalette() {
+        final LocalChunk chunk = new LocalChunk(null, 0, 0);
+        int i = 0;
+        for (int y = GROUND; y < HEIGHT; y++) {
+            for (int x = 0; x < 16; x++) {
+                for (int z = 0; z < 16; z++) {
+                    chunk.setBlock(x, y, z, this.schematic[i++ % this.schematic.length]);
+                }
+            }
+        }
+        return read(chunk);
+    }
+
+    @Benchmark
+    public int pasteLegacy() {
+        final LegacyChunk chunk = new LegacyChunk();
+        int i = 0;
+        for (int y = GROUND; y < HEIGHT; y++) {
+            for (int x = 0; x < 16; x++) {
+                for (int z = 0; z < 16; z++) {
+                    chunk.setBlock(x, y, z, this.schematic[i++ % this.schematic.length]);
+                }
+            }
+        }
+        return chunk.read();
+    }
+
+    private static int read(final LocalChunk chunk) {
+        int count = 0;
+        for (int layer = 0; layer < chunk.getLayerCount(); layer++) {
+            if (chunk.getBlockCount(layer) == 0) {
+                continue;
+            }
+            for (int j = 0; j < 4096; j++) {
+                if (chunk.getBlock(layer, j) != null) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * The block storage of LocalChunk before it used a palette
+     */
+    private static final class LegacyChunk {
+
+        private final BaseBlock[][] baseblocks = new BaseBlock[16][];
+
+        private void setBlock(final int x, final int y, final int z, final BaseBlock block) {
+            BaseBlock[] array = this.baseblocks[y >> 4];
+            if (array == null) {
+                array = this.baseblocks[y >> 4] = new BaseBlock[4096];
+            }
+            array[(y & 15) << 8 | z << 4 | x] = block;
+        }
+
+        private int read() {
+            int count = 0;
+            for (final BaseBlock[] array : this.baseblocks) {
+                if (array == null) {
+                    continue;
+                }
+                for (final BaseBlock block : array) {
+                    if (block != null) {
+                        count++;
+                    }
+                }
+            }
+            return count;
+        }
+
+    }
+
+}
@@ -31,6 +31,7 @@ import com.plotsquared.core.configuration.MemorySection;
 import com.plotsquared.core.configuration.Settings;
 import com.plotsquared.core.configuration.Storage;
 import com.plotsquared.core.configuration.caption.CaptionMap;
+import com.plotsquared.core.configuration.caption.CaptionTemplateCache;
 import com.plotsquared.core.configuration.caption.DummyCaptionMap;
 import com.plotsquared.core.configuration.caption.TranslatableCaption;
 import com.plotsquared.core.configuration.caption.load.CaptionLoader;
@@ -135,6 +136,7 @@ public class PlotSquared {
             new UUIDPipeline(Executors.newSingleThreadExecutor());
     // Localization
     private final Map<String, CaptionMap> captionMaps = new HashMap<>();
+    private final CaptionTemplateCache captionTemplateCache = new CaptionTemplateCache();
     private CaptionLoader captionLoader;
     public HashMap<String, HashMap<PlotId, Plot>> plots_tmp;
     // WorldEdit instance
@@ -271,6 +273,7 @@ public class PlotSquared {
             captionMap = this.captionLoader.loadSingle(this.platform.getDirectory().toPath().resolve("lang").resolve(fileName));
         }
         this.captionMaps.put(TranslatableCaption.DEFAULT_NAMESPACE, captionMap);
+        this.captionTemplateCache.invalidate();
         LOGGER.info(
                 "Loaded caption map for namespace 'plotsquared': {}",
                 this.captionMaps.get(TranslatableCaption.DEFAULT_NAMESPACE).getClass().getCanonicalName()
@@ -289,14 +292,26 @@ public class PlotSquared {
     public void startExpiryTasks() {
         if (Settings.Enabled_Components.PLOT_EXPIRY) {
             ExpireManager.IMP = new ExpireManager(this.eventDispatcher);
-            ExpireManager.IMP.runAutomatedTask();
+            ExpireManager.IMP.loadIndex(this.getExpiryIndexFile());
             for (Settings.Auto_Clear settings : Settings.AUTO_CLEAR.getInstances()) {
                 ExpiryTask task = new ExpiryTask(settings, this.getPlotAreaManager());
                 ExpireManager.IMP.addTask(task);
             }
+            // The tasks must be registered before the expiry candidates are collected
+            ExpireManager.IMP.runAutomatedTask();
         }
     }
 
+    /**
+     * Get the file that the last seen times of plot owners are persisted to, stored
+     * next to the plot database.
+     *
+     * @return expiry index file
+     */
+    private @NonNull File getExpiryIndexFile() {
+        return new File(this.platform.getDirectory(), "expiry-index.bin");
+    }
+
     public boolean isMainThread(final @NonNull Thread thread) {
         return this.thread == thread;
     }
@@ -1213,6 +1228,10 @@ public class PlotSquared {
             } catch (final Exception ignored) {
             }
             DBFunc.validatePlots(plots);
+            if (ExpireManager.IMP != null) {
+                ExpireManager.IMP.saveIndex();
+            }
+            HybridUtils.stopAnalysis();
 
             // Close the connection
             DBFunc.close();
@@ -1550,6 +1569,16 @@ public class PlotSquared {
             throw new IllegalArgumentException("Cannot replace default caption map");
         }
         this.captionMaps.put(namespace.toLowerCase(Locale.ENGLISH), captionMap);
+        this.captionTemplateCache.invalidate();
+    }
+
+    /**
+     * Get the cache of prepared caption messages. It is cleared whenever a caption map is loaded.
+     *
+     * @return caption template cache
+     */
+    public @NonNull CaptionTemplateCache getCaptionTemplateCache() {
+        return this.captionTemplateCache;
     }
 
     public @NonNull EventDispatcher getEventDispatcher() {
@@ -262,15 +262,35 @@ public abstract class Command {
         if (max > c.size()) {
             max = c.size();
         }
+        this.paginate(player, c.subList(page * size, max), c.size(), size, page, add, baseCommand, header);
+    }
+
+    /**
+     * Send a single page of a paginated list, when only the content of that page is known.
+     *
+     * @param player      Recipient
+     * @param content     Content of the page
+     * @param amount      Total number of entries of all pages
+     * @param size        Page size
+     * @param page        Page index, starting at 0. Must be a valid page for the amount
+     * @param add         Formats an entry, given its position in the list starting at 1
+     * @param baseCommand Command used to turn the page
+     * @param header      Page header
+     * @param <T>         Entry type
+     */
+    public <T> void paginate(
+            PlotPlayer<?> player, List<T> content, int amount, int size, int page,
+            RunnableVal3<Integer, T, CaptionHolder> add, String baseCommand, Caption header
+    ) {
+        int totalPages = (int) Math.floor((double) amount / size);
         // Send the header
         Template curTemplate = Template.of("cur", String.valueOf(page + 1));
         Template maxTemplate = Template.of("max", String.valueOf(totalPages + 1));
-        Template amountTemplate = Template.of("amount", String.valueOf(c.size()));
+        Template amountTemplate = Template.of("amount", String.valueOf(amount));
         player.sendMessage(header, curTemplate, maxTemplate, amountTemplate);
         // Send the page content
-        List<T> subList = c.subList(page * size, max);
         int i = page * size;
-        for (T obj : subList) {
+        for (T obj : content) {
             i++;
             final CaptionHolder msg = new CaptionHolder();
             add.run(i, obj, msg);
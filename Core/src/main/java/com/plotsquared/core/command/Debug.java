@@ -29,8 +29,16 @@ import com.google.inject.Inject;
 import com.plotsquared.core.PlotSquared;
 import com.plotsquared.core.configuration.caption.StaticCaption;
 import com.plotsquared.core.configuration.caption.TranslatableCaption;
+import com.plotsquared.core.database.DBFunc;
+import com.plotsquared.core.database.SQLManager;
 import com.plotsquared.core.player.PlotPlayer;
+import com.plotsquared.core.plot.Plot;
+import com.plotsquared.core.plot.PlotArea;
+import com.plotsquared.core.plot.PlotFootprint;
 import com.plotsquared.core.plot.world.PlotAreaManager;
+import com.plotsquared.core.plot.world.SinglePlotAreaManager;
+import com.plotsquared.core.plot.world.SinglePlotWorldPool;
+import com.plotsquared.core.queue.ChunkCoordinatorScheduler;
 import com.plotsquared.core.util.StringMan;
 import com.plotsquared.core.util.WorldUtil;
 import com.plotsquared.core.util.entity.EntityCategories;
@@ -44,11 +52,14 @@ import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.minimessage.Template;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -60,14 +71,17 @@ public class Debug extends SubCommand {
 
     private final PlotAreaManager plotAreaManager;
     private final WorldUtil worldUtil;
+    private final ChunkCoordinatorScheduler chunkCoordinatorScheduler;
 
     @Inject
     public Debug(
             final @NonNull PlotAreaManager plotAreaManager,
-            final @NonNull WorldUtil worldUtil
+            final @NonNull WorldUtil worldUtil,
+            final @NonNull ChunkCoordinatorScheduler chunkCoordinatorScheduler
     ) {
         this.plotAreaManager = plotAreaManager;
         this.worldUtil = worldUtil;
+        this.chunkCoordinatorScheduler = chunkCoordinatorScheduler;
     }
 
     @Override
@@ -75,7 +89,7 @@ public class Debug extends SubCommand {
         if (args.length == 0) {
             player.sendMessage(
                     TranslatableCaption.of("commandconfig.command_syntax"),
-                    Template.of("value", "/plot debug <loadedchunks | player | debug-players | entitytypes | msg>")
+                    Template.of("value", "/plot debug <loadedchunks | player | debug-players | entitytypes | database | queue | worldpool | footprint | msg>")
             );
         }
         if (args.length > 0) {
@@ -98,6 +112,57 @@ public class Debug extends SubCommand {
                             - start) + "ms) using thread: " + Thread.currentThread().getName())));
             return true;
         }
+        if (args.length > 0 && "database".equalsIgnoreCase(args[0])) {
+            if (!(DBFunc.dbManager instanceof SQLManager)) {
+                player.sendMessage(StaticCaption.of("<prefix>No SQL database is in use"));
+                return true;
+            }
+            final SQLManager sqlManager = (SQLManager) DBFunc.dbManager;
+            player.sendMessage(StaticCaption.of("<prefix>Keyed plot writes: " + sqlManager.getKeyedPlotWrites()
+                    + ", coalesced: " + sqlManager.getCoalescedPlotWrites()
+                    + ", queued plots: " + sqlManager.plotTasks.size()));
+            return true;
+        }
+        if (args.length > 0 && "queue".equalsIgnoreCase(args[0])) {
+            player.sendMessage(StaticCaption.of("<prefix>Active chunk coordinators: " + this.chunkCoordinatorScheduler.getActiveCoordinators()
+                    + ", chunks processed: " + this.chunkCoordinatorScheduler.getProcessedChunks()
+                    + ", last tick: " + this.chunkCoordinatorScheduler.getLastTickChunks() + " chunks in "
+                    + TimeUnit.NANOSECONDS.toMillis(this.chunkCoordinatorScheduler.getLastTickNanos()) + "ms (budget "
+                    + TimeUnit.NANOSECONDS.toMillis(this.chunkCoordinatorScheduler.getLastBudgetNanos()) + "ms, tick length "
+                    + TimeUnit.NANOSECONDS.toMillis(this.chunkCoordinatorScheduler.getLastTickInterval()) + "ms)"));
+            return true;
+        }
+        if (args.length > 0 && "worldpool".equalsIgnoreCase(args[0])) {
+            if (!(this.plotAreaManager instanceof SinglePlotAreaManager)) {
+                player.sendMessage(StaticCaption.of("<prefix>Claimable worlds are not enabled"));
+                return true;
+            }
+            final SinglePlotWorldPool pool = ((SinglePlotAreaManager) this.plotAreaManager).getArea().getWorldPool();
+            player.sendMessage(StaticCaption.of("<prefix>Prepared worlds: " + pool.getReady()
+                    + ", hits: " + pool.getHits() + ", misses: " + pool.getMisses()
+                    + ", idle unloads: " + pool.getUnloads()));
+            return true;
+        }
+        if (args.length > 0 && "footprint".equalsIgnoreCase(args[0])) {
+            TaskManager.runTaskAsync(() -> {
+                final List<Plot> plots = new ArrayList<>();
+                for (final PlotArea area : this.plotAreaManager.getAllPlotAreas()) {
+                    plots.addAll(area.getPlots());
+                }
+                final PlotFootprint footprint = PlotFootprint.of(plots);
+                final Runtime runtime = Runtime.getRuntime();
+                player.sendMessage(StaticCaption.of("<prefix>Plots: " + footprint.getPlots()
+                        + ", with flags: " + footprint.getFlagContainers()
+                        + " (" + footprint.getCompactedFlagContainers() + " sharing "
+                        + footprint.getSharedFlagMaps() + " flag maps)"
+                        + ", with trusted: " + footprint.getTrusted()
+                        + ", with members: " + footprint.getMembers()
+                        + ", with denied: " + footprint.getDenied()
+                        + ", merged: " + footprint.getMerged()
+                        + ", heap used: " + (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024) + "MB"));
+            });
+            return true;
+        }
         if (args.length > 0 && "uuids".equalsIgnoreCase(args[0])) {
             final Collection<UUIDMapping> mappings = PlotSquared.get().getImpromptuUUIDPipeline().getAllImmediately();
             player.sendMessage(
@@ -173,7 +238,7 @@ public class Debug extends SubCommand {
 
     @Override
     public Collection<Command> tab(final PlotPlayer<?> player, String[] args, boolean space) {
-        return Stream.of("loadedchunks", "debug-players", "entitytypes")
+        return Stream.of("loadedchunks", "debug-players", "entitytypes", "database", "queue", "worldpool", "footprint")
                 .filter(value -> value.startsWith(args[0].toLowerCase(Locale.ENGLISH)))
                 .map(value -> new Command(null, false, value, "plots.admin", RequiredType.NONE, null) {
                 }).collect(Collectors.toList());
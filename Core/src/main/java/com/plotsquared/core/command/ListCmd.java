@@ -47,6 +47,7 @@ import com.plotsquared.core.util.PlayerManager;
 import com.plotsquared.core.util.StringComparison;
 import com.plotsquared.core.util.StringMan;
 import com.plotsquared.core.util.TabCompletions;
+import com.plotsquared.core.util.query.PaginatedPlotResult;
 import com.plotsquared.core.util.query.PlotQuery;
 import com.plotsquared.core.util.query.SortingStrategy;
 import com.plotsquared.core.util.task.RunnableVal3;
@@ -182,13 +183,16 @@ public class ListCmd extends SubCommand {
                 query.withSortingStrategy(SortingStrategy.SORT_BY_CREATION);
             }
 
-            final List<Plot> plots = query.asList();
+            // Only the requested page is sorted, rather than every matching plot
+            final PaginatedPlotResult plots = query.whereBasePlot().getPaginated(12);
+            // Selecting the page counts the matching plots as well, so that they are only filtered once
+            plots.getPage(Math.max(0, page) + 1);
 
-            if (plots.isEmpty()) {
+            if (plots.getPlotCount() == 0) {
                 player.sendMessage(TranslatableCaption.of("invalid.found_no_plots"));
                 return;
             }
-            displayPlots(player, plots, 12, page, args);
+            displayPlots(player, plots, page, args);
         };
 
         switch (arg) {
@@ -319,7 +323,8 @@ public class ListCmd extends SubCommand {
                 if (this.econHandler.isSupported()) {
                     break;
                 }
-                plotConsumer.accept(PlotQuery.newQuery().allPlots().thatPasses(plot -> plot.getFlag(PriceFlag.class) > 0));
+                plotConsumer.accept(PlotQuery.newQuery().allPlots().thatPasses(plot -> plot.getFlag(PriceFlag.class) > 0)
+                        .withParallelFiltering());
             }
             case "unowned" -> {
                 if (!Permissions.hasPermission(player, Permission.PERMISSION_LIST_UNOWNED)) {
@@ -329,7 +334,8 @@ public class ListCmd extends SubCommand {
                     );
                     return false;
                 }
-                plotConsumer.accept(PlotQuery.newQuery().allPlots().thatPasses(plot -> plot.getOwner() == null));
+                plotConsumer.accept(PlotQuery.newQuery().allPlots().thatPasses(plot -> plot.getOwner() == null)
+                        .withParallelFiltering());
             }
             case "fuzzy" -> {
                 if (!Permissions.hasPermission(player, Permission.PERMISSION_LIST_FUZZY)) {
@@ -411,7 +417,36 @@ public class ListCmd extends SubCommand {
     public void displayPlots(final PlotPlayer<?> player, List<Plot> plots, int pageSize, int page, String[] args) {
         // Header
         plots.removeIf(plot -> !plot.isBasePlot());
-        this.paginate(player, plots, pageSize, page, new RunnableVal3<>() {
+        this.paginate(player, plots, pageSize, page, this.formatPlot(player), "/plot list " + args[0],
+                TranslatableCaption.of("list.plot_list_header_paged")
+        );
+    }
+
+    /**
+     * Display a page of a paginated plot query result.
+     *
+     * @param player Recipient
+     * @param plots  Plots to display
+     * @param page   Page index, starting at 0
+     * @param args   Command arguments
+     */
+    public void displayPlots(final PlotPlayer<?> player, PaginatedPlotResult plots, int page, String[] args) {
+        final int pageSize = plots.getPageSize();
+        page = Math.max(0, page);
+        // The plot count is known once a page has been selected
+        List<Plot> selected = plots.getPage(page + 1);
+        final int totalPages = plots.getPlotCount() / pageSize;
+        if (page > totalPages) {
+            page = totalPages;
+            selected = plots.getPage(page + 1);
+        }
+        this.paginate(player, selected, plots.getPlotCount(), pageSize, page, this.formatPlot(player),
+                "/plot list " + args[0], TranslatableCaption.of("list.plot_list_header_paged")
+        );
+    }
+
+    private RunnableVal3<Integer, Plot, CaptionHolder> formatPlot(final PlotPlayer<?> player) {
+        return new RunnableVal3<>() {
             @Override
             public void run(Integer i, Plot plot, CaptionHolder caption) {
                 Caption color;
@@ -491,7 +526,7 @@ public class ListCmd extends SubCommand {
                 caption.set(TranslatableCaption.of("info.plot_list_item"));
                 caption.setTemplates(command_tp, command_info, hover_info, numberTemplate, plotTemplate, players);
             }
-        }, "/plot list " + args[0], TranslatableCaption.of("list.plot_list_header_paged"));
+        };
     }
 
     @Override
@@ -511,6 +511,9 @@ public class Settings extends Config {
                 "The value covers the permission range to check, you need to assign the permission to players/groups still",
                 "Modifying the value does NOT change the amount of plots players can claim"})
         public static int MAX_PLOTS = 127;
+        @Comment({"Seconds the highest permission of such a range (e.g. plots.plot.<#>) is cached per player.",
+                "The cache is also cleared when a player changes worlds or their LuckPerms data changes. Set to 0 to disable"})
+        public static int PERMISSION_RANGE_CACHE = 30;
 
     }
 
@@ -640,15 +643,21 @@ public class Settings extends Config {
         public static boolean TILE_ENTITY_CHECK = true;
         @Comment("Use Paper's async tab completion")
         public static boolean ASYNC_TAB_COMPLETION;
+        @Comment({"Keep count of the entities in each plot as they are added to and removed from the world,",
+                "so entity caps can be checked without counting the entities in the plot"})
+        public static boolean ENTITY_COUNTS = true;
 
     }
 
     @Comment("Settings relating to PlotSquared's GlobalBlockQueue")
     public static final class QUEUE {
 
-        @Comment({"Average time per tick spent completing chunk tasks in ms.",
+        @Comment({"Average time per tick spent completing chunk tasks in ms, shared by all running queues.",
                 "Queue will adjust the batch size to match this."})
         public static int MAX_ITERATION_TIME = 30;
+        @Comment({"Minimum time per tick spent completing chunk tasks in ms.",
+                "The time above is reduced towards this while the server is behind on ticks."})
+        public static int MIN_ITERATION_TIME = 5;
         @Comment({"Initial number of chunks to process by the queue. This can be increased or",
                 "decreased by the queue based on the actual iteration time compared to above."})
         public static int INITIAL_BATCH_SIZE = 5;
@@ -668,6 +677,20 @@ public class Settings extends Config {
 
     }
 
+
+    @Comment("Settings for claimable worlds, see enabled-components.worlds")
+    public static final class Single_Worlds {
+
+        @Comment({"Number of copies of the 0_0 template world to keep prepared in the background.",
+                "Loading an unloaded plot world then only has to move a directory. Set to 0 to disable."})
+        public static int POOL_SIZE = 4;
+        @Comment("Whether plot worlds without players should be unloaded")
+        public static boolean UNLOAD_IDLE = true;
+        @Comment("Seconds a plot world without players is kept loaded before it is unloaded")
+        public static int KEEP_WARM = 60;
+
+    }
+
     @Comment("Settings related to tab completion")
     public static final class Tab_Completions {
 
@@ -56,6 +56,9 @@ public class Storage extends Config {
         @Comment("Set additional properties: https://goo.gl/wngtN8")
         public static List<String>
                 PROPERTIES = new ArrayList<>(Collections.singletonList("useSSL=false"));
+        @Comment({"Number of connections used to write plot changes in parallel",
+                " - Values of 1 or less write everything through a single connection"})
+        public static int POOL_SIZE = 1;
 
     }
 
@@ -0,0 +1,134 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *                  Copyright (C) 2021 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.configuration.caption;
+
+import com.plotsquared.core.player.PlotPlayer;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.Template;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per locale cache of caption messages that are ready to be parsed, i.e. with the chat
+ * formatters applied, the escaped characters restored and the prefix resolved. Messages
+ * sent without templates are cached as parsed components.
+ * <p>
+ * Messages are only cached while all registered {@link ChatFormatter}s are independent of
+ * the recipient, and the cache is cleared whenever caption maps are (re)loaded.
+ */
+public final class CaptionTemplateCache {
+
+    private final Map<Locale, Map<Caption, Entry>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Format a message for a recipient, without caching
+     *
+     * @param recipient message recipient
+     * @param message   raw message
+     * @return message ready to be parsed by MiniMessage
+     */
+    public static @NonNull String format(final @NonNull PlotPlayer<?> recipient, final @NonNull String message) {
+        return CaptionUtility.format(recipient, message)
+                .replace('\u2010', '%').replace('\u2020', '&').replace('\u2030', '&')
+                .replace("<prefix>", TranslatableCaption.of("core.prefix").getComponent(recipient));
+    }
+
+    private static boolean isRecipientIndependent() {
+        for (final ChatFormatter formatter : ChatFormatter.formatters) {
+            // Only formats raw output, which is not used for messages
+            if (formatter.getClass() != PlotSquaredChatFormatter.class) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the parsed component of a caption
+     *
+     * @param caption      caption
+     * @param recipient    message recipient
+     * @param replacements templates
+     * @return the component, or {@code null} if the message is empty
+     * @throws CaptionMap.NoSuchCaptionException if the caption does not exist
+     */
+    public @Nullable Component getComponent(
+            final @NonNull Caption caption,
+            final @NonNull PlotPlayer<?> recipient,
+            final @NonNull Template... replacements
+    ) {
+        if (!(caption instanceof TranslatableCaption) || !isRecipientIndependent()) {
+            final String message = caption.getComponent(recipient);
+            return message.isEmpty() ? null : MiniMessage.get().parse(format(recipient, message), replacements);
+        }
+        final Map<Caption, Entry> localeEntries = this.entries.computeIfAbsent(
+                recipient.getLocale(),
+                locale -> new ConcurrentHashMap<>()
+        );
+        Entry entry = localeEntries.get(caption);
+        if (entry == null) {
+            final String message = caption.getComponent(recipient);
+            entry = new Entry(message.isEmpty() ? message : format(recipient, message));
+            localeEntries.put(caption, entry);
+        }
+        if (entry.message.isEmpty()) {
+            return null;
+        }
+        if (replacements.length > 0) {
+            return MiniMessage.get().parse(entry.message, replacements);
+        }
+        Component component = entry.component;
+        if (component == null) {
+            entry.component = component = MiniMessage.get().parse(entry.message);
+        }
+        return component;
+    }
+
+    /**
+     * Clear all cached messages
+     */
+    public void invalidate() {
+        this.entries.clear();
+    }
+
+    private static final class Entry {
+
+        private final String message;
+        // Components are immutable, so racing parses may publish either instance
+        private volatile Component component;
+
+        private Entry(final @NonNull String message) {
+            this.message = message;
+        }
+
+    }
+
+}
@@ -69,10 +69,21 @@ public class MySQL extends Database {
 
     @Override
     public Connection forceConnection() throws SQLException {
-        this.connection = DriverManager.getConnection(
+        this.connection = createConnection();
+        return this.connection;
+    }
+
+    /**
+     * Opens a new connection with the database, independent of the
+     * connection managed by this instance.
+     *
+     * @return Opened connection
+     * @throws SQLException if the connection can not be opened
+     */
+    public Connection createConnection() throws SQLException {
+        return DriverManager.getConnection(
                 "jdbc:mysql://" + this.hostname + ':' + this.port + '/' + this.database + "?"
                         + StringMan.join(Storage.MySQL.PROPERTIES, "&"), this.user, this.password);
-        return this.connection;
     }
 
     @Override
@@ -26,6 +26,7 @@
 package com.plotsquared.core.database;
 
 import com.google.common.base.Charsets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.plotsquared.core.PlotSquared;
 import com.plotsquared.core.configuration.ConfigurationSection;
 import com.plotsquared.core.configuration.Settings;
@@ -75,16 +76,29 @@ import java.util.Map.Entry;
 import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 @SuppressWarnings("SqlDialectInspection")
 public class SQLManager implements AbstractDB {
 
     private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + SQLManager.class.getSimpleName());
+    /**
+     * Row fetch size hint used while loading the plot tables on startup.
+     */
+    private static final int LOAD_FETCH_SIZE = 1024;
 
     // Public final
     public final String SET_OWNER;
@@ -132,9 +146,22 @@ public class SQLManager implements AbstractDB {
      * cluster_settings
      */
     public volatile ConcurrentHashMap<PlotCluster, Queue<UniqueStatement>> clusterTasks;
+    /**
+     * Number of keyed plot writes that have been queued, and the number of
+     * those that were dropped in favour of a newer write
+     */
+    private final AtomicLong keyedPlotWrites = new AtomicLong();
+    private final AtomicLong coalescedPlotWrites = new AtomicLong();
+    /**
+     * Pooled connections used to flush plot tasks in parallel (MySQL only)
+     */
+    private final BlockingQueue<Connection> pooledConnections;
+    private final ThreadLocal<Connection> pooledConnection = new ThreadLocal<>();
+    private final ExecutorService plotTaskExecutor;
     // Private
     private Connection connection;
-    private boolean closed = false;
+    private volatile boolean closed = false;
+    private boolean hasNewTasks = false;
 
     /**
      * Constructor
@@ -164,6 +191,19 @@ public class SQLManager implements AbstractDB {
         this.plotTasks = new ConcurrentHashMap<>();
         this.playerTasks = new ConcurrentHashMap<>();
         this.clusterTasks = new ConcurrentHashMap<>();
+        if (this.mySQL && Storage.MySQL.POOL_SIZE > 1) {
+            this.pooledConnections = new ArrayBlockingQueue<>(Storage.MySQL.POOL_SIZE);
+            for (int i = 0; i < Storage.MySQL.POOL_SIZE; i++) {
+                this.pooledConnections.add(((MySQL) database).createConnection());
+            }
+            this.plotTaskExecutor = Executors.newFixedThreadPool(
+                    Storage.MySQL.POOL_SIZE,
+                    new ThreadFactoryBuilder().setNameFormat("PlotSquared SQL Worker #%d").setDaemon(true).build()
+            );
+        } else {
+            this.pooledConnections = null;
+            this.plotTaskExecutor = null;
+        }
         this.prefix = prefix;
         this.SET_OWNER = "UPDATE `" + this.prefix
                 + "plot` SET `owner` = ? WHERE `plot_id_x` = ? AND `plot_id_z` = ? AND `world` = ?";
@@ -214,22 +254,67 @@ public class SQLManager implements AbstractDB {
                                 }
                                 getNotifyTasks().clear();
                             }
-                            Thread.sleep(50);
+                            awaitTasks(50);
                         } catch (InterruptedException e) {
                             e.printStackTrace();
                         }
                     }
                 } else {
                     try {
-                        Thread.sleep(1000);
+                        awaitTasks(1000);
                     } catch (InterruptedException e) {
                         e.printStackTrace();
                     }
                 }
             }
+            closePool();
         });
     }
 
+    /**
+     * Wait until a task is queued, or the timeout has passed.
+     *
+     * @param timeout maximum time to wait, in milliseconds
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    private synchronized void awaitTasks(final long timeout) throws InterruptedException {
+        if (!this.hasNewTasks && !this.closed) {
+            this.wait(timeout);
+        }
+        this.hasNewTasks = false;
+    }
+
+    /**
+     * Wake up the task loop. Must be called while holding the lock of this manager.
+     */
+    private void signalTasks() {
+        this.hasNewTasks = true;
+        this.notifyAll();
+    }
+
+    private void closePool() {
+        if (this.plotTaskExecutor == null) {
+            return;
+        }
+        this.plotTaskExecutor.shutdown();
+        try {
+            // Let workers that are still flushing plot tasks commit before their connections are closed
+            if (!this.plotTaskExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+                LOGGER.warn("Timed out waiting for pooled database writes to finish");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Connection pooled;
+        while ((pooled = this.pooledConnections.poll()) != null) {
+            try {
+                pooled.close();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
     public boolean isValid() {
         try {
             if (connection.isClosed()) {
@@ -264,6 +349,25 @@ public class SQLManager implements AbstractDB {
         return this.notifyTasks;
     }
 
+    /**
+     * Get the number of plot writes that have been queued with a key.
+     *
+     * @return number of keyed writes
+     */
+    public long getKeyedPlotWrites() {
+        return this.keyedPlotWrites.get();
+    }
+
+    /**
+     * Get the number of keyed plot writes that were dropped because a newer
+     * write for the same plot and key was queued before they were sent.
+     *
+     * @return number of coalesced writes
+     */
+    public long getCoalescedPlotWrites() {
+        return this.coalescedPlotWrites.get();
+    }
+
     public synchronized void addPlotTask(@NonNull Plot plot, UniqueStatement task) {
         Queue<UniqueStatement> tasks = this.plotTasks.get(plot);
         if (tasks == null) {
@@ -293,6 +397,15 @@ public class SQLManager implements AbstractDB {
             };
         }
         tasks.add(task);
+        if (task.key != null) {
+            this.keyedPlotWrites.incrementAndGet();
+            final UniqueStatement latest = task;
+            // Add before removing, so that the queue never appears empty to the task loop
+            if (tasks.removeIf(pending -> pending != latest && latest.key.equals(pending.key))) {
+                this.coalescedPlotWrites.incrementAndGet();
+            }
+        }
+        signalTasks();
     }
 
     public synchronized void addPlayerTask(UUID uuid, UniqueStatement task) {
@@ -327,6 +440,7 @@ public class SQLManager implements AbstractDB {
             };
         }
         tasks.add(task);
+        signalTasks();
     }
 
     public synchronized void addClusterTask(PlotCluster cluster, UniqueStatement task) {
@@ -358,10 +472,12 @@ public class SQLManager implements AbstractDB {
             };
         }
         tasks.add(task);
+        signalTasks();
     }
 
     public synchronized void addGlobalTask(Runnable task) {
         getGlobalTasks().add(task);
+        signalTasks();
     }
 
     public synchronized void addNotifyTask(Runnable task) {
@@ -373,8 +489,8 @@ public class SQLManager implements AbstractDB {
     public boolean sendBatch() {
         try {
             if (!getGlobalTasks().isEmpty()) {
-                if (this.connection.getAutoCommit()) {
-                    this.connection.setAutoCommit(false);
+                if (this.getConnection().getAutoCommit()) {
+                    this.getConnection().setAutoCommit(false);
                 }
                 Runnable task = getGlobalTasks().remove();
                 if (task != null) {
@@ -394,65 +510,19 @@ public class SQLManager implements AbstractDB {
             }
             int count = -1;
             if (!this.plotTasks.isEmpty()) {
-                count = 0;
-                if (this.connection.getAutoCommit()) {
-                    this.connection.setAutoCommit(false);
-                }
-                String method = null;
-                PreparedStatement statement = null;
-                UniqueStatement task = null;
-                UniqueStatement lastTask = null;
-                Iterator<Entry<Plot, Queue<UniqueStatement>>> iterator =
-                        this.plotTasks.entrySet().iterator();
-                while (iterator.hasNext()) {
-                    try {
-                        Entry<Plot, Queue<UniqueStatement>> entry = iterator.next();
-                        Plot plot = entry.getKey();
-                        Queue<UniqueStatement> tasks = entry.getValue();
-                        if (tasks.isEmpty()) {
-                            iterator.remove();
-                            continue;
-                        }
-                        task = tasks.remove();
-                        count++;
-                        if (task != null) {
-                            if (task.method == null || !task.method.equals(method)
-                                    || statement == null) {
-                                if (statement != null) {
-                                    lastTask.execute(statement);
-                                    statement.close();
-                                }
-                                method = task.method;
-                                statement = task.get();
-                            }
-                            task.set(statement);
-                            task.addBatch(statement);
-                            try {
-                                if (statement.isClosed()) {
-                                    statement = null;
-                                }
-                            } catch (NullPointerException | AbstractMethodError ignore) {
-                            }
-                        }
-                        lastTask = task;
-                    } catch (Throwable e) {
-                        LOGGER.error("============ DATABASE ERROR ============");
-                        LOGGER.error("There was an error updating the database.");
-                        LOGGER.error(" - It will be corrected on shutdown");
-                        LOGGER.error("========================================");
-                        e.printStackTrace();
-                        LOGGER.error("========================================");
+                if (this.plotTaskExecutor != null && this.plotTasks.size() > 1) {
+                    count = sendPlotTasksPooled();
+                } else {
+                    if (this.getConnection().getAutoCommit()) {
+                        this.getConnection().setAutoCommit(false);
                     }
-                }
-                if (statement != null && task != null) {
-                    task.execute(statement);
-                    statement.close();
+                    count = sendPlotTasks(this.plotTasks.entrySet());
                 }
             }
             if (!this.playerTasks.isEmpty()) {
                 count = 0;
-                if (this.connection.getAutoCommit()) {
-                    this.connection.setAutoCommit(false);
+                if (this.getConnection().getAutoCommit()) {
+                    this.getConnection().setAutoCommit(false);
                 }
                 String method = null;
                 PreparedStatement statement = null;
@@ -496,8 +566,8 @@ public class SQLManager implements AbstractDB {
             }
             if (!this.clusterTasks.isEmpty()) {
                 count = 0;
-                if (this.connection.getAutoCommit()) {
-                    this.connection.setAutoCommit(false);
+                if (this.getConnection().getAutoCommit()) {
+                    this.getConnection().setAutoCommit(false);
                 }
                 String method = null;
                 PreparedStatement statement = null;
@@ -545,8 +615,8 @@ public class SQLManager implements AbstractDB {
                 return true;
             }
             if (count != -1) {
-                if (!this.connection.getAutoCommit()) {
-                    this.connection.setAutoCommit(true);
+                if (!this.getConnection().getAutoCommit()) {
+                    this.getConnection().setAutoCommit(true);
                 }
             }
             if (!this.clusterTasks.isEmpty()) {
@@ -566,8 +636,136 @@ public class SQLManager implements AbstractDB {
         return false;
     }
 
+    /**
+     * Send the next task of each of the given plots.
+     *
+     * @param entries plot task queues
+     * @return the number of tasks that were sent
+     * @throws SQLException if the last batch could not be executed
+     */
+    private int sendPlotTasks(final Collection<Entry<Plot, Queue<UniqueStatement>>> entries) throws SQLException {
+        int count = 0;
+        String method = null;
+        PreparedStatement statement = null;
+        UniqueStatement task = null;
+        UniqueStatement lastTask = null;
+        for (final Entry<Plot, Queue<UniqueStatement>> entry : entries) {
+            try {
+                Plot plot = entry.getKey();
+                Queue<UniqueStatement> tasks = entry.getValue();
+                if (tasks.isEmpty()) {
+                    this.plotTasks.remove(plot, tasks);
+                    continue;
+                }
+                task = tasks.remove();
+                count++;
+                if (task != null) {
+                    if (task.method == null || !task.method.equals(method)
+                            || statement == null) {
+                        if (statement != null) {
+                            lastTask.execute(statement);
+                            statement.close();
+                        }
+                        method = task.method;
+                        statement = task.get();
+                    }
+                    task.set(statement);
+                    task.addBatch(statement);
+                    try {
+                        if (statement.isClosed()) {
+                            statement = null;
+                        }
+                    } catch (NullPointerException | AbstractMethodError ignore) {
+                    }
+                }
+                lastTask = task;
+            } catch (Throwable e) {
+                LOGGER.error("============ DATABASE ERROR ============");
+                LOGGER.error("There was an error updating the database.");
+                LOGGER.error(" - It will be corrected on shutdown");
+                LOGGER.error("========================================");
+                e.printStackTrace();
+                LOGGER.error("========================================");
+            }
+        }
+        if (statement != null && task != null) {
+            task.execute(statement);
+            statement.close();
+        }
+        return count;
+    }
+
+    /**
+     * Split the plot task queues between the pooled connections and send
+     * the next task of each plot in parallel. Every plot is handled by a
+     * single connection, so the tasks of a plot are still executed in order.
+     *
+     * @return the number of tasks that were sent
+     * @throws InterruptedException if the thread is interrupted while waiting for the workers
+     */
+    private int sendPlotTasksPooled() throws InterruptedException {
+        final int poolSize = Storage.MySQL.POOL_SIZE;
+        final List<List<Entry<Plot, Queue<UniqueStatement>>>> partitions = new ArrayList<>(poolSize);
+        for (int i = 0; i < poolSize; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        int index = 0;
+        for (final Entry<Plot, Queue<UniqueStatement>> entry : this.plotTasks.entrySet()) {
+            partitions.get(index++ % poolSize).add(entry);
+        }
+        final List<Callable<Integer>> workers = new ArrayList<>(poolSize);
+        for (final List<Entry<Plot, Queue<UniqueStatement>>> partition : partitions) {
+            if (!partition.isEmpty()) {
+                workers.add(() -> sendPooledPlotTasks(partition));
+            }
+        }
+        int count = 0;
+        for (final Future<Integer> result : this.plotTaskExecutor.invokeAll(workers)) {
+            try {
+                count += result.get();
+            } catch (ExecutionException e) {
+                LOGGER.error("============ DATABASE ERROR ============");
+                LOGGER.error("There was an error updating the database.");
+                LOGGER.error(" - It will be corrected on shutdown");
+                LOGGER.error("========================================");
+                e.getCause().printStackTrace();
+                LOGGER.error("========================================");
+            }
+        }
+        return count;
+    }
+
+    private int sendPooledPlotTasks(final Collection<Entry<Plot, Queue<UniqueStatement>>> entries)
+            throws SQLException, InterruptedException {
+        Connection pooled = this.pooledConnections.take();
+        try {
+            if (!pooled.isValid(5)) {
+                pooled.close();
+                pooled = ((MySQL) this.database).createConnection();
+            }
+            this.pooledConnection.set(pooled);
+            if (pooled.getAutoCommit()) {
+                pooled.setAutoCommit(false);
+            }
+            final int count = sendPlotTasks(entries);
+            commit();
+            return count;
+        } finally {
+            this.pooledConnection.remove();
+            this.pooledConnections.add(pooled);
+        }
+    }
+
+    /**
+     * Get the connection used by the current thread. Threads flushing
+     * plot tasks in pooled mode use their own connection, all other
+     * threads share the main connection.
+     *
+     * @return Connection
+     */
     public Connection getConnection() {
-        return this.connection;
+        final Connection pooled = this.pooledConnection.get();
+        return pooled != null ? pooled : this.connection;
     }
 
     /**
@@ -589,7 +787,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(SQLManager.this.SET_OWNER);
+                return SQLManager.this.getConnection().prepareStatement(SQLManager.this.SET_OWNER);
             }
         });
     }
@@ -614,7 +812,7 @@ public class SQLManager implements AbstractDB {
                         final ArrayList<UUIDPair> denied = new ArrayList<>();
 
                         // Populating structures
-                        try (PreparedStatement stmt = SQLManager.this.connection
+                        try (PreparedStatement stmt = SQLManager.this.getConnection()
                                 .prepareStatement(SQLManager.this.GET_ALL_PLOTS);
                              ResultSet result = stmt.executeQuery()) {
                             while (result.next()) {
@@ -645,7 +843,7 @@ public class SQLManager implements AbstractDB {
                                         () -> createTiers(trusted, "trusted",
                                                 () -> createTiers(denied, "denied", () -> {
                                                     try {
-                                                        SQLManager.this.connection.commit();
+                                                        SQLManager.this.getConnection().commit();
                                                     } catch (SQLException e) {
                                                         e.printStackTrace();
                                                     }
@@ -659,7 +857,7 @@ public class SQLManager implements AbstractDB {
                     } catch (SQLException e) {
                         LOGGER.warn("Failed to set all flags and member tiers for plots", e);
                         try {
-                            SQLManager.this.connection.commit();
+                            SQLManager.this.getConnection().commit();
                         } catch (SQLException e1) {
                             e1.printStackTrace();
                         }
@@ -668,7 +866,7 @@ public class SQLManager implements AbstractDB {
             } catch (Exception e) {
                 LOGGER.warn("Warning! Failed to set all helper for plots", e);
                 try {
-                    SQLManager.this.connection.commit();
+                    SQLManager.this.getConnection().commit();
                 } catch (SQLException e1) {
                     e1.printStackTrace();
                 }
@@ -729,7 +927,7 @@ public class SQLManager implements AbstractDB {
     }
 
     public void createFlags(Map<PlotId, Integer> ids, List<Plot> plots, Runnable whenDone) {
-        try (final PreparedStatement preparedStatement = this.connection.prepareStatement(
+        try (final PreparedStatement preparedStatement = this.getConnection().prepareStatement(
                 "INSERT INTO `" + SQLManager.this.prefix
                         + "plot_flags`(`plot_id`, `flag`, `value`) VALUES(?, ?, ?)")) {
             for (final Plot plot : plots) {
@@ -854,13 +1052,13 @@ public class SQLManager implements AbstractDB {
                 if (last == -1) {
                     last = subList.size();
                     statement = mod.getCreateMySQL(subList.size());
-                    preparedStmt = this.connection.prepareStatement(statement);
+                    preparedStmt = this.getConnection().prepareStatement(statement);
                 }
                 if (subList.size() != last || count % 5000 == 0 && count > 0) {
                     preparedStmt.executeBatch();
                     preparedStmt.close();
                     statement = mod.getCreateMySQL(subList.size());
-                    preparedStmt = this.connection.prepareStatement(statement);
+                    preparedStmt = this.getConnection().prepareStatement(statement);
                 }
                 for (int i = 0; i < subList.size(); i++) {
                     count++;
@@ -896,13 +1094,13 @@ public class SQLManager implements AbstractDB {
                 if (last == -1) {
                     last = subList.size();
                     statement = mod.getCreateSQLite(subList.size());
-                    preparedStmt = this.connection.prepareStatement(statement);
+                    preparedStmt = this.getConnection().prepareStatement(statement);
                 }
                 if (subList.size() != last || count % 5000 == 0 && count > 0) {
                     preparedStmt.executeBatch();
                     preparedStmt.clearParameters();
                     statement = mod.getCreateSQLite(subList.size());
-                    preparedStmt = this.connection.prepareStatement(statement);
+                    preparedStmt = this.getConnection().prepareStatement(statement);
                 }
                 for (int i = 0; i < subList.size(); i++) {
                     count++;
@@ -919,7 +1117,7 @@ public class SQLManager implements AbstractDB {
             e.printStackTrace();
             LOGGER.error("2: | {}", objList.get(0).getClass().getCanonicalName());
             LOGGER.error("Could not bulk save!");
-            try (PreparedStatement preparedStmt = this.connection
+            try (PreparedStatement preparedStmt = this.getConnection()
                     .prepareStatement(mod.getCreateSQL())) {
                 for (T obj : objList) {
                     mod.setSQL(preparedStmt, obj);
@@ -937,7 +1135,7 @@ public class SQLManager implements AbstractDB {
     }
 
     public void createSettings(final ArrayList<LegacySettings> myList, final Runnable whenDone) {
-        try (final PreparedStatement preparedStatement = this.connection.prepareStatement(
+        try (final PreparedStatement preparedStatement = this.getConnection().prepareStatement(
                 "INSERT INTO `" + SQLManager.this.prefix + "plot_settings`"
                         + "(`plot_plot_id`,`biome`,`rain`,`custom_time`,`time`,`deny_entry`,`alias`,`merged`,`position`) VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
 
@@ -1065,7 +1263,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         SQLManager.this.CREATE_PLOT_SAFE,
                         Statement.RETURN_GENERATED_KEYS
                 );
@@ -1093,7 +1291,7 @@ public class SQLManager implements AbstractDB {
 
                                 @Override
                                 public PreparedStatement get() throws SQLException {
-                                    return SQLManager.this.connection.prepareStatement(
+                                    return SQLManager.this.getConnection().prepareStatement(
                                             "INSERT INTO `" + SQLManager.this.prefix
                                                     + "plot_settings`(`plot_plot_id`) VALUES(?)");
                                 }
@@ -1113,13 +1311,14 @@ public class SQLManager implements AbstractDB {
     }
 
     public void commit() {
-        if (this.closed) {
+        // Pooled connections stay open until the pool has been drained, so work in flight on them is still committed
+        if (this.closed && this.pooledConnection.get() == null) {
             return;
         }
         try {
-            if (!this.connection.getAutoCommit()) {
-                this.connection.commit();
-                this.connection.setAutoCommit(true);
+            if (!this.getConnection().getAutoCommit()) {
+                this.getConnection().commit();
+                this.getConnection().setAutoCommit(true);
             }
         } catch (SQLException e) {
             e.printStackTrace();
@@ -1140,7 +1339,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection
+                return SQLManager.this.getConnection()
                         .prepareStatement(SQLManager.this.CREATE_PLOT, Statement.RETURN_GENERATED_KEYS);
             }
 
@@ -1166,7 +1365,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "INSERT INTO `" + SQLManager.this.prefix
                                 + "plot_settings`(`plot_plot_id`) VALUES(?)");
             }
@@ -1184,7 +1383,7 @@ public class SQLManager implements AbstractDB {
         String[] tables =
                 new String[]{"plot", "plot_denied", "plot_helpers", "plot_comments", "plot_trusted",
                         "plot_rating", "plot_settings", "cluster", "player_meta", "plot_flags"};
-        DatabaseMetaData meta = this.connection.getMetaData();
+        DatabaseMetaData meta = this.getConnection().getMetaData();
         int create = 0;
         for (String s : tables) {
             ResultSet set = meta.getTables(null, null, this.prefix + s, new String[]{"TABLE"});
@@ -1198,7 +1397,7 @@ public class SQLManager implements AbstractDB {
             return;
         }
         boolean addConstraint = create == tables.length;
-        try (Statement stmt = this.connection.createStatement()) {
+        try (Statement stmt = this.getConnection().createStatement()) {
             if (this.mySQL) {
                 stmt.addBatch("CREATE TABLE IF NOT EXISTS `" + this.prefix + "plot` ("
                         + "`id` INT(11) NOT NULL AUTO_INCREMENT," + "`plot_id_x` INT(11) NOT NULL,"
@@ -1344,7 +1543,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_settings` WHERE `plot_plot_id` = ?");
             }
@@ -1364,7 +1563,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_helpers` WHERE `plot_plot_id` = ?");
             }
@@ -1384,7 +1583,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_trusted` WHERE `plot_plot_id` = ?");
             }
@@ -1404,7 +1603,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_denied` WHERE `plot_plot_id` = ?");
             }
@@ -1422,7 +1621,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_comments` WHERE `world` = ? AND `hashcode` = ?");
             }
@@ -1442,7 +1641,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_rating` WHERE `plot_plot_id` = ?");
             }
@@ -1470,7 +1669,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix + "plot` WHERE `id` = ?");
             }
         });
@@ -1492,7 +1691,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "INSERT INTO `" + SQLManager.this.prefix
                                 + "plot_settings`(`plot_plot_id`) VALUES(?)");
             }
@@ -1510,7 +1709,7 @@ public class SQLManager implements AbstractDB {
                 return cluster.temp;
             }
             int c_id;
-            try (PreparedStatement stmt = this.connection.prepareStatement(
+            try (PreparedStatement stmt = this.getConnection().prepareStatement(
                     "SELECT `id` FROM `" + this.prefix
                             + "cluster` WHERE `pos1_x` = ? AND `pos1_z` = ? AND `pos2_x` = ? AND `pos2_z` = ? AND `world` = ? ORDER BY `timestamp` ASC")) {
                 stmt.setInt(1, cluster.getP1().getX());
@@ -1550,7 +1749,7 @@ public class SQLManager implements AbstractDB {
                 return plot.temp;
             }
             int id;
-            try (PreparedStatement statement = this.connection.prepareStatement(
+            try (PreparedStatement statement = this.getConnection().prepareStatement(
                     "SELECT `id` FROM `" + this.prefix
                             + "plot` WHERE `plot_id_x` = ? AND `plot_id_z` = ? AND world = ? ORDER BY `timestamp` ASC")) {
                 statement.setInt(1, plot.getId().getX());
@@ -1581,13 +1780,13 @@ public class SQLManager implements AbstractDB {
     public void updateTables(int[] oldVersion) {
         try {
             if (this.mySQL && !PlotSquared.get().checkVersion(oldVersion, 3, 3, 2)) {
-                try (Statement stmt = this.connection.createStatement()) {
+                try (Statement stmt = this.getConnection().createStatement()) {
                     stmt.executeUpdate(
                             "ALTER TABLE `" + this.prefix + "plots` DROP INDEX `unique_alias`");
                 } catch (SQLException ignored) {
                 }
             }
-            DatabaseMetaData data = this.connection.getMetaData();
+            DatabaseMetaData data = this.getConnection().getMetaData();
             ResultSet rs =
                     data.getColumns(null, null, this.prefix + "plot_comments", "plot_plot_id");
             if (rs.next()) {
@@ -1595,7 +1794,7 @@ public class SQLManager implements AbstractDB {
                 rs = data.getColumns(null, null, this.prefix + "plot_comments", "hashcode");
                 if (!rs.next()) {
                     rs.close();
-                    try (Statement statement = this.connection.createStatement()) {
+                    try (Statement statement = this.getConnection().createStatement()) {
                         statement.addBatch("DROP TABLE `" + this.prefix + "plot_comments`");
                         if (Storage.MySQL.USE) {
                             statement.addBatch(
@@ -1616,7 +1815,7 @@ public class SQLManager implements AbstractDB {
                         }
                         statement.executeBatch();
                     } catch (SQLException ignored) {
-                        try (Statement statement = this.connection.createStatement()) {
+                        try (Statement statement = this.getConnection().createStatement()) {
                             statement.addBatch("ALTER IGNORE TABLE `" + this.prefix
                                     + "plot_comments` ADD `inbox` VARCHAR(11) DEFAULT `public`");
                             statement.addBatch("ALTER IGNORE TABLE `" + this.prefix
@@ -1630,7 +1829,7 @@ public class SQLManager implements AbstractDB {
             rs.close();
             rs = data.getColumns(null, null, this.prefix + "plot_denied", "plot_plot_id");
             if (rs.next()) {
-                try (Statement statement = this.connection.createStatement()) {
+                try (Statement statement = this.getConnection().createStatement()) {
                     statement.executeUpdate("DELETE FROM `" + this.prefix
                             + "plot_denied` WHERE `plot_plot_id` NOT IN (SELECT `id` FROM `"
                             + this.prefix + "plot`)");
@@ -1639,7 +1838,7 @@ public class SQLManager implements AbstractDB {
                 }
 
                 rs.close();
-                try (Statement statement = this.connection.createStatement()) {
+                try (Statement statement = this.getConnection().createStatement()) {
                     for (String table : new String[]{"plot_denied", "plot_helpers",
                             "plot_trusted"}) {
                         ResultSet result = statement.executeQuery(
@@ -1711,7 +1910,7 @@ public class SQLManager implements AbstractDB {
     @Override
     public boolean convertFlags() {
         final Map<Integer, Map<String, String>> flagMap = new HashMap<>();
-        try (Statement statement = this.connection.createStatement()) {
+        try (Statement statement = this.getConnection().createStatement()) {
             try (ResultSet resultSet = statement
                     .executeQuery("SELECT * FROM `" + this.prefix + "plot_settings`")) {
                 while (resultSet.next()) {
@@ -1741,7 +1940,7 @@ public class SQLManager implements AbstractDB {
         }
         LOGGER.info("Loaded {} plot flag collections...", flagMap.size());
         LOGGER.info("Attempting to store these flags in the new table...");
-        try (final PreparedStatement preparedStatement = this.connection.prepareStatement(
+        try (final PreparedStatement preparedStatement = this.getConnection().prepareStatement(
                 "INSERT INTO `" + SQLManager.this.prefix
                         + "plot_flags`(`plot_id`, `flag`, `value`) VALUES(?, ?, ?)")) {
 
@@ -1820,13 +2019,14 @@ public class SQLManager implements AbstractDB {
                     }
                 }
             }
-            HashMap<String, UUID> uuids = new HashMap<>();
+            Map<String, UUID> uuids = new ConcurrentHashMap<>();
             HashMap<String, AtomicInteger> noExist = new HashMap<>();
 
             /*
              * Getting plots
              */
-            try (Statement statement = this.connection.createStatement()) {
+            try (Statement statement = this.getConnection().createStatement()) {
+                statement.setFetchSize(LOAD_FETCH_SIZE);
                 int id;
                 String o;
                 UUID user;
@@ -1916,15 +2116,24 @@ public class SQLManager implements AbstractDB {
                     }
                     deleteRows(toDelete, this.prefix + "plot", "id");
                 }
-                if (Settings.Enabled_Components.RATING_CACHE) {
+            }
+
+            /*
+             * Getting ratings, helpers, trusted, denied, flags and settings. Every table only
+             * touches its own part of a plot, so they may be read side by side (see loadTables)
+             */
+            final Map<String, TableLoader> loaders = new LinkedHashMap<>();
+            final Set<Integer> withSettings = ConcurrentHashMap.newKeySet();
+            if (Settings.Enabled_Components.RATING_CACHE) {
+                loaders.put("plot_rating", statement -> {
                     try (ResultSet r = statement.executeQuery(
                             "SELECT `plot_plot_id`, `player`, `rating` FROM `" + this.prefix
                                     + "plot_rating`")) {
                         ArrayList<Integer> toDelete = new ArrayList<>();
                         while (r.next()) {
-                            id = r.getInt("plot_plot_id");
-                            o = r.getString("player");
-                            user = uuids.get(o);
+                            int id = r.getInt("plot_plot_id");
+                            String o = r.getString("player");
+                            UUID user = uuids.get(o);
                             if (user == null) {
                                 user = UUID.fromString(o);
                                 uuids.put(o, user);
@@ -1941,18 +2150,20 @@ public class SQLManager implements AbstractDB {
                         }
                         deleteRows(toDelete, this.prefix + "plot_rating", "plot_plot_id");
                     }
-                }
+                });
+            }
 
-                /*
-                 * Getting helpers
-                 */
+            /*
+             * Getting helpers
+             */
+            loaders.put("plot_helpers", statement -> {
                 try (ResultSet r = statement.executeQuery(
                         "SELECT `user_uuid`, `plot_plot_id` FROM `" + this.prefix + "plot_helpers`")) {
                     ArrayList<Integer> toDelete = new ArrayList<>();
                     while (r.next()) {
-                        id = r.getInt("plot_plot_id");
-                        o = r.getString("user_uuid");
-                        user = uuids.get(o);
+                        int id = r.getInt("plot_plot_id");
+                        String o = r.getString("user_uuid");
+                        UUID user = uuids.get(o);
                         if (user == null) {
                             user = UUID.fromString(o);
                             uuids.put(o, user);
@@ -1969,17 +2180,19 @@ public class SQLManager implements AbstractDB {
                     }
                     deleteRows(toDelete, this.prefix + "plot_helpers", "plot_plot_id");
                 }
+            });
 
-                /*
-                 * Getting trusted
-                 */
+            /*
+             * Getting trusted
+             */
+            loaders.put("plot_trusted", statement -> {
                 try (ResultSet r = statement.executeQuery(
                         "SELECT `user_uuid`, `plot_plot_id` FROM `" + this.prefix + "plot_trusted`")) {
                     ArrayList<Integer> toDelete = new ArrayList<>();
                     while (r.next()) {
-                        id = r.getInt("plot_plot_id");
-                        o = r.getString("user_uuid");
-                        user = uuids.get(o);
+                        int id = r.getInt("plot_plot_id");
+                        String o = r.getString("user_uuid");
+                        UUID user = uuids.get(o);
                         if (user == null) {
                             user = UUID.fromString(o);
                             uuids.put(o, user);
@@ -1996,17 +2209,19 @@ public class SQLManager implements AbstractDB {
                     }
                     deleteRows(toDelete, this.prefix + "plot_trusted", "plot_plot_id");
                 }
+            });
 
-                /*
-                 * Getting denied
-                 */
+            /*
+             * Getting denied
+             */
+            loaders.put("plot_denied", statement -> {
                 try (ResultSet r = statement.executeQuery(
                         "SELECT `user_uuid`, `plot_plot_id` FROM `" + this.prefix + "plot_denied`")) {
                     ArrayList<Integer> toDelete = new ArrayList<>();
                     while (r.next()) {
-                        id = r.getInt("plot_plot_id");
-                        o = r.getString("user_uuid");
-                        user = uuids.get(o);
+                        int id = r.getInt("plot_plot_id");
+                        String o = r.getString("user_uuid");
+                        UUID user = uuids.get(o);
                         if (user == null) {
                             user = UUID.fromString(o);
                             uuids.put(o, user);
@@ -2023,19 +2238,21 @@ public class SQLManager implements AbstractDB {
                     }
                     deleteRows(toDelete, this.prefix + "plot_denied", "plot_plot_id");
                 }
+            });
 
+            loaders.put("plot_flags", statement -> {
                 try (final ResultSet resultSet = statement
                         .executeQuery("SELECT * FROM `" + this.prefix + "plot_flags`")) {
-                    BlockTypeListFlag.skipCategoryVerification =
-                            true; // allow invalid tags, as initialized lazily
                     final ArrayList<Integer> toDelete = new ArrayList<>();
                     final Map<Plot, Collection<PlotFlag<?, ?>>> invalidFlags = new HashMap<>();
+                    final Set<Plot> flagged = new HashSet<>();
                     while (resultSet.next()) {
-                        id = resultSet.getInt("plot_id");
+                        final int id = resultSet.getInt("plot_id");
                         final String flag = resultSet.getString("flag");
                         final String value = resultSet.getString("value");
                         final Plot plot = plots.get(id);
                         if (plot != null) {
+                            flagged.add(plot);
                             final PlotFlag<?, ?> plotFlag =
                                     GlobalFlagContainer.getInstance().getFlagFromString(flag);
                             if (plotFlag == null) {
@@ -2062,8 +2279,6 @@ public class SQLManager implements AbstractDB {
                                     + " Create this plot or set `database-purger: true` in settings.yml", id, plot);
                         }
                     }
-                    BlockTypeListFlag.skipCategoryVerification =
-                            false; // don't allow invalid tags anymore
                     if (Settings.Enabled_Components.DATABASE_PURGER) {
                         for (final Map.Entry<Plot, Collection<PlotFlag<?, ?>>> plotFlagEntry : invalidFlags
                                 .entrySet()) {
@@ -2076,17 +2291,23 @@ public class SQLManager implements AbstractDB {
                             }
                         }
                     }
+                    // Many plots share the same flags, let them share a single flag map until modified
+                    for (final Plot plot : flagged) {
+                        plot.getFlagContainer().compact();
+                    }
                     deleteRows(toDelete, this.prefix + "plot_flags", "plot_id");
                 }
+            });
 
+            loaders.put("plot_settings", statement -> {
                 try (ResultSet resultSet = statement
                         .executeQuery("SELECT * FROM `" + this.prefix + "plot_settings`")) {
                     ArrayList<Integer> toDelete = new ArrayList<>();
                     while (resultSet.next()) {
-                        id = resultSet.getInt("plot_plot_id");
+                        int id = resultSet.getInt("plot_plot_id");
                         Plot plot = plots.get(id);
                         if (plot != null) {
-                            plots.remove(id);
+                            withSettings.add(id);
                             String alias = resultSet.getString("alias");
                             if (alias != null) {
                                 plot.getSettings().setAlias(alias);
@@ -2119,7 +2340,15 @@ public class SQLManager implements AbstractDB {
                     }
                     deleteRows(toDelete, this.prefix + "plot_settings", "plot_plot_id");
                 }
+            });
+
+            BlockTypeListFlag.skipCategoryVerification = true; // allow invalid tags, as initialized lazily
+            try {
+                loadTables(loaders);
+            } finally {
+                BlockTypeListFlag.skipCategoryVerification = false; // don't allow invalid tags anymore
             }
+            plots.keySet().removeAll(withSettings);
             if (!plots.entrySet().isEmpty()) {
                 createEmptySettings(new ArrayList<>(plots.keySet()), null);
                 for (Entry<Integer, Plot> entry : plots.entrySet()) {
@@ -2145,10 +2374,87 @@ public class SQLManager implements AbstractDB {
         return newPlots;
     }
 
+    /**
+     * Run the given table loaders. With a MySQL connection pool every table is read on its own
+     * pooled connection, otherwise the tables are read one after another on the main connection.
+     *
+     * @param loaders Loaders keyed by the (unprefixed) table they read
+     * @throws SQLException if any of the tables could not be read
+     */
+    private void loadTables(final Map<String, TableLoader> loaders) throws SQLException {
+        final long start = System.nanoTime();
+        if (this.plotTaskExecutor == null) {
+            for (final Entry<String, TableLoader> entry : loaders.entrySet()) {
+                try (Statement statement = this.getConnection().createStatement()) {
+                    loadTable(entry.getKey(), entry.getValue(), statement);
+                }
+            }
+        } else {
+            final List<Callable<Void>> workers = new ArrayList<>(loaders.size());
+            for (final Entry<String, TableLoader> entry : loaders.entrySet()) {
+                workers.add(() -> {
+                    loadPooledTable(entry.getKey(), entry.getValue());
+                    return null;
+                });
+            }
+            try {
+                for (final Future<Void> result : this.plotTaskExecutor.invokeAll(workers)) {
+                    try {
+                        result.get();
+                    } catch (ExecutionException e) {
+                        if (e.getCause() instanceof SQLException) {
+                            throw (SQLException) e.getCause();
+                        }
+                        throw new SQLException(e.getCause());
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while loading plot tables", e);
+            }
+        }
+        if (Settings.DEBUG) {
+            LOGGER.info("Loaded {} plot tables in {}ms", loaders.size(),
+                    (System.nanoTime() - start) / 1_000_000L
+            );
+        }
+    }
+
+    private void loadPooledTable(final String table, final TableLoader loader)
+            throws SQLException, InterruptedException {
+        Connection pooled = this.pooledConnections.take();
+        try {
+            if (!pooled.isValid(5)) {
+                pooled.close();
+                pooled = ((MySQL) this.database).createConnection();
+            }
+            this.pooledConnection.set(pooled);
+            try (Statement statement = pooled.createStatement()) {
+                loadTable(table, loader, statement);
+            }
+            if (!pooled.getAutoCommit()) {
+                pooled.commit();
+            }
+        } finally {
+            this.pooledConnection.remove();
+            this.pooledConnections.add(pooled);
+        }
+    }
+
+    private void loadTable(final String table, final TableLoader loader, final Statement statement)
+            throws SQLException {
+        final long start = System.nanoTime();
+        statement.setFetchSize(LOAD_FETCH_SIZE);
+        loader.load(statement);
+        if (Settings.DEBUG) {
+            LOGGER.info("Loaded `{}{}` in {}ms", this.prefix, table, (System.nanoTime() - start) / 1_000_000L);
+        }
+    }
+
     @Override
     public void setMerged(final Plot plot, final boolean[] merged) {
         plot.getSettings().setMerged(merged);
-        addPlotTask(plot, new UniqueStatement("setMerged") {
+        addPlotTask(plot, new UniqueStatement("setMerged", "merged") {
             @Override
             public void set(PreparedStatement statement) throws SQLException {
                 int hash = HashUtil.hash(merged);
@@ -2158,7 +2464,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "UPDATE `" + SQLManager.this.prefix
                                 + "plot_settings` SET `merged` = ? WHERE `plot_plot_id` = ?");
             }
@@ -2173,7 +2479,7 @@ public class SQLManager implements AbstractDB {
             final int id2 = getId(plot2);
             final PlotId pos1 = plot1.getId();
             final PlotId pos2 = plot2.getId();
-            try (final PreparedStatement preparedStatement = this.connection.prepareStatement(
+            try (final PreparedStatement preparedStatement = this.getConnection().prepareStatement(
                     "UPDATE `" + SQLManager.this.prefix
                             + "plot` SET `plot_id_x` = ?, `plot_id_z` = ? WHERE `id` = ?")) {
                 preparedStatement.setInt(1, pos1.getX());
@@ -2208,7 +2514,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "UPDATE `" + SQLManager.this.prefix
                                 + "plot` SET `plot_id_x` = ?, `plot_id_z` = ?, `world` = ? WHERE `id` = ?");
             }
@@ -2218,7 +2524,7 @@ public class SQLManager implements AbstractDB {
 
     @Override
     public void setFlag(final Plot plot, final PlotFlag<?, ?> flag) {
-        addPlotTask(plot, new UniqueStatement("setFlag") {
+        addPlotTask(plot, new UniqueStatement("setFlag", "flag_" + flag.getName()) {
             @Override
             public void set(PreparedStatement statement) throws SQLException {
                 statement.setInt(1, getId(plot));
@@ -2239,14 +2545,14 @@ public class SQLManager implements AbstractDB {
                             + "plot_flags`(`plot_id`, `flag`, `value`) VALUES(?, ?, ?) "
                             + "ON CONFLICT(`plot_id`,`flag`) DO UPDATE SET `value` = ?";
                 }
-                return SQLManager.this.connection.prepareStatement(statement);
+                return SQLManager.this.getConnection().prepareStatement(statement);
             }
         });
     }
 
     @Override
     public void removeFlag(final Plot plot, final PlotFlag<?, ?> flag) {
-        addPlotTask(plot, new UniqueStatement("removeFlag") {
+        addPlotTask(plot, new UniqueStatement("removeFlag", "flag_" + flag.getName()) {
             @Override
             public void set(PreparedStatement statement) throws SQLException {
                 statement.setInt(1, getId(plot));
@@ -2255,7 +2561,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_flags` WHERE `plot_id` = ? AND `flag` = ?");
             }
@@ -2264,7 +2570,7 @@ public class SQLManager implements AbstractDB {
 
     @Override
     public void setAlias(final Plot plot, final String alias) {
-        addPlotTask(plot, new UniqueStatement("setAlias") {
+        addPlotTask(plot, new UniqueStatement("setAlias", "alias") {
             @Override
             public void set(PreparedStatement statement) throws SQLException {
                 statement.setString(1, alias);
@@ -2273,7 +2579,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "UPDATE `" + SQLManager.this.prefix
                                 + "plot_settings` SET `alias` = ?  WHERE `plot_plot_id` = ?");
             }
@@ -2312,27 +2618,27 @@ public class SQLManager implements AbstractDB {
                             idstr.append(stmt_prefix).append(id);
                             stmt_prefix = " OR `plot_plot_id` = ";
                         }
-                        PreparedStatement stmt = SQLManager.this.connection.prepareStatement(
+                        PreparedStatement stmt = SQLManager.this.getConnection().prepareStatement(
                                 "DELETE FROM `" + SQLManager.this.prefix
                                         + "plot_helpers` WHERE `plot_plot_id` = " + idstr);
                         stmt.executeUpdate();
                         stmt.close();
-                        stmt = SQLManager.this.connection.prepareStatement(
+                        stmt = SQLManager.this.getConnection().prepareStatement(
                                 "DELETE FROM `" + SQLManager.this.prefix
                                         + "plot_denied` WHERE `plot_plot_id` = " + idstr);
                         stmt.executeUpdate();
                         stmt.close();
-                        stmt = SQLManager.this.connection.prepareStatement(
+                        stmt = SQLManager.this.getConnection().prepareStatement(
                                 "DELETE FROM `" + SQLManager.this.prefix
                                         + "plot_settings` WHERE `plot_plot_id` = " + idstr);
                         stmt.executeUpdate();
                         stmt.close();
-                        stmt = SQLManager.this.connection.prepareStatement(
+                        stmt = SQLManager.this.getConnection().prepareStatement(
                                 "DELETE FROM `" + SQLManager.this.prefix
                                         + "plot_trusted` WHERE `plot_plot_id` = " + idstr);
                         stmt.executeUpdate();
                         stmt.close();
-                        stmt = SQLManager.this.connection.prepareStatement(
+                        stmt = SQLManager.this.getConnection().prepareStatement(
                                 "DELETE FROM `" + SQLManager.this.prefix + "plot` WHERE `id` = "
                                         + idstr2);
                         stmt.executeUpdate();
@@ -2351,7 +2657,7 @@ public class SQLManager implements AbstractDB {
     @Override
     public void purge(final PlotArea area, final Set<PlotId> plots) {
         addGlobalTask(() -> {
-            try (PreparedStatement stmt = SQLManager.this.connection.prepareStatement(
+            try (PreparedStatement stmt = SQLManager.this.getConnection().prepareStatement(
                     "SELECT `id`, `plot_id_x`, `plot_id_z` FROM `" + SQLManager.this.prefix
                             + "plot` WHERE `world` = ?")) {
                 stmt.setString(1, area.toString());
@@ -2381,7 +2687,7 @@ public class SQLManager implements AbstractDB {
 
     @Override
     public void setPosition(final Plot plot, final String position) {
-        addPlotTask(plot, new UniqueStatement("setPosition") {
+        addPlotTask(plot, new UniqueStatement("setPosition", "position") {
             @Override
             public void set(PreparedStatement statement) throws SQLException {
                 statement.setString(1, position == null ? "" : position);
@@ -2390,7 +2696,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "UPDATE `" + SQLManager.this.prefix
                                 + "plot_settings` SET `position` = ?  WHERE `plot_plot_id` = ?");
             }
@@ -2418,11 +2724,11 @@ public class SQLManager implements AbstractDB {
             @Override
             public PreparedStatement get() throws SQLException {
                 if (plot != null) {
-                    return SQLManager.this.connection.prepareStatement(
+                    return SQLManager.this.getConnection().prepareStatement(
                             "DELETE FROM `" + SQLManager.this.prefix
                                     + "plot_comments` WHERE `world` = ? AND `hashcode` = ? AND `comment` = ? AND `inbox` = ? AND `sender` = ?");
                 }
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_comments` WHERE `comment` = ? AND `inbox` = ? AND `sender` = ?");
             }
@@ -2446,11 +2752,11 @@ public class SQLManager implements AbstractDB {
             @Override
             public PreparedStatement get() throws SQLException {
                 if (plot != null) {
-                    return SQLManager.this.connection.prepareStatement(
+                    return SQLManager.this.getConnection().prepareStatement(
                             "DELETE FROM `" + SQLManager.this.prefix
                                     + "plot_comments` WHERE `world` = ? AND `hashcode` = ? AND `inbox` = ?");
                 }
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix + "plot_comments` `inbox` = ?");
             }
         });
@@ -2476,11 +2782,11 @@ public class SQLManager implements AbstractDB {
             @Override
             public PreparedStatement get() throws SQLException {
                 if (plot != null) {
-                    return SQLManager.this.connection.prepareStatement(
+                    return SQLManager.this.getConnection().prepareStatement(
                             "SELECT * FROM `" + SQLManager.this.prefix
                                     + "plot_comments` WHERE `world` = ? AND `hashcode` = ? AND `inbox` = ?");
                 }
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "SELECT * FROM `" + SQLManager.this.prefix
                                 + "plot_comments` WHERE `inbox` = ?");
             }
@@ -2531,7 +2837,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "INSERT INTO `" + SQLManager.this.prefix
                                 + "plot_comments` (`world`, `hashcode`, `comment`, `inbox`, `timestamp`, `sender`) VALUES(?,?,?,?,?,?)");
             }
@@ -2549,7 +2855,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_helpers` WHERE `plot_plot_id` = ? AND `user_uuid` = ?");
             }
@@ -2567,7 +2873,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_trusted` WHERE `plot_plot_id` = ? AND `user_uuid` = ?");
             }
@@ -2585,7 +2891,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "INSERT INTO `" + SQLManager.this.prefix
                                 + "plot_helpers` (`plot_plot_id`, `user_uuid`) VALUES(?,?)");
             }
@@ -2603,7 +2909,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "INSERT INTO `" + SQLManager.this.prefix
                                 + "plot_trusted` (`plot_plot_id`, `user_uuid`) VALUES(?,?)");
             }
@@ -2621,7 +2927,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_denied` WHERE `plot_plot_id` = ? AND `user_uuid` = ?");
             }
@@ -2639,7 +2945,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "INSERT INTO `" + SQLManager.this.prefix
                                 + "plot_denied` (`plot_plot_id`, `user_uuid`) VALUES(?,?)");
             }
@@ -2649,7 +2955,7 @@ public class SQLManager implements AbstractDB {
     @Override
     public HashMap<UUID, Integer> getRatings(Plot plot) {
         HashMap<UUID, Integer> map = new HashMap<>();
-        try (PreparedStatement statement = this.connection.prepareStatement(
+        try (PreparedStatement statement = this.getConnection().prepareStatement(
                 "SELECT `rating`, `player` FROM `" + this.prefix
                         + "plot_rating` WHERE `plot_plot_id` = ? ")) {
             statement.setInt(1, getId(plot));
@@ -2679,7 +2985,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "INSERT INTO `" + SQLManager.this.prefix
                                 + "plot_rating` (`plot_plot_id`, `rating`, `player`) VALUES(?,?,?)");
             }
@@ -2697,7 +3003,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "cluster_settings` WHERE `cluster_id` = ?");
             }
@@ -2710,7 +3016,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "cluster_helpers` WHERE `cluster_id` = ?");
             }
@@ -2723,7 +3029,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "cluster_invited` WHERE `cluster_id` = ?");
             }
@@ -2736,7 +3042,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix + "cluster` WHERE `id` = ?");
             }
         });
@@ -2764,11 +3070,11 @@ public class SQLManager implements AbstractDB {
             @Override
             public PreparedStatement get() throws SQLException {
                 if (replace) {
-                    return SQLManager.this.connection.prepareStatement(
+                    return SQLManager.this.getConnection().prepareStatement(
                             "UPDATE `" + SQLManager.this.prefix
                                     + "player_meta` SET `value` = ? WHERE `uuid` = ? AND `key` = ?");
                 } else {
-                    return SQLManager.this.connection.prepareStatement(
+                    return SQLManager.this.getConnection().prepareStatement(
                             "INSERT INTO `" + SQLManager.this.prefix
                                     + "player_meta`(`uuid`, `key`, `value`) VALUES(?, ? ,?)");
                 }
@@ -2787,7 +3093,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "player_meta` WHERE `uuid` = ? AND `key` = ?");
             }
@@ -2804,7 +3110,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "SELECT * FROM `" + SQLManager.this.prefix
                                 + "player_meta` WHERE `uuid` = ? ORDER BY `meta_id` ASC");
             }
@@ -2861,7 +3167,7 @@ public class SQLManager implements AbstractDB {
             /*
              * Getting clusters
              */
-            try (Statement stmt = this.connection.createStatement()) {
+            try (Statement stmt = this.getConnection().createStatement()) {
                 ResultSet resultSet =
                         stmt.executeQuery("SELECT * FROM `" + this.prefix + "cluster`");
                 PlotCluster cluster;
@@ -2991,7 +3297,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "UPDATE `" + SQLManager.this.prefix
                                 + "cluster_settings` SET `alias` = ?  WHERE `cluster_id` = ?");
             }
@@ -3010,7 +3316,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "cluster_helpers` WHERE `cluster_id` = ? AND `user_uuid` = ?");
             }
@@ -3028,7 +3334,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "INSERT INTO `" + SQLManager.this.prefix
                                 + "cluster_helpers` (`cluster_id`, `user_uuid`) VALUES(?,?)");
             }
@@ -3050,7 +3356,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         SQLManager.this.CREATE_CLUSTER,
                         Statement.RETURN_GENERATED_KEYS
                 );
@@ -3081,7 +3387,7 @@ public class SQLManager implements AbstractDB {
 
                     @Override
                     public PreparedStatement get() throws SQLException {
-                        return SQLManager.this.connection.prepareStatement(
+                        return SQLManager.this.getConnection().prepareStatement(
                                 "INSERT INTO `" + SQLManager.this.prefix
                                         + "cluster_settings`(`cluster_id`, `alias`) VALUES(?, ?)");
                     }
@@ -3108,7 +3414,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "UPDATE `" + SQLManager.this.prefix
                                 + "cluster` SET `pos1_x` = ?, `pos1_z` = ?, `pos2_x` = ?, `pos2_z` = ?  WHERE `id` = ?");
             }
@@ -3126,7 +3432,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "UPDATE `" + SQLManager.this.prefix
                                 + "cluster_settings` SET `position` = ?  WHERE `cluster_id` = ?");
             }
@@ -3144,7 +3450,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "cluster_invited` WHERE `cluster_id` = ? AND `user_uuid` = ?");
             }
@@ -3162,7 +3468,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.getConnection().prepareStatement(
                         "INSERT INTO `" + SQLManager.this.prefix
                                 + "cluster_invited` (`cluster_id`, `user_uuid`) VALUES(?,?)");
             }
@@ -3171,8 +3477,8 @@ public class SQLManager implements AbstractDB {
 
     @Override
     public boolean deleteTables() {
-        try (Statement stmt = this.connection.createStatement();
-             PreparedStatement statement = this.connection
+        try (Statement stmt = this.getConnection().createStatement();
+             PreparedStatement statement = this.getConnection()
                      .prepareStatement("DROP TABLE `" + this.prefix + "plot`")) {
             close();
             this.closed = false;
@@ -3210,8 +3516,8 @@ public class SQLManager implements AbstractDB {
             }
         }
         try {
-            if (this.connection.getAutoCommit()) {
-                this.connection.setAutoCommit(false);
+            if (this.getConnection().getAutoCommit()) {
+                this.getConnection().setAutoCommit(false);
             }
         } catch (SQLException e) {
             e.printStackTrace();
@@ -3329,7 +3635,7 @@ public class SQLManager implements AbstractDB {
     ) {
         addGlobalTask(() -> {
             if (min == null) {
-                try (PreparedStatement stmt = SQLManager.this.connection.prepareStatement(
+                try (PreparedStatement stmt = SQLManager.this.getConnection().prepareStatement(
                         "UPDATE `" + SQLManager.this.prefix
                                 + "plot` SET `world` = ? WHERE `world` = ?")) {
                     stmt.setString(1, newWorld);
@@ -3338,7 +3644,7 @@ public class SQLManager implements AbstractDB {
                 } catch (SQLException e) {
                     e.printStackTrace();
                 }
-                try (PreparedStatement stmt = SQLManager.this.connection.prepareStatement(
+                try (PreparedStatement stmt = SQLManager.this.getConnection().prepareStatement(
                         "UPDATE `" + SQLManager.this.prefix
                                 + "cluster` SET `world` = ? WHERE `world` = ?")) {
                     stmt.setString(1, newWorld);
@@ -3348,7 +3654,7 @@ public class SQLManager implements AbstractDB {
                     e.printStackTrace();
                 }
             } else {
-                try (PreparedStatement stmt = SQLManager.this.connection.prepareStatement(
+                try (PreparedStatement stmt = SQLManager.this.getConnection().prepareStatement(
                         "UPDATE `" + SQLManager.this.prefix
                                 + "plot` SET `world` = ? WHERE `world` = ? AND `plot_id_x` BETWEEN ? AND ? AND `plot_id_z` BETWEEN ? AND ?")) {
                     stmt.setString(1, newWorld);
@@ -3361,7 +3667,7 @@ public class SQLManager implements AbstractDB {
                 } catch (SQLException e) {
                     e.printStackTrace();
                 }
-                try (PreparedStatement stmt = SQLManager.this.connection.prepareStatement(
+                try (PreparedStatement stmt = SQLManager.this.getConnection().prepareStatement(
                         "UPDATE `" + SQLManager.this.prefix
                                 + "cluster` SET `world` = ? WHERE `world` = ? AND `pos1_x` <= ? AND `pos1_z` <= ? AND `pos2_x` >= ? AND `pos2_z` >= ?")) {
                     stmt.setString(1, newWorld);
@@ -3381,7 +3687,7 @@ public class SQLManager implements AbstractDB {
     @Override
     public void replaceUUID(final UUID old, final UUID now) {
         addGlobalTask(() -> {
-            try (Statement stmt = SQLManager.this.connection.createStatement()) {
+            try (Statement stmt = SQLManager.this.getConnection().createStatement()) {
                 stmt.executeUpdate(
                         "UPDATE `" + SQLManager.this.prefix + "cluster` SET `owner` = '" + now
                                 .toString() + "' WHERE `owner` = '" + old.toString() + '\'');
@@ -3417,6 +3723,19 @@ public class SQLManager implements AbstractDB {
         } catch (SQLException e) {
             e.printStackTrace();
         }
+        synchronized (this) {
+            this.notifyAll();
+        }
+    }
+
+    /**
+     * Reads a single plot table into the plots that were loaded from the plot table.
+     */
+    @FunctionalInterface
+    private interface TableLoader {
+
+        void load(Statement statement) throws SQLException;
+
     }
 
     private static class LegacySettings {
@@ -3434,9 +3753,20 @@ public class SQLManager implements AbstractDB {
     public abstract static class UniqueStatement {
 
         public final String method;
+        /**
+         * Key of the value written by this statement, or null. A queued plot
+         * statement is dropped when a newer statement with the same key is
+         * queued for the same plot.
+         */
+        public final String key;
 
         public UniqueStatement(String method) {
+            this(method, null);
+        }
+
+        public UniqueStatement(String method, String key) {
             this.method = method;
+            this.key = key;
         }
 
         public void addBatch(PreparedStatement statement) throws SQLException {
@@ -41,7 +41,6 @@ import com.plotsquared.core.plot.flag.GlobalFlagContainer;
 import com.plotsquared.core.plot.flag.PlotFlag;
 import com.plotsquared.core.plot.flag.implementations.AnalysisFlag;
 import com.plotsquared.core.plot.world.PlotAreaManager;
-import com.plotsquared.core.queue.ChunkQueueCoordinator;
 import com.plotsquared.core.queue.GlobalBlockQueue;
 import com.plotsquared.core.queue.QueueCoordinator;
 import com.plotsquared.core.util.ChunkManager;
@@ -54,14 +53,12 @@ import com.plotsquared.core.util.task.RunnableVal;
 import com.plotsquared.core.util.task.TaskManager;
 import com.plotsquared.core.util.task.TaskTime;
 import com.sk89q.worldedit.math.BlockVector2;
-import com.sk89q.worldedit.math.BlockVector3;
 import com.sk89q.worldedit.regions.CuboidRegion;
 import com.sk89q.worldedit.world.biome.BiomeType;
 import com.sk89q.worldedit.world.block.BaseBlock;
 import com.sk89q.worldedit.world.block.BlockState;
-import com.sk89q.worldedit.world.block.BlockType;
-import com.sk89q.worldedit.world.block.BlockTypes;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -69,13 +66,17 @@ import java.io.File;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 public class HybridUtils {
 
@@ -109,191 +110,155 @@ public class HybridUtils {
         this.schematicHandler = schematicHandler;
     }
 
+    /**
+     * Stop the threads analysing plots, discarding analyses that have not finished yet.
+     * This is called when the plugin is disabled.
+     */
+    public static void stopAnalysis() {
+        RegionAnalyzer.shutdown();
+    }
+
     public void regeneratePlotWalls(final PlotArea area) {
         PlotManager plotManager = area.getPlotManager();
         plotManager.regenerateAllPlotWalls(null);
     }
 
+    /**
+     * Analyze the contents of a region in a {@link HybridPlotWorld} compared to the generated
+     * terrain. The region is read chunk by chunk, and the chunks are analysed concurrently on
+     * a shared pool while the rest of the region is being read.
+     *
+     * @param world    world name
+     * @param region   region to analyze
+     * @param whenDone task to run with the analysis, called from an analysis thread
+     */
     public void analyzeRegion(final String world, final CuboidRegion region, final RunnableVal<PlotAnalysis> whenDone) {
+        analyzeRegion(world, region, whenDone, null);
+    }
+
+    /**
+     * Analyze the contents of a region, see {@link #analyzeRegion(String, CuboidRegion, RunnableVal)}.
+     *
+     * @param world      world name
+     * @param region     region to analyze
+     * @param whenDone   task to run with the analysis, called from an analysis thread
+     * @param whenFailed task to run instead if the region could not be analyzed
+     */
+    public void analyzeRegion(
+            final String world, final CuboidRegion region, final RunnableVal<PlotAnalysis> whenDone,
+            final @Nullable Runnable whenFailed
+    ) {
         // int diff, int variety, int vertices, int rotation, int height_sd
         /*
          * diff: compare to base by looping through all blocks
-         * variety: add to HashSet for each BlockState
-         * height_sd: loop over all blocks and get top block
+         * variety: count the distinct block types in each column
          *
-         * vertices: store air map and compare with neighbours
+         * vertices: store an air map and compare with neighbours
          * for each block check the adjacent
-         *  - Store all blocks then go through in second loop
-         *  - recheck each block
-         *
+         *  - done once all chunks have been read, as neighbours may be in another chunk
          */
-        TaskManager.runTaskAsync(() -> {
-            final BlockVector3 bot = region.getMinimumPoint();
-            final BlockVector3 top = region.getMaximumPoint();
-
-            final int bx = bot.getX();
-            final int bz = bot.getZ();
-            final int tx = top.getX();
-            final int tz = top.getZ();
-            final int cbx = bx >> 4;
-            final int cbz = bz >> 4;
-            final int ctx = tx >> 4;
-            final int ctz = tz >> 4;
-            final int width = tx - bx + 1;
-            final int length = tz - bz + 1;
-
-            final PlotArea area = this.plotAreaManager.getPlotArea(world, null);
-
-            if (!(area instanceof HybridPlotWorld hpw)) {
+        final PlotArea area = this.plotAreaManager.getPlotArea(world, null);
+        if (!(area instanceof HybridPlotWorld hpw)) {
+            if (whenFailed != null) {
+                whenFailed.run();
+            }
+            return;
+        }
+        final RegionAnalyzer analyzer = new RegionAnalyzer(hpw, region);
+        final QueueCoordinator queue = area.getQueue();
+        queue.addReadChunks(region.getChunks());
+        queue.setChunkConsumer(chunk -> analyzer.readChunk(queue, chunk));
+        queue.setChunkConsumerReady(analyzer::isReady);
+        queue.setCompleteTask(() -> analyzer.complete().whenComplete((analysis, throwable) -> {
+            if (throwable != null) {
+                LOGGER.error("Failed to analyze region {} in world {}", region, world, throwable);
+                if (whenFailed != null) {
+                    whenFailed.run();
+                }
                 return;
             }
+            whenDone.value = analysis;
+            whenDone.run();
+        }));
+        queue.enqueue();
+    }
 
-            ChunkQueueCoordinator chunk = new ChunkQueueCoordinator(bot, top, false);
-            hpw.getGenerator().generateChunk(chunk, hpw);
-
-            final BlockState[][][] oldBlocks = chunk.getBlocks();
-            final BlockState[][][] newBlocks = new BlockState[256][width][length];
-            final BlockState airBlock = BlockTypes.AIR.getDefaultState();
-
-            System.gc();
-            System.gc();
-
-            QueueCoordinator queue = area.getQueue();
-            queue.addReadChunks(region.getChunks());
-            queue.setChunkConsumer(blockVector2 -> {
-                int X = blockVector2.getX();
-                int Z = blockVector2.getZ();
-                int minX;
-                if (X == cbx) {
-                    minX = bx & 15;
-                } else {
-                    minX = 0;
-                }
-                int minZ;
-                if (Z == cbz) {
-                    minZ = bz & 15;
-                } else {
-                    minZ = 0;
-                }
-                int maxX;
-                if (X == ctx) {
-                    maxX = tx & 15;
-                } else {
-                    maxX = 16;
-                }
-                int maxZ;
-                if (Z == ctz) {
-                    maxZ = tz & 15;
-                } else {
-                    maxZ = 16;
+    /**
+     * Analyze many plots concurrently (see {@link #analyzePlot(Plot, RunnableVal)}). Analyses are
+     * started as long as their estimated memory use fits into an eighth of the maximum heap, so
+     * that large batches do not need more memory than a few plots at a time.
+     *
+     * @param plots        plots to analyze
+     * @param whenAnalyzed task to run once for every plot, after it has been analyzed or failed to be analyzed
+     * @param whenDone     task to run once all plots have been analyzed, called from an async thread
+     */
+    public void analyzePlots(
+            final @NonNull Collection<Plot> plots, final @NonNull Consumer<Plot> whenAnalyzed,
+            final @NonNull Runnable whenDone
+    ) {
+        TaskManager.runTaskAsync(() -> {
+            final int budget = (int) Math.min(Integer.MAX_VALUE, Math.max(1, Runtime.getRuntime().maxMemory() / 8 / 1024));
+            final Semaphore memory = new Semaphore(budget);
+            final CountDownLatch remaining = new CountDownLatch(plots.size());
+            for (final Plot plot : plots) {
+                long bytes = 0;
+                for (final CuboidRegion region : plot.getRegions()) {
+                    // Regions of a plot are analysed one after another
+                    bytes = Math.max(bytes, RegionAnalyzer.estimateMemory(region));
                 }
-
-                int chunkBlockX = X << 4;
-                int chunkBlockZ = Z << 4;
-
-                int xb = chunkBlockX - bx;
-                int zb = chunkBlockZ - bz;
-                for (int x = minX; x <= maxX; x++) {
-                    int xx = chunkBlockX + x;
-                    for (int z = minZ; z <= maxZ; z++) {
-                        int zz = chunkBlockZ + z;
-                        for (int y = 0; y < 256; y++) {
-                            BlockState block = queue.getBlock(xx, y, zz);
-                            int xr = xb + x;
-                            int zr = zb + z;
-                            newBlocks[y][xr][zr] = block;
+                final int cost = (int) Math.min(budget, bytes / 1024 + 1);
+                memory.acquireUninterruptibly(cost);
+                // Every plot must release its memory and count down exactly once, whether it was analyzed or not
+                final AtomicBoolean finished = new AtomicBoolean();
+                final Runnable finish = () -> {
+                    if (finished.compareAndSet(false, true)) {
+                        memory.release(cost);
+                        try {
+                            whenAnalyzed.accept(plot);
+                        } finally {
+                            remaining.countDown();
                         }
                     }
-                }
-            });
-
-            final Runnable run = () -> TaskManager.runTaskAsync(() -> {
-                int size = width * length;
-                int[] changes = new int[size];
-                int[] faces = new int[size];
-                int[] data = new int[size];
-                int[] air = new int[size];
-                int[] variety = new int[size];
-                int i = 0;
-                for (int x = 0; x < width; x++) {
-                    for (int z = 0; z < length; z++) {
-                        Set<BlockType> types = new HashSet<>();
-                        for (int y = 0; y < 256; y++) {
-                            BlockState old = oldBlocks[y][x][z];
-                            try {
-                                if (old == null) {
-                                    old = airBlock;
-                                }
-                                BlockState now = newBlocks[y][x][z];
-                                if (!old.equals(now)) {
-                                    changes[i]++;
-                                }
-                                if (now.getBlockType().getMaterial().isAir()) {
-                                    air[i]++;
-                                } else {
-                                    // check vertices
-                                    // modifications_adjacent
-                                    if (x > 0 && z > 0 && y > 0 && x < width - 1 && z < length - 1 && y < 255) {
-                                        if (newBlocks[y - 1][x][z].getBlockType().getMaterial().isAir()) {
-                                            faces[i]++;
-                                        }
-                                        if (newBlocks[y][x - 1][z].getBlockType().getMaterial().isAir()) {
-                                            faces[i]++;
-                                        }
-                                        if (newBlocks[y][x][z - 1].getBlockType().getMaterial().isAir()) {
-                                            faces[i]++;
-                                        }
-                                        if (newBlocks[y + 1][x][z].getBlockType().getMaterial().isAir()) {
-                                            faces[i]++;
-                                        }
-                                        if (newBlocks[y][x + 1][z].getBlockType().getMaterial().isAir()) {
-                                            faces[i]++;
-                                        }
-                                        if (newBlocks[y][x][z + 1].getBlockType().getMaterial().isAir()) {
-                                            faces[i]++;
-                                        }
-                                    }
-
-                                    if (!now.equals(now.getBlockType().getDefaultState())) {
-                                        data[i]++;
-                                    }
-                                    types.add(now.getBlockType());
-                                }
-                            } catch (NullPointerException e) {
-                                e.printStackTrace();
+                };
+                TaskManager.runTask(() -> {
+                    try {
+                        analyzePlot(plot, new RunnableVal<>() {
+                            @Override
+                            public void run(PlotAnalysis value) {
+                                finish.run();
                             }
-                        }
-                        variety[i] = types.size();
-                        i++;
+                        }, finish);
+                    } catch (final Throwable throwable) {
+                        LOGGER.error("Failed to analyze plot {}", plot, throwable);
+                        finish.run();
                     }
-                }
-                // analyze plot
-                // put in analysis obj
-
-                // run whenDone
-                PlotAnalysis analysis = new PlotAnalysis();
-                analysis.changes = (int) (MathMan.getMean(changes) * 100);
-                analysis.faces = (int) (MathMan.getMean(faces) * 100);
-                analysis.data = (int) (MathMan.getMean(data) * 100);
-                analysis.air = (int) (MathMan.getMean(air) * 100);
-                analysis.variety = (int) (MathMan.getMean(variety) * 100);
-
-                analysis.changes_sd = (int) (MathMan.getSD(changes, analysis.changes) * 100);
-                analysis.faces_sd = (int) (MathMan.getSD(faces, analysis.faces) * 100);
-                analysis.data_sd = (int) (MathMan.getSD(data, analysis.data) * 100);
-                analysis.air_sd = (int) (MathMan.getSD(air, analysis.air) * 100);
-                analysis.variety_sd = (int) (MathMan.getSD(variety, analysis.variety) * 100);
-                System.gc();
-                System.gc();
-                whenDone.value = analysis;
-                whenDone.run();
-            });
-            queue.setCompleteTask(run);
-            queue.enqueue();
+                });
+            }
+            try {
+                remaining.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            whenDone.run();
         });
     }
 
     public void analyzePlot(final Plot origin, final RunnableVal<PlotAnalysis> whenDone) {
+        analyzePlot(origin, whenDone, null);
+    }
+
+    /**
+     * Analyze a plot and store the result in its {@link AnalysisFlag}.
+     *
+     * @param origin     plot to analyze
+     * @param whenDone   task to run with the analysis once the flag has been set
+     * @param whenFailed task to run instead if the plot could not be analyzed, or setting the flag was denied
+     */
+    public void analyzePlot(
+            final Plot origin, final RunnableVal<PlotAnalysis> whenDone,
+            final @Nullable Runnable whenFailed
+    ) {
         final ArrayDeque<CuboidRegion> zones = new ArrayDeque<>(origin.getRegions());
         final ArrayList<PlotAnalysis> analysis = new ArrayList<>();
         Runnable run = new Runnable() {
@@ -339,10 +304,14 @@ public class HybridUtils {
                     result.add(whenDone.value.data_sd);
                     result.add(whenDone.value.air_sd);
                     result.add(whenDone.value.variety_sd);
+                    result.add(PlotAnalysis.VERSION);
                     PlotFlag<?, ?> plotFlag = GlobalFlagContainer.getInstance().getFlag(AnalysisFlag.class).createFlagInstance(
                             result);
                     PlotFlagAddEvent event = new PlotFlagAddEvent(plotFlag, origin);
                     if (event.getEventResult() == Result.DENY) {
+                        if (whenFailed != null) {
+                            whenFailed.run();
+                        }
                         return;
                     }
                     origin.setFlag(event.getFlag());
@@ -357,7 +326,7 @@ public class HybridUtils {
                         analysis.add(value);
                         TaskManager.runTaskLater(task, TaskTime.ticks(1L));
                     }
-                });
+                }, whenFailed);
             }
         };
         run.run();
@@ -0,0 +1,430 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *                  Copyright (C) 2021 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.generator;
+
+import com.plotsquared.core.PlotSquared;
+import com.plotsquared.core.location.Location;
+import com.plotsquared.core.plot.expiration.PlotAnalysis;
+import com.plotsquared.core.queue.DelegateQueueCoordinator;
+import com.plotsquared.core.queue.QueueCoordinator;
+import com.plotsquared.core.queue.ScopedQueueCoordinator;
+import com.plotsquared.core.util.MathMan;
+import com.plotsquared.core.util.PatternUtil;
+import com.sk89q.worldedit.function.pattern.Pattern;
+import com.sk89q.worldedit.math.BlockVector2;
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldedit.regions.CuboidRegion;
+import com.sk89q.worldedit.world.World;
+import com.sk89q.worldedit.world.block.BaseBlock;
+import com.sk89q.worldedit.world.block.BlockState;
+import com.sk89q.worldedit.world.block.BlockType;
+import com.sk89q.worldedit.world.block.BlockTypes;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Streaming analysis of the contents of a region in a {@link HybridPlotWorld}, see
+ * {@link HybridUtils#analyzeRegion(String, CuboidRegion, com.plotsquared.core.util.task.RunnableVal)}.
+ * <p>
+ * Chunks are handed over one at a time as they are read, and stored as primitive palette codes
+ * rather than block states. Generating the terrain of a chunk, comparing the chunk against it and
+ * collecting the per-column statistics runs on a shared fork-join pool, after which the chunk is
+ * dropped. The queue reading the region stops handing over chunks while too many are waiting for
+ * the pool, see {@link #isReady()}.
+ * Only the per-column results and a bitmap of air blocks (used to count exposed faces across
+ * chunk borders) are kept for the whole region.
+ */
+final class RegionAnalyzer {
+
+    private static final int HEIGHT = 256;
+    private static final int WORDS_PER_COLUMN = HEIGHT / Long.SIZE;
+
+    // Palette code layout: bit 0 is set for air, bit 1 if the state is not the default state
+    // of its type, bits 2-13 hold the block type index and bits 14-31 the block state index
+    private static final int AIR_BIT = 1;
+    private static final int NON_DEFAULT_BIT = 1 << 1;
+    private static final int TYPE_SHIFT = 2;
+    private static final int TYPE_MASK = 0xFFF;
+    private static final int STATE_SHIFT = 14;
+
+    private static final Map<BlockState, Integer> STATE_CODES = new ConcurrentHashMap<>();
+    private static final Map<BlockType, Integer> TYPE_INDICES = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_STATE = new AtomicInteger();
+    private static final AtomicInteger NEXT_TYPE = new AtomicInteger();
+    private static final int AIR = code(BlockTypes.AIR.getDefaultState());
+
+    /**
+     * Maximum number of chunks of an analysis that are waiting for the pool
+     */
+    private static final int MAX_QUEUED_CHUNKS = 4;
+
+    /**
+     * Approximate memory held by a chunk that has been read but not yet analysed
+     */
+    private static final long CHUNK_BYTES = 2L * 16 * 16 * HEIGHT * Integer.BYTES;
+
+    /**
+     * Pool shared by all analyses, leaving one core for the server. Created on first use
+     * and shut down when the plugin is disabled, see {@link #shutdown()}
+     */
+    private static ForkJoinPool pool;
+
+    private final HybridPlotWorld area;
+    private final World world;
+    private final int bx;
+    private final int bz;
+    private final int width;
+    private final int length;
+    private final int[] changes;
+    private final int[] data;
+    private final int[] air;
+    private final int[] variety;
+    private final long[] airBits;
+    private final List<CompletableFuture<Void>> pending = Collections.synchronizedList(new ArrayList<>());
+    private final Semaphore queued = new Semaphore(MAX_QUEUED_CHUNKS);
+
+    RegionAnalyzer(final @NonNull HybridPlotWorld area, final @NonNull CuboidRegion region) {
+        final BlockVector3 bot = region.getMinimumPoint();
+        final BlockVector3 top = region.getMaximumPoint();
+        this.area = area;
+        this.world = PlotSquared.platform().worldUtil().getWeWorld(area.getWorldName());
+        this.bx = bot.getX();
+        this.bz = bot.getZ();
+        this.width = top.getX() - this.bx + 1;
+        this.length = top.getZ() - this.bz + 1;
+        final int columns = this.width * this.length;
+        this.changes = new int[columns];
+        this.data = new int[columns];
+        this.air = new int[columns];
+        this.variety = new int[columns];
+        this.airBits = new long[columns * WORDS_PER_COLUMN];
+    }
+
+    private static synchronized @NonNull ForkJoinPool getPool() {
+        if (pool == null) {
+            pool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+        }
+        return pool;
+    }
+
+    /**
+     * Stop the analysis threads, discarding analyses that have not finished yet.
+     * This is meant to be called when the plugin is disabled.
+     */
+    static synchronized void shutdown() {
+        if (pool != null) {
+            pool.shutdownNow();
+            pool = null;
+        }
+    }
+
+    /**
+     * Estimate the memory needed to analyse a region, assuming the maximum number of chunks
+     * is waiting to be analysed.
+     *
+     * @param region the region
+     * @return estimated memory in bytes
+     */
+    static long estimateMemory(final @NonNull CuboidRegion region) {
+        final long columns = (long) region.getWidth() * region.getLength();
+        return columns * (4 * Integer.BYTES + WORDS_PER_COLUMN * Long.BYTES) + (MAX_QUEUED_CHUNKS + 1) * CHUNK_BYTES;
+    }
+
+    private static int code(final @Nullable BlockState state) {
+        if (state == null) {
+            return AIR;
+        }
+        final Integer code = STATE_CODES.get(state);
+        if (code != null) {
+            return code;
+        }
+        return STATE_CODES.computeIfAbsent(state, RegionAnalyzer::newCode);
+    }
+
+    private static int newCode(final @NonNull BlockState state) {
+        final BlockType type = state.getBlockType();
+        final int typeIndex = TYPE_INDICES.computeIfAbsent(type, key -> NEXT_TYPE.getAndIncrement());
+        int code = NEXT_STATE.getAndIncrement() << STATE_SHIFT | (typeIndex & TYPE_MASK) << TYPE_SHIFT;
+        if (type.getMaterial().isAir()) {
+            code |= AIR_BIT;
+        }
+        if (!state.equals(type.getDefaultState())) {
+            code |= NON_DEFAULT_BIT;
+        }
+        return code;
+    }
+
+    /**
+     * Check whether another chunk may be read. This is meant to be used as the readiness condition
+     * of the chunk consumer, see {@link QueueCoordinator#setChunkConsumerReady(java.util.function.BooleanSupplier)},
+     * so that chunks stay unread while the pool is behind rather than piling up in memory.
+     *
+     * @return {@code true} if fewer than the maximum number of chunks are waiting for the pool
+     */
+    boolean isReady() {
+        return this.queued.availablePermits() > 0;
+    }
+
+    /**
+     * Read the part of a chunk that lies within the region and schedule its analysis on the pool.
+     * This is meant to be called from the chunk consumer of the queue reading the region, which
+     * runs on the main thread, so only the blocks are read here.
+     *
+     * @param queue queue the chunk was read by
+     * @param chunk chunk coordinates
+     */
+    void readChunk(final @NonNull QueueCoordinator queue, final @NonNull BlockVector2 chunk) {
+        final int minX = Math.max(this.bx, chunk.getX() << 4);
+        final int maxX = Math.min(this.bx + this.width - 1, (chunk.getX() << 4) + 15);
+        final int minZ = Math.max(this.bz, chunk.getZ() << 4);
+        final int maxZ = Math.min(this.bz + this.length - 1, (chunk.getZ() << 4) + 15);
+        if (minX > maxX || minZ > maxZ) {
+            return;
+        }
+        final int sizeX = maxX - minX + 1;
+        final int sizeZ = maxZ - minZ + 1;
+        final int[] live = new int[sizeX * sizeZ * HEIGHT];
+        BlockState last = null;
+        int lastCode = AIR;
+        int index = 0;
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int y = 0; y < HEIGHT; y++) {
+                    final BlockState state = queue.getBlock(x, y, z);
+                    // Columns mostly consist of runs of the same state
+                    if (state != last) {
+                        last = state;
+                        lastCode = code(state);
+                    }
+                    live[index++] = lastCode;
+                }
+            }
+        }
+        // Only a queue that ignores the readiness condition hands over chunks without a permit
+        final boolean permit = this.queued.tryAcquire();
+        this.pending.add(CompletableFuture.runAsync(() -> {
+            try {
+                this.analyzeChunk(chunk, minX, minZ, sizeX, sizeZ, live);
+            } finally {
+                if (permit) {
+                    this.queued.release();
+                }
+            }
+        }, getPool()));
+    }
+
+    /**
+     * Wait for all chunks read so far to be analysed, and combine the results.
+     * This is meant to be called once the queue reading the region has completed.
+     *
+     * @return future completed with the analysis of the region
+     */
+    @NonNull CompletableFuture<PlotAnalysis> complete() {
+        final CompletableFuture<?>[] chunks = this.pending.toArray(new CompletableFuture<?>[0]);
+        return CompletableFuture.allOf(chunks).thenApplyAsync(ignored -> this.finish(), getPool());
+    }
+
+    private void analyzeChunk(
+            final @NonNull BlockVector2 chunk, final int minX, final int minZ,
+            final int sizeX, final int sizeZ, final int @NonNull [] live
+    ) {
+        final int[] template = this.generateTemplate(chunk, minX, minZ, sizeX, sizeZ);
+        final long[] types = new long[(TYPE_MASK + 1) / Long.SIZE];
+        int index = 0;
+        for (int x = 0; x < sizeX; x++) {
+            for (int z = 0; z < sizeZ; z++) {
+                final int column = (minX - this.bx + x) * this.length + (minZ - this.bz + z);
+                final int bits = column * WORDS_PER_COLUMN;
+                int changes = 0;
+                int data = 0;
+                int air = 0;
+                int variety = 0;
+                Arrays.fill(types, 0L);
+                for (int y = 0; y < HEIGHT; y++, index++) {
+                    final int now = live[index];
+                    if (now != template[index]) {
+                        changes++;
+                    }
+                    if ((now & AIR_BIT) != 0) {
+                        air++;
+                        this.airBits[bits + (y >> 6)] |= 1L << (y & 63);
+                        continue;
+                    }
+                    if ((now & NON_DEFAULT_BIT) != 0) {
+                        data++;
+                    }
+                    final int type = now >> TYPE_SHIFT & TYPE_MASK;
+                    final long typeBit = 1L << (type & 63);
+                    if ((types[type >> 6] & typeBit) == 0) {
+                        types[type >> 6] |= typeBit;
+                        variety++;
+                    }
+                }
+                this.changes[column] = changes;
+                this.data[column] = data;
+                this.air[column] = air;
+                this.variety[column] = variety;
+            }
+        }
+    }
+
+    private int @NonNull [] generateTemplate(
+            final @NonNull BlockVector2 chunk, final int minX, final int minZ,
+            final int sizeX, final int sizeZ
+    ) {
+        final int[] template = new int[sizeX * sizeZ * HEIGHT];
+        Arrays.fill(template, AIR);
+        final int chunkX = chunk.getX() << 4;
+        final int chunkZ = chunk.getZ() << 4;
+        final String worldName = this.area.getWorldName();
+        final ScopedQueueCoordinator scoped = new ScopedQueueCoordinator(
+                new TemplateQueue(this.world, template, minX, minZ, sizeX, sizeZ),
+                Location.at(worldName, chunkX, 0, chunkZ),
+                Location.at(worldName, chunkX + 15, HEIGHT - 1, chunkZ + 15)
+        );
+        this.area.getGenerator().generateChunk(scoped, this.area);
+        return template;
+    }
+
+    private @NonNull PlotAnalysis finish() {
+        final int[] faces = new int[this.width * this.length];
+        // Only blocks with neighbours on all sides are considered, as in the original analysis
+        IntStream.range(1, this.width - 1).parallel().forEach(x -> {
+            for (int z = 1; z < this.length - 1; z++) {
+                final int column = x * this.length + z;
+                int count = 0;
+                for (int y = 1; y < HEIGHT - 1; y++) {
+                    if (this.isAir(column, y)) {
+                        continue;
+                    }
+                    if (this.isAir(column, y - 1)) {
+                        count++;
+                    }
+                    if (this.isAir(column, y + 1)) {
+                        count++;
+                    }
+                    if (this.isAir(column - this.length, y)) {
+                        count++;
+                    }
+                    if (this.isAir(column + this.length, y)) {
+                        count++;
+                    }
+                    if (this.isAir(column - 1, y)) {
+                        count++;
+                    }
+                    if (this.isAir(column + 1, y)) {
+                        count++;
+                    }
+                }
+                faces[column] = count;
+            }
+        });
+        final PlotAnalysis analysis = new PlotAnalysis();
+        analysis.changes = (int) (MathMan.getMean(this.changes) * 100);
+        analysis.faces = (int) (MathMan.getMean(faces) * 100);
+        analysis.data = (int) (MathMan.getMean(this.data) * 100);
+        analysis.air = (int) (MathMan.getMean(this.air) * 100);
+        analysis.variety = (int) (MathMan.getMean(this.variety) * 100);
+
+        analysis.changes_sd = (int) (MathMan.getSD(this.changes, analysis.changes) * 100);
+        analysis.faces_sd = (int) (MathMan.getSD(faces, analysis.faces) * 100);
+        analysis.data_sd = (int) (MathMan.getSD(this.data, analysis.data) * 100);
+        analysis.air_sd = (int) (MathMan.getSD(this.air, analysis.air) * 100);
+        analysis.variety_sd = (int) (MathMan.getSD(this.variety, analysis.variety) * 100);
+        return analysis;
+    }
+
+    private boolean isAir(final int column, final int y) {
+        return (this.airBits[column * WORDS_PER_COLUMN + (y >> 6)] >>> (y & 63) & 1L) != 0;
+    }
+
+    /**
+     * Queue that stores the palette codes of the blocks set by the generator for the part
+     * of a chunk that is being analysed.
+     */
+    private static final class TemplateQueue extends DelegateQueueCoordinator {
+
+        private final World world;
+        private final int[] template;
+        private final int minX;
+        private final int minZ;
+        private final int sizeX;
+        private final int sizeZ;
+
+        private TemplateQueue(
+                final @Nullable World world, final int @NonNull [] template,
+                final int minX, final int minZ, final int sizeX, final int sizeZ
+        ) {
+            super(null);
+            this.world = world;
+            this.template = template;
+            this.minX = minX;
+            this.minZ = minZ;
+            this.sizeX = sizeX;
+            this.sizeZ = sizeZ;
+        }
+
+        @Override
+        public @Nullable World getWorld() {
+            return this.world;
+        }
+
+        @Override
+        public boolean setBlock(final int x, final int y, final int z, final @NonNull BlockState id) {
+            final int rx = x - this.minX;
+            final int rz = z - this.minZ;
+            if (rx < 0 || rx >= this.sizeX || rz < 0 || rz >= this.sizeZ || y < 0 || y >= HEIGHT) {
+                return false;
+            }
+            this.template[(rx * this.sizeZ + rz) * HEIGHT + y] = code(id);
+            return true;
+        }
+
+        @Override
+        public boolean setBlock(final int x, final int y, final int z, final @NonNull BaseBlock id) {
+            return this.setBlock(x, y, z, id.toImmutableState());
+        }
+
+        @Override
+        public boolean setBlock(final int x, final int y, final int z, final @NonNull Pattern pattern) {
+            return this.setBlock(x, y, z, PatternUtil.apply(pattern, x, y, z));
+        }
+
+    }
+
+}
@@ -32,7 +32,6 @@ import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.PlotArea;
 import com.plotsquared.core.plot.PlotId;
 import com.plotsquared.core.queue.QueueCoordinator;
-import com.plotsquared.core.util.HashUtil;
 import com.plotsquared.core.util.RegionManager;
 import com.sk89q.worldedit.regions.CuboidRegion;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -170,6 +169,11 @@ public abstract class SquarePlotManager extends GridPlotManager {
 
     @Override
     public PlotId getPlotId(int x, int y, int z) {
+        return PlotId.unpack(getPlotIdPacked(x, y, z));
+    }
+
+    @Override
+    public long getPlotIdPacked(int x, int y, int z) {
         try {
             x -= squarePlotWorld.ROAD_OFFSET_X;
             z -= squarePlotWorld.ROAD_OFFSET_Z;
@@ -205,48 +209,46 @@ public abstract class SquarePlotManager extends GridPlotManager {
                 dz = (z / size) + 1;
                 rz = z % size;
             }
-            PlotId id = PlotId.of(dx, dz);
-            boolean[] merged = new boolean[]{rz <= pathWidthLower, rx > end, rz > end, rx <= pathWidthLower};
-            int hash = HashUtil.hash(merged);
+            // Same bit layout as HashUtil.hash(boolean[]) over {north, east, south, west}
+            int hash = 0;
+            if (rz <= pathWidthLower) {
+                hash |= 8;
+            }
+            if (rx > end) {
+                hash |= 4;
+            }
+            if (rz > end) {
+                hash |= 2;
+            }
+            if (rx <= pathWidthLower) {
+                hash |= 1;
+            }
+            long id = PlotId.pack(dx, dz);
             // Not merged, and no need to check if it is
             if (hash == 0) {
                 return id;
             }
-            Plot plot = squarePlotWorld.getOwnedPlotAbs(id);
+            Plot plot = squarePlotWorld.getOwnedPlotAbs(dx, dz);
             // Not merged, and standing on road
             if (plot == null) {
-                return null;
-            }
-            switch (hash) {
-                case 8:
-                    // north
-                    return plot.isMerged(Direction.NORTH) ? id : null;
-                case 4:
-                    // east
-                    return plot.isMerged(Direction.EAST) ? id : null;
-                case 2:
-                    // south
-                    return plot.isMerged(Direction.SOUTH) ? id : null;
-                case 1:
-                    // west
-                    return plot.isMerged(Direction.WEST) ? id : null;
-                case 12:
-                    // northeast
-                    return plot.isMerged(Direction.NORTHEAST) ? id : null;
-                case 6:
-                    // southeast
-                    return plot.isMerged(Direction.SOUTHEAST) ? id : null;
-                case 3:
-                    // southwest
-                    return plot.isMerged(Direction.SOUTHWEST) ? id : null;
-                case 9:
-                    // northwest
-                    return plot.isMerged(Direction.NORTHWEST) ? id : null;
+                return PlotId.NONE_PACKED;
             }
+            Direction direction = switch (hash) {
+                case 8 -> Direction.NORTH;
+                case 4 -> Direction.EAST;
+                case 2 -> Direction.SOUTH;
+                case 1 -> Direction.WEST;
+                case 12 -> Direction.NORTHEAST;
+                case 6 -> Direction.SOUTHEAST;
+                case 3 -> Direction.SOUTHWEST;
+                case 9 -> Direction.NORTHWEST;
+                default -> null;
+            };
+            return direction != null && plot.isMerged(direction) ? id : PlotId.NONE_PACKED;
         } catch (Exception ignored) {
             LOGGER.error("Invalid plot / road width in settings.yml for world: {}", squarePlotWorld.getWorldName());
         }
-        return null;
+        return PlotId.NONE_PACKED;
     }
 
     /**
@@ -29,8 +29,6 @@ import com.google.inject.Inject;
 import com.plotsquared.core.PlotSquared;
 import com.plotsquared.core.command.RequiredType;
 import com.plotsquared.core.configuration.caption.Caption;
-import com.plotsquared.core.configuration.caption.CaptionUtility;
-import com.plotsquared.core.configuration.caption.TranslatableCaption;
 import com.plotsquared.core.database.DBFunc;
 import com.plotsquared.core.events.TeleportCause;
 import com.plotsquared.core.inject.annotations.ConsoleActor;
@@ -48,7 +46,7 @@ import com.sk89q.worldedit.world.gamemode.GameMode;
 import com.sk89q.worldedit.world.gamemode.GameModes;
 import com.sk89q.worldedit.world.item.ItemType;
 import net.kyori.adventure.audience.Audience;
-import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.Template;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
@@ -56,7 +54,6 @@ import java.util.UUID;
 
 public class ConsolePlayer extends PlotPlayer<Actor> {
 
-    private static final MiniMessage MINI_MESSAGE = MiniMessage.builder().build();
     private static ConsolePlayer instance;
 
     private final Actor actor;
@@ -153,15 +150,11 @@ public class ConsolePlayer extends PlotPlayer<Actor> {
             final @NonNull Caption caption,
             final @NonNull Template... replacements
     ) {
-        String message = caption.getComponent(this);
-        if (message.isEmpty()) {
+        final Component component = PlotSquared.get().getCaptionTemplateCache().getComponent(caption, this, replacements);
+        if (component == null) {
             return;
         }
-        message = CaptionUtility.format(this, message)
-                .replace('\u2010', '%').replace('\u2020', '&').replace('\u2030', '&')
-                .replace("<prefix>", TranslatableCaption.of("core.prefix").getComponent(this));
-        // Parse the message
-        PlotSquared.platform().consoleAudience().sendMessage(MINI_MESSAGE.parse(message, replacements));
+        PlotSquared.platform().consoleAudience().sendMessage(component);
     }
 
     @Override
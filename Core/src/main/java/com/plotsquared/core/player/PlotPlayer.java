@@ -35,7 +35,7 @@ import com.plotsquared.core.command.RequiredType;
 import com.plotsquared.core.configuration.Settings;
 import com.plotsquared.core.configuration.caption.Caption;
 import com.plotsquared.core.configuration.caption.CaptionMap;
-import com.plotsquared.core.configuration.caption.CaptionUtility;
+import com.plotsquared.core.configuration.caption.CaptionTemplateCache;
 import com.plotsquared.core.configuration.caption.LocaleHolder;
 import com.plotsquared.core.configuration.caption.TranslatableCaption;
 import com.plotsquared.core.database.DBFunc;
@@ -50,7 +50,6 @@ import com.plotsquared.core.plot.PlotCluster;
 import com.plotsquared.core.plot.PlotId;
 import com.plotsquared.core.plot.PlotWeather;
 import com.plotsquared.core.plot.expiration.ExpireManager;
-import com.plotsquared.core.plot.flag.implementations.DoneFlag;
 import com.plotsquared.core.plot.world.PlotAreaManager;
 import com.plotsquared.core.plot.world.SinglePlotArea;
 import com.plotsquared.core.plot.world.SinglePlotAreaManager;
@@ -70,6 +69,7 @@ import net.kyori.adventure.text.minimessage.Template;
 import net.kyori.adventure.title.Title;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -86,6 +86,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -96,6 +97,7 @@ public abstract class PlotPlayer<P> implements CommandCaller, OfflinePlotPlayer,
     private static final String NON_EXISTENT_CAPTION = "<red>PlotSquared does not recognize the caption: ";
 
     private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + PlotPlayer.class.getSimpleName());
+    private static final String LAST_PLOT_KEY = PlayerMetaDataKeys.TEMPORARY_LAST_PLOT.toString();
 
     // Used to track debug mode
     private static final Set<PlotPlayer<?>> debugModeEnabled =
@@ -115,6 +117,7 @@ public abstract class PlotPlayer<P> implements CommandCaller, OfflinePlotPlayer,
     private Locale locale;
     // Delayed initialisation
     private PermissionProfile permissionProfile;
+    private final Map<String, PermissionRange> permissionRanges = new ConcurrentHashMap<>();
 
     public PlotPlayer(
             final @NonNull PlotAreaManager plotAreaManager, final @NonNull EventDispatcher eventDispatcher,
@@ -173,6 +176,49 @@ public abstract class PlotPlayer<P> implements CommandCaller, OfflinePlotPlayer,
         return this.permissionProfile.hasPermission(world, permission);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The result is cached per stub for {@link Settings.Limit#PERMISSION_RANGE_CACHE} seconds,
+     * or until {@link #invalidatePermissionCache()} is called.
+     */
+    @Override
+    @NonNegative
+    public final int hasPermissionRange(final @NonNull String stub, @NonNegative final int range) {
+        final long now = System.currentTimeMillis();
+        final PermissionRange cached = this.permissionRanges.get(stub);
+        if (cached != null && cached.range == range && cached.expiry > now) {
+            return cached.value;
+        }
+        final int value = resolvePermissionRange(stub, range);
+        if (Settings.Limit.PERMISSION_RANGE_CACHE > 0) {
+            this.permissionRanges.put(stub, new PermissionRange(range, value,
+                    now + TimeUnit.SECONDS.toMillis(Settings.Limit.PERMISSION_RANGE_CACHE)
+            ));
+        }
+        return value;
+    }
+
+    /**
+     * Resolve the highest permission within a range, see {@link #hasPermissionRange(String, int)}.
+     *
+     * @param stub  The permission stub to check e.g. for `plots.plot.#` the stub is `plots.plot`
+     * @param range The range to check
+     * @return The highest permission they have within that range
+     */
+    @NonNegative
+    protected int resolvePermissionRange(final @NonNull String stub, @NonNegative final int range) {
+        return OfflinePlotPlayer.super.hasPermissionRange(stub, range);
+    }
+
+    /**
+     * Forget the cached results of {@link #hasPermissionRange(String, int)}. Called when the
+     * permissions of the player may have changed, e.g. when the player changes worlds.
+     */
+    public void invalidatePermissionCache() {
+        this.permissionRanges.clear();
+    }
+
     public abstract Actor toActor();
 
     public abstract P getPlatformPlayer();
@@ -190,7 +236,10 @@ public abstract class PlotPlayer<P> implements CommandCaller, OfflinePlotPlayer,
             if (this.meta == null) {
                 this.meta = new ConcurrentHashMap<>();
             }
-            this.meta.put(key, value);
+            final Object previous = this.meta.put(key, value);
+            if (LAST_PLOT_KEY.equals(key)) {
+                updateOccupancy(previous, value);
+            }
         }
     }
 
@@ -228,7 +277,26 @@ public abstract class PlotPlayer<P> implements CommandCaller, OfflinePlotPlayer,
      * @param key
      */
     Object deleteMeta(String key) {
-        return this.meta == null ? null : this.meta.remove(key);
+        final Object previous = this.meta == null ? null : this.meta.remove(key);
+        if (previous != null && LAST_PLOT_KEY.equals(key)) {
+            updateOccupancy(previous, null);
+        }
+        return previous;
+    }
+
+    /**
+     * Keep the occupancy index of the plot areas in sync with the current plot of this player.
+     */
+    private void updateOccupancy(final @Nullable Object previous, final @Nullable Object current) {
+        if (previous == current || this instanceof ConsolePlayer) {
+            return;
+        }
+        if (previous instanceof Plot plot && plot.getArea() != null) {
+            plot.getArea().updateOccupancy(this, plot, null);
+        }
+        if (current instanceof Plot plot && plot.getArea() != null) {
+            plot.getArea().updateOccupancy(this, null, plot);
+        }
     }
 
     /**
@@ -278,17 +346,7 @@ public abstract class PlotPlayer<P> implements CommandCaller, OfflinePlotPlayer,
         }
         final AtomicInteger count = new AtomicInteger(0);
         final UUID uuid = getUUID();
-        this.plotAreaManager.forEachPlotArea(value -> {
-            if (!Settings.Done.COUNTS_TOWARDS_LIMIT) {
-                for (Plot plot : value.getPlotsAbs(uuid)) {
-                    if (!DoneFlag.isDone(plot)) {
-                        count.incrementAndGet();
-                    }
-                }
-            } else {
-                count.addAndGet(value.getPlotsAbs(uuid).size());
-            }
-        });
+        this.plotAreaManager.forEachPlotArea(value -> count.addAndGet(value.getPlotCount(uuid)));
         return count.get();
     }
 
@@ -317,12 +375,7 @@ public abstract class PlotPlayer<P> implements CommandCaller, OfflinePlotPlayer,
         UUID uuid = getUUID();
         int count = 0;
         for (PlotArea area : this.plotAreaManager.getPlotAreasSet(world)) {
-            if (!Settings.Done.COUNTS_TOWARDS_LIMIT) {
-                count +=
-                        area.getPlotsAbs(uuid).stream().filter(plot -> !DoneFlag.isDone(plot)).count();
-            } else {
-                count += area.getPlotsAbs(uuid).size();
-            }
+            count += area.getPlotCount(uuid);
         }
         return count;
     }
@@ -583,6 +636,7 @@ public abstract class PlotPlayer<P> implements CommandCaller, OfflinePlotPlayer,
         if (plot != null) {
             this.eventDispatcher.callLeave(this, plot);
         }
+        deleteMeta(LAST_PLOT_KEY);
         if (Settings.Enabled_Components.BAN_DELETER && isBanned()) {
             for (Plot owned : getPlots()) {
                 owned.getPlotModificationManager().deletePlot(null, null);
@@ -850,51 +904,44 @@ public abstract class PlotPlayer<P> implements CommandCaller, OfflinePlotPlayer,
             final @NonNull Caption caption,
             final @NonNull Template... replacements
     ) {
-        String message;
-        try {
-            message = caption.getComponent(this);
-        } catch (final CaptionMap.NoSuchCaptionException exception) {
-            // This sends feedback to the player
-            message = NON_EXISTENT_CAPTION + ((TranslatableCaption) caption).getKey();
-            // And this also prints it to the console
-            exception.printStackTrace();
-        }
-        if (message.isEmpty()) {
+        final Component component = parseCaption(caption, replacements);
+        if (component == null) {
             return;
         }
-        // Replace placeholders, etc
-        message = CaptionUtility.format(this, message)
-                .replace('\u2010', '%').replace('\u2020', '&').replace('\u2030', '&')
-                .replace("<prefix>", TranslatableCaption.of("core.prefix").getComponent(this));
-
-
-        final Component component = MiniMessage.get().parse(message, replacements);
         getAudience().sendActionBar(component);
     }
 
-    @Override
-    public void sendMessage(
+    /**
+     * Format and parse a caption for this player, see {@link CaptionTemplateCache}
+     *
+     * @param caption      Caption
+     * @param replacements Variable replacements
+     * @return the parsed caption, or {@code null} if the message is empty
+     */
+    private @Nullable Component parseCaption(
             final @NonNull Caption caption,
             final @NonNull Template... replacements
     ) {
-        String message;
         try {
-            message = caption.getComponent(this);
+            return PlotSquared.get().getCaptionTemplateCache().getComponent(caption, this, replacements);
         } catch (final CaptionMap.NoSuchCaptionException exception) {
             // This sends feedback to the player
-            message = NON_EXISTENT_CAPTION + ((TranslatableCaption) caption).getKey();
+            final String message = NON_EXISTENT_CAPTION + ((TranslatableCaption) caption).getKey();
             // And this also prints it to the console
             exception.printStackTrace();
+            return MiniMessage.get().parse(CaptionTemplateCache.format(this, message), replacements);
         }
-        if (message.isEmpty()) {
+    }
+
+    @Override
+    public void sendMessage(
+            final @NonNull Caption caption,
+            final @NonNull Template... replacements
+    ) {
+        final Component component = parseCaption(caption, replacements);
+        if (component == null) {
             return;
         }
-        // Replace placeholders, etc
-        message = CaptionUtility.format(this, message)
-                .replace('\u2010', '%').replace('\u2020', '&').replace('\u2030', '&')
-                .replace("<prefix>", TranslatableCaption.of("core.prefix").getComponent(this));
-        // Parse the message
-        final Component component = MiniMessage.get().parse(message, replacements);
         if (!Objects.equal(component, this.getMeta("lastMessage"))
                 || System.currentTimeMillis() - this.<Long>getMeta("lastMessageTime") > 5000) {
             setMeta("lastMessage", component);
@@ -979,6 +1026,20 @@ public abstract class PlotPlayer<P> implements CommandCaller, OfflinePlotPlayer,
         return this.lockRepository;
     }
 
+    private static final class PermissionRange {
+
+        private final int range;
+        private final int value;
+        private final long expiry;
+
+        private PermissionRange(final int range, final int value, final long expiry) {
+            this.range = range;
+            this.value = value;
+            this.expiry = expiry;
+        }
+
+    }
+
     @FunctionalInterface
     public interface PlotPlayerConverter<BaseObject> {
 
@@ -27,8 +27,6 @@ package com.plotsquared.core.plot;
 
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Sets;
-import com.google.inject.Inject;
 import com.plotsquared.core.PlotSquared;
 import com.plotsquared.core.command.Like;
 import com.plotsquared.core.configuration.Settings;
@@ -55,6 +53,7 @@ import com.plotsquared.core.plot.flag.GlobalFlagContainer;
 import com.plotsquared.core.plot.flag.InternalFlag;
 import com.plotsquared.core.plot.flag.PlotFlag;
 import com.plotsquared.core.plot.flag.implementations.DescriptionFlag;
+import com.plotsquared.core.plot.flag.implementations.DoneFlag;
 import com.plotsquared.core.plot.flag.implementations.KeepFlag;
 import com.plotsquared.core.plot.flag.implementations.ServerPlotFlag;
 import com.plotsquared.core.plot.flag.types.DoubleFlag;
@@ -128,25 +127,15 @@ public class Plot {
     private static final DecimalFormat FLAG_DECIMAL_FORMAT = new DecimalFormat("0");
     private static final MiniMessage MINI_MESSAGE = MiniMessage.builder().build();
 
-    static Set<Plot> connected_cache;
-    static Set<CuboidRegion> regions_cache;
-
     static {
         FLAG_DECIMAL_FORMAT.setMaximumFractionDigits(340);
     }
 
     /**
-     * Plot flag container
-     */
-    private final FlagContainer flagContainer = new FlagContainer(null);
-    /**
-     * Utility used to manage plot comments
+     * Plot flag container. Created when it is first needed, as most plots that are
+     * only looked up (such as unclaimed plots) never have flags of their own.
      */
-    private final PlotCommentContainer plotCommentContainer = new PlotCommentContainer(this);
-    /**
-     * Utility used to modify the plot
-     */
-    private final PlotModificationManager plotModificationManager = new PlotModificationManager(this);
+    private volatile FlagContainer flagContainer;
     /**
      * Represents whatever the database manager needs it to: <br>
      * - A value of -1 usually indicates the plot will not be stored in the DB<br>
@@ -176,17 +165,6 @@ public class Plot {
     PlotSettings settings;
     @NonNull
     private PlotId id;
-    // These will be injected
-    @Inject
-    private EventDispatcher eventDispatcher;
-    @Inject
-    private PlotListener plotListener;
-    @Inject
-    private RegionManager regionManager;
-    @Inject
-    private WorldUtil worldUtil;
-    @Inject
-    private SchematicHandler schematicHandler;
     /**
      * plot owner
      * (Merged plots can have multiple owners)
@@ -212,6 +190,10 @@ public class Plot {
      * - The origin plot is used for plot grouping and relational data
      */
     private Plot origin;
+    /**
+     * Cached access decisions, see {@link #getAccess(UUID)}
+     */
+    private volatile PlotAccessCache accessCache;
 
     /**
      * Constructor for a new plot.
@@ -254,8 +236,6 @@ public class Plot {
         this.id = id;
         this.owner = owner;
         this.temp = temp;
-        this.flagContainer.setParentContainer(area.getFlagContainer());
-        PlotSquared.platform().injector().injectMembers(this);
     }
 
     /**
@@ -293,23 +273,22 @@ public class Plot {
         this.area = area;
         this.owner = owner;
         this.settings = new PlotSettings();
-        this.members = members;
-        this.trusted = trusted;
-        this.denied = denied;
+        // Most plots have nobody added, so empty sets are not kept around; the getters create them on demand
+        this.members = members == null || members.isEmpty() ? null : members;
+        this.trusted = trusted == null || trusted.isEmpty() ? null : trusted;
+        this.denied = denied == null || denied.isEmpty() ? null : denied;
         this.settings.setAlias(alias);
         this.settings.setPosition(position);
         this.settings.setMerged(merged);
         this.timestamp = timestamp;
         this.temp = temp;
-        if (area != null) {
-            this.flagContainer.setParentContainer(area.getFlagContainer());
-            if (flags != null) {
-                for (PlotFlag<?, ?> flag : flags) {
-                    this.flagContainer.addFlag(flag);
-                }
+        if (area != null && flags != null && !flags.isEmpty()) {
+            final FlagContainer flagContainer = this.getFlagContainer();
+            for (PlotFlag<?, ?> flag : flags) {
+                flagContainer.addFlag(flag);
             }
+            flagContainer.compact();
         }
-        PlotSquared.platform().injector().injectMembers(this);
     }
 
     /**
@@ -457,7 +436,11 @@ public class Plot {
      * @param owner The new owner of this particular sub-plot.
      */
     public void setOwnerAbs(final @Nullable UUID owner) {
+        final UUID previous = this.owner;
         this.owner = owner;
+        if (this.area != null && !Objects.equals(previous, owner)) {
+            this.area.updateOwner(this, previous);
+        }
     }
 
     /**
@@ -527,11 +510,16 @@ public class Plot {
     /**
      * Efficiently get the players currently inside this plot<br>
      * - Will return an empty list if no players are in the plot<br>
+     * - Players in any part of a merged plot are included<br>
      * - Remember, you can cast a PlotPlayer to it's respective implementation (BukkitPlayer, SpongePlayer) to obtain the player object
      *
      * @return list of PlotPlayer(s) or an empty list
      */
     public @NonNull List<PlotPlayer<?>> getPlayersInPlot() {
+        if (Settings.Enabled_Components.EVENTS && this.area != null) {
+            return this.area.getPlayersInPlot(this);
+        }
+        // Without plot events the current plot of a player is resolved from its location
         final List<PlotPlayer<?>> players = new ArrayList<>();
         for (final PlotPlayer<?> player : PlotSquared.platform().playerManager().getPlayers()) {
             if (this.equals(player.getCurrentPlot())) {
@@ -557,6 +545,10 @@ public class Plot {
      * @return {@code true} if the provided uuid is the owner of the plot, else {@code false}
      */
     public boolean isOwner(final @NonNull UUID uuid) {
+        return (this.getAccess(uuid) & PlotAccessCache.OWNER) != 0;
+    }
+
+    private boolean computeIsOwner(final @NonNull UUID uuid) {
         if (uuid.equals(this.getOwner())) {
             return true;
         }
@@ -660,19 +652,25 @@ public class Plot {
      * @return {@code true} if the player is added/trusted or is the owner, else {@code false}
      */
     public boolean isAdded(final @NonNull UUID uuid) {
-        if (!this.hasOwner() || getDenied().contains(uuid)) {
+        return (this.getAccess(uuid) & PlotAccessCache.ADDED) != 0;
+    }
+
+    private boolean computeIsAdded(final @NonNull UUID uuid, final boolean owner) {
+        if (!this.hasOwner() || deniedView().contains(uuid)) {
             return false;
         }
-        if (isOwner(uuid)) {
+        if (owner) {
             return true;
         }
-        if (getMembers().contains(uuid)) {
+        final Set<UUID> members = membersView();
+        if (members.contains(uuid)) {
             return isOnline();
         }
-        if (getTrusted().contains(uuid) || getTrusted().contains(DBFunc.EVERYONE)) {
+        final Set<UUID> trusted = trustedView();
+        if (trusted.contains(uuid) || trusted.contains(DBFunc.EVERYONE)) {
             return true;
         }
-        if (getMembers().contains(DBFunc.EVERYONE)) {
+        if (members.contains(DBFunc.EVERYONE)) {
             return isOnline();
         }
         return false;
@@ -685,8 +683,61 @@ public class Plot {
      * @return {@code false} if the player is allowed to enter the plot, else {@code true}
      */
     public boolean isDenied(final @NonNull UUID uuid) {
-        return this.denied != null && (this.denied.contains(DBFunc.EVERYONE) && !this.isAdded(uuid) || !this.isAdded(uuid) && this.denied
-                .contains(uuid));
+        return this.denied != null && (this.getAccess(uuid) & PlotAccessCache.DENIED) != 0;
+    }
+
+    /**
+     * Get the access decisions for a player, see {@link PlotAccessCache}. The decisions are
+     * cached if this is the plot instance stored in the area, as permission checks run for
+     * nearly every block and interaction event.
+     *
+     * @param uuid player to check
+     * @return access decision bits
+     */
+    private int getAccess(final @NonNull UUID uuid) {
+        final PlotArea area = this.area;
+        if (area == null || area.getOwnedPlotAbs(this.id) != this) {
+            return this.computeAccess(uuid);
+        }
+        final long accessVersion = area.getAccessVersion();
+        final long presenceVersion = PlotSquared.platform().playerManager().getPresenceVersion();
+        PlotAccessCache cache = this.accessCache;
+        if (cache == null || !cache.isValid(accessVersion, presenceVersion)) {
+            cache = new PlotAccessCache(accessVersion, presenceVersion);
+            this.accessCache = cache;
+        }
+        int access = cache.get(uuid);
+        if (access == -1) {
+            access = this.computeAccess(uuid);
+            cache.put(uuid, access);
+        }
+        return access;
+    }
+
+    private int computeAccess(final @NonNull UUID uuid) {
+        final boolean owner = this.computeIsOwner(uuid);
+        final boolean added = this.computeIsAdded(uuid, owner);
+        int access = 0;
+        if (owner) {
+            access |= PlotAccessCache.OWNER;
+        }
+        if (added) {
+            access |= PlotAccessCache.ADDED;
+        } else {
+            final Set<UUID> denied = deniedView();
+            if (denied.contains(DBFunc.EVERYONE) || denied.contains(uuid)) {
+                access |= PlotAccessCache.DENIED;
+            }
+        }
+        return access;
+    }
+
+    /**
+     * Drop the cached access decisions of this plot. Must be called whenever the trusted
+     * players, members or denied players of the plot are changed.
+     */
+    void invalidateAccessCache() {
+        this.accessCache = null;
     }
 
     /**
@@ -735,7 +786,10 @@ public class Plot {
         }
         this.area = area;
         area.addPlot(this);
-        this.flagContainer.setParentContainer(area.getFlagContainer());
+        final FlagContainer flagContainer = this.flagContainer;
+        if (flagContainer != null) {
+            flagContainer.setParentContainer(area.getFlagContainer());
+        }
     }
 
     /**
@@ -897,6 +951,16 @@ public class Plot {
         return this.denied;
     }
 
+    /**
+     * Read-only view of the denied users that does not allocate a set for plots without any.
+     *
+     * @return the denied users
+     */
+    @NonNull Set<UUID> deniedView() {
+        final HashSet<UUID> denied = this.denied;
+        return denied == null ? Collections.emptySet() : denied;
+    }
+
     /**
      * Sets the denied users for this plot.
      *
@@ -938,6 +1002,16 @@ public class Plot {
         return this.trusted;
     }
 
+    /**
+     * Read-only view of the trusted users that does not allocate a set for plots without any.
+     *
+     * @return the trusted users
+     */
+    @NonNull Set<UUID> trustedView() {
+        final HashSet<UUID> trusted = this.trusted;
+        return trusted == null ? Collections.emptySet() : trusted;
+    }
+
     /**
      * Sets the trusted users for this plot.
      *
@@ -970,6 +1044,16 @@ public class Plot {
         return this.members;
     }
 
+    /**
+     * Read-only view of the members that does not allocate a set for plots without any.
+     *
+     * @return the members
+     */
+    @NonNull Set<UUID> membersView() {
+        final HashSet<UUID> members = this.members;
+        return members == null ? Collections.emptySet() : members;
+    }
+
     /**
      * Sets the members for this plot.
      *
@@ -998,6 +1082,7 @@ public class Plot {
     public void addDenied(final @NonNull UUID uuid) {
         for (final Plot current : getConnectedPlots()) {
             if (current.getDenied().add(uuid)) {
+                current.invalidateAccessCache();
                 DBFunc.setDenied(current, uuid);
             }
         }
@@ -1011,6 +1096,8 @@ public class Plot {
     public void addTrusted(final @NonNull UUID uuid) {
         for (final Plot current : getConnectedPlots()) {
             if (current.getTrusted().add(uuid)) {
+                current.invalidateAccessCache();
+                current.getArea().updateAdded(current, uuid);
                 DBFunc.setTrusted(current, uuid);
             }
         }
@@ -1024,6 +1111,8 @@ public class Plot {
     public void addMember(final @NonNull UUID uuid) {
         for (final Plot current : getConnectedPlots()) {
             if (current.getMembers().add(uuid)) {
+                current.invalidateAccessCache();
+                current.getArea().updateAdded(current, uuid);
                 DBFunc.setMember(current, uuid);
             }
         }
@@ -1059,7 +1148,7 @@ public class Plot {
     }
 
     public boolean isLoaded() {
-        return this.worldUtil.isWorld(getWorldName());
+        return worldUtil().isWorld(getWorldName());
     }
 
     /**
@@ -1078,6 +1167,10 @@ public class Plot {
      * @return Immutable set containing the flags associated with the plot
      */
     public Set<PlotFlag<?, ?>> getFlags() {
+        final FlagContainer flagContainer = this.flagContainer;
+        if (flagContainer == null) {
+            return Collections.emptySet();
+        }
         return ImmutableSet.copyOf(flagContainer.getFlagMap().values());
     }
 
@@ -1094,6 +1187,12 @@ public class Plot {
         }
         for (final Plot plot : this.getConnectedPlots()) {
             plot.getFlagContainer().addFlag(flag);
+            if (flag instanceof DoneFlag && plot.getArea() != null) {
+                plot.getArea().updateDone(plot);
+            }
+            if (flag instanceof ServerPlotFlag && plot.getArea() != null) {
+                plot.getArea().invalidateAccess();
+            }
             plot.reEnter();
             DBFunc.setFlag(plot, flag);
         }
@@ -1184,6 +1283,12 @@ public class Plot {
             if (value == null) {
                 continue;
             }
+            if (flag instanceof DoneFlag && plot.getArea() != null) {
+                plot.getArea().updateDone(plot);
+            }
+            if (flag instanceof ServerPlotFlag && plot.getArea() != null) {
+                plot.getArea().invalidateAccess();
+            }
             plot.reEnter();
             DBFunc.removeFlag(plot, flag);
             removed = true;
@@ -1192,7 +1297,8 @@ public class Plot {
     }
 
     /**
-     * Count the entities in a plot
+     * Count the entities in a plot. If the platform tracks the entity counts of the area
+     * (see {@link PlotArea#isEntityCountTracked(String)}), this does not need to look at the world.
      *
      * @return array of entity counts
      * @see RegionManager#countEntities(Plot)
@@ -1205,8 +1311,15 @@ public class Plot {
      */
     public int[] countEntities() {
         int[] count = new int[6];
+        final PlotArea area = this.getArea();
+        if (area != null && area.isEntityCountTracked(this.getWorldName())) {
+            for (Plot current : this.getConnectedPlots()) {
+                area.addEntityCounts(current.getWorldName(), current.getId(), count);
+            }
+            return count;
+        }
         for (Plot current : this.getConnectedPlots()) {
-            int[] result = this.regionManager.countEntities(current);
+            int[] result = regionManager().countEntities(current);
             count[CAP_ENTITY] += result[CAP_ENTITY];
             count[CAP_ANIMAL] += result[CAP_ANIMAL];
             count[CAP_MONSTER] += result[CAP_MONSTER];
@@ -1273,7 +1386,7 @@ public class Plot {
         for (Plot current : getConnectedPlots()) {
             List<PlotPlayer<?>> players = current.getPlayersInPlot();
             for (PlotPlayer<?> pp : players) {
-                this.plotListener.plotExit(pp, current);
+                plotListener().plotExit(pp, current);
             }
 
             if (Settings.Backup.DELETE_ON_UNCLAIM) {
@@ -1286,7 +1399,7 @@ public class Plot {
             current.setOwnerAbs(null);
             current.settings = null;
             for (final PlotPlayer<?> pp : players) {
-                this.plotListener.plotEntry(pp, current);
+                plotListener().plotEntry(pp, current);
             }
         }
         return true;
@@ -1301,7 +1414,7 @@ public class Plot {
                 MathMan.average(bot.getY(), top.getY()),
                 MathMan.average(bot.getZ(), top.getZ())
         );
-        this.worldUtil.getHighestBlock(getWorldName(), location.getX(), location.getZ(), y -> {
+        worldUtil().getHighestBlock(getWorldName(), location.getX(), location.getZ(), y -> {
             int height = y;
             if (area.allowSigns()) {
                 height = Math.max(y, getManager().getSignLoc(this).getY());
@@ -1332,7 +1445,7 @@ public class Plot {
                 MathMan.average(bot.getY(), top.getY()),
                 MathMan.average(bot.getZ(), top.getZ())
         );
-        int y = this.worldUtil.getHighestBlockSynchronous(getWorldName(), location.getX(), location.getZ());
+        int y = worldUtil().getHighestBlockSynchronous(getWorldName(), location.getX(), location.getZ());
         if (area.allowSigns()) {
             y = Math.max(y, getManager().getSignLoc(this).getY());
         }
@@ -1351,7 +1464,7 @@ public class Plot {
                 .getX();
         int z = largest.getMinimumPoint().getZ() - 1;
         PlotManager manager = getManager();
-        int y = isLoaded() ? this.worldUtil.getHighestBlockSynchronous(getWorldName(), x, z) : 62;
+        int y = isLoaded() ? worldUtil().getHighestBlockSynchronous(getWorldName(), x, z) : 62;
         if (area.allowSigns() && (y <= 0 || y >= 255)) {
             y = Math.max(y, manager.getSignLoc(this).getY() - 1);
         }
@@ -1366,7 +1479,7 @@ public class Plot {
         int z = largest.getMinimumPoint().getZ() - 1;
         PlotManager manager = getManager();
         if (isLoaded()) {
-            this.worldUtil.getHighestBlock(getWorldName(), x, z, y -> {
+            worldUtil().getHighestBlock(getWorldName(), x, z, y -> {
                 int height = y;
                 if (area.allowSigns() && (y <= 0 || y >= 255)) {
                     height = Math.max(y, manager.getSignLoc(this).getY() - 1);
@@ -1409,9 +1522,9 @@ public class Plot {
                             home.getYaw(),
                             home.getPitch()
                     );
-            if (!this.worldUtil.getBlockSynchronous(location).getBlockType().getMaterial().isAir()) {
+            if (!worldUtil().getBlockSynchronous(location).getBlockType().getMaterial().isAir()) {
                 location = location.withY(
-                        Math.max(1 + this.worldUtil.getHighestBlockSynchronous(
+                        Math.max(1 + worldUtil().getHighestBlockSynchronous(
                                 this.getWorldName(),
                                 location.getX(),
                                 location.getZ()
@@ -1449,9 +1562,9 @@ public class Plot {
                             home.getYaw(),
                             home.getPitch()
                     );
-            this.worldUtil.getBlock(location, block -> {
+            worldUtil().getBlock(location, block -> {
                 if (!block.getBlockType().getMaterial().isAir()) {
-                    this.worldUtil.getHighestBlock(this.getWorldName(), location.getX(), location.getZ(),
+                    worldUtil().getHighestBlock(this.getWorldName(), location.getX(), location.getZ(),
                             y -> result.accept(location.withY(Math.max(1 + y, bottom.getY())))
                     );
                 } else {
@@ -1517,7 +1630,7 @@ public class Plot {
                 z = bot.getZ() + loc.getZ();
             }
             int y = loc.getY() < 1
-                    ? (isLoaded() ? this.worldUtil.getHighestBlockSynchronous(plot.getWorldName(), x, z) + 1 : 63)
+                    ? (isLoaded() ? worldUtil().getHighestBlockSynchronous(plot.getWorldName(), x, z) + 1 : 63)
                     : loc.getY();
             return Location.at(plot.getWorldName(), x, y, z);
         }
@@ -1557,7 +1670,7 @@ public class Plot {
             }
             if (loc.getY() < 1) {
                 if (isLoaded()) {
-                    this.worldUtil.getHighestBlock(
+                    worldUtil().getHighestBlock(
                             plot.getWorldName(),
                             x,
                             z,
@@ -1688,18 +1801,18 @@ public class Plot {
             Schematic sch;
             try {
                 if (schematic == null || schematic.isEmpty()) {
-                    sch = schematicHandler.getSchematic(plotworld.getSchematicFile());
+                    sch = schematicHandler().getSchematic(plotworld.getSchematicFile());
                 } else {
-                    sch = schematicHandler.getSchematic(schematic);
+                    sch = schematicHandler().getSchematic(schematic);
                     if (sch == null) {
-                        sch = schematicHandler.getSchematic(plotworld.getSchematicFile());
+                        sch = schematicHandler().getSchematic(plotworld.getSchematicFile());
                     }
                 }
             } catch (SchematicHandler.UnsupportedFormatException e) {
                 e.printStackTrace();
                 return true;
             }
-            schematicHandler.paste(sch, this, 0, 1, 0, Settings.Schematics.PASTE_ON_TOP, player, new RunnableVal<>() {
+            schematicHandler().paste(sch, this, 0, 1, 0, Settings.Schematics.PASTE_ON_TOP, player, new RunnableVal<>() {
                 @Override
                 public void run(Boolean value) {
                     if (value) {
@@ -1720,7 +1833,7 @@ public class Plot {
      * @param result consumer to pass biome to when found
      */
     public void getBiome(Consumer<BiomeType> result) {
-        this.getCenter(location -> this.worldUtil.getBiome(location.getWorldName(), location.getX(), location.getZ(), result));
+        this.getCenter(location -> worldUtil().getBiome(location.getWorldName(), location.getX(), location.getZ(), result));
     }
 
     //TODO Better documentation needed.
@@ -1732,7 +1845,7 @@ public class Plot {
     @Deprecated
     public BiomeType getBiomeSynchronous() {
         final Location location = this.getCenterSynchronous();
-        return this.worldUtil.getBiomeSynchronous(location.getWorldName(), location.getX(), location.getZ());
+        return worldUtil().getBiomeSynchronous(location.getWorldName(), location.getX(), location.getZ());
     }
 
     /**
@@ -1860,7 +1973,9 @@ public class Plot {
         if (!this.isMerged()) {
             return new Location[]{this.getBottomAbs(), this.getTopAbs()};
         }
-        return RegionUtil.getCorners(this.getWorldName(), this.getRegions());
+        final PlotMergeGroup group = this.getMergeGroup();
+        this.getRegions(group);
+        return RegionUtil.getCorners(this.getWorldName(), group.getBoundingBox());
     }
 
     /**
@@ -1904,7 +2019,7 @@ public class Plot {
      * @return success or not
      */
     public boolean removeDenied(UUID uuid) {
-        if (uuid == DBFunc.EVERYONE && !denied.contains(uuid)) {
+        if (uuid == DBFunc.EVERYONE && !deniedView().contains(uuid)) {
             boolean result = false;
             for (UUID other : new HashSet<>(getDenied())) {
                 result = rmvDenied(other) || result;
@@ -1917,6 +2032,7 @@ public class Plot {
     private boolean rmvDenied(UUID uuid) {
         for (Plot current : this.getConnectedPlots()) {
             if (current.getDenied().remove(uuid)) {
+                current.invalidateAccessCache();
                 DBFunc.removeDenied(current, uuid);
             } else {
                 return false;
@@ -1933,7 +2049,7 @@ public class Plot {
      * @return success or not
      */
     public boolean removeTrusted(UUID uuid) {
-        if (uuid == DBFunc.EVERYONE && !trusted.contains(uuid)) {
+        if (uuid == DBFunc.EVERYONE && !trustedView().contains(uuid)) {
             boolean result = false;
             for (UUID other : new HashSet<>(getTrusted())) {
                 result = rmvTrusted(other) || result;
@@ -1946,6 +2062,8 @@ public class Plot {
     private boolean rmvTrusted(UUID uuid) {
         for (Plot plot : this.getConnectedPlots()) {
             if (plot.getTrusted().remove(uuid)) {
+                plot.invalidateAccessCache();
+                plot.getArea().updateAdded(plot, uuid);
                 DBFunc.removeTrusted(plot, uuid);
             } else {
                 return false;
@@ -1978,6 +2096,8 @@ public class Plot {
     private boolean rmvMember(UUID uuid) {
         for (Plot current : this.getConnectedPlots()) {
             if (current.getMembers().remove(uuid)) {
+                current.invalidateAccessCache();
+                current.getArea().updateAdded(current, uuid);
                 DBFunc.removeMember(current, uuid);
             } else {
                 return false;
@@ -2041,7 +2161,9 @@ public class Plot {
             if (name.equals(alias)) {
                 return;
             }
+            final String previous = current.getAlias();
             current.getSettings().setAlias(alias);
+            current.getArea().updateAlias(current, previous);
             DBFunc.setAlias(current, alias);
         }
     }
@@ -2066,17 +2188,16 @@ public class Plot {
                     this.origin.origin = base;
                     other.origin = base;
                     this.origin = base;
-                    connected_cache = null;
                 }
             } else {
                 if (this.origin != null) {
                     this.origin.origin = null;
                     this.origin = null;
                 }
-                connected_cache = null;
             }
             DBFunc.setMerged(this, this.getSettings().getMerged());
-            regions_cache = null;
+            this.area.invalidateMergeGroup(this.id);
+            this.area.invalidateMergeGroup(this.id.getRelative(direction));
         }
     }
 
@@ -2105,14 +2226,28 @@ public class Plot {
      * @param merged set the plot's merged plots
      */
     public void setMerged(boolean[] merged) {
+        final boolean[] previous = this.getSettings().getMerged();
         this.getSettings().setMerged(merged);
         DBFunc.setMerged(this, merged);
         clearCache();
+        if (this.area == null) {
+            return;
+        }
+        // Neighbours that joined or left the merge group still have their old group cached
+        for (int i = 0; i < 4; i++) {
+            if (previous[i] != merged[i]) {
+                final Plot other = this.area.getOwnedPlotAbs(this.id.getRelative(Direction.getFromIndex(i)));
+                if (other != null) {
+                    other.clearCache();
+                }
+            }
+        }
     }
 
     public void clearCache() {
-        connected_cache = null;
-        regions_cache = null;
+        if (this.area != null) {
+            this.area.invalidateMergeGroup(this.id);
+        }
         if (this.origin != null) {
             this.origin.origin = null;
             this.origin = null;
@@ -2166,11 +2301,11 @@ public class Plot {
                 flagContainer2.addAll(flagContainer1.getFlagMap().values());
             }
             if (!greater) {
-                this.flagContainer.clearLocal();
-                this.flagContainer.addAll(flagContainer2.getFlagMap().values());
+                flagContainer1.clearLocal();
+                flagContainer1.addAll(flagContainer2.getFlagMap().values());
             }
-            plot.flagContainer.clearLocal();
-            plot.flagContainer.addAll(this.flagContainer.getFlagMap().values());
+            flagContainer2.clearLocal();
+            flagContainer2.addAll(flagContainer1.getFlagMap().values());
         }
         if (!this.getAlias().isEmpty()) {
             plot.setAlias(this.getAlias());
@@ -2227,9 +2362,9 @@ public class Plot {
 
     /**
      * Gets a set of plots connected (and including) this plot<br>
-     * - This result is cached globally
+     * - This result is cached per merge group in the plot area
      *
-     * @return a Set of Plots connected to this Plot
+     * @return an immutable Set of Plots connected to this Plot
      */
     public Set<Plot> getConnectedPlots() {
         if (this.settings == null) {
@@ -2238,11 +2373,31 @@ public class Plot {
         if (!this.isMerged()) {
             return Collections.singleton(this);
         }
-        if (connected_cache != null && connected_cache.contains(this)) {
-            return connected_cache;
+        return this.getMergeGroup().getPlots();
+    }
+
+    /**
+     * Get the merge group of this plot. The group is cached in the plot area
+     * if this plot is the instance stored in the area.
+     *
+     * @return merge group
+     */
+    private @NonNull PlotMergeGroup getMergeGroup() {
+        final boolean cacheable = this.area != null && this.area.getOwnedPlotAbs(this.id) == this;
+        if (!cacheable) {
+            return new PlotMergeGroup(this.computeConnectedPlots());
+        }
+        PlotMergeGroup group = this.area.getMergeGroup(this.id);
+        if (group != null) {
+            return group;
         }
-        regions_cache = null;
+        final long version = this.area.getMergeGroupVersion();
+        group = new PlotMergeGroup(this.computeConnectedPlots());
+        this.area.cacheMergeGroup(group, version);
+        return group;
+    }
 
+    private @NonNull Set<Plot> computeConnectedPlots() {
         HashSet<Plot> tmpSet = new HashSet<>();
         tmpSet.add(this);
         Plot tmp;
@@ -2346,31 +2501,36 @@ public class Plot {
                 }
             }
         }
-        connected_cache = tmpSet;
         return tmpSet;
     }
 
     /**
      * This will combine each plot into effective rectangular regions<br>
-     * - This result is cached globally<br>
+     * - This result is cached per merge group in the plot area<br>
      * - Useful for handling non rectangular shapes
      *
      * @return all regions within the plot
      */
     public @NonNull Set<CuboidRegion> getRegions() {
-        if (regions_cache != null && connected_cache != null && connected_cache.contains(this)) {
-            return regions_cache;
-        }
         if (!this.isMerged()) {
             Location pos1 = this.getBottomAbs();
             Location pos2 = this.getTopAbs();
-            connected_cache = Sets.newHashSet(this);
             CuboidRegion rg = new CuboidRegion(pos1.getBlockVector3(), pos2.getBlockVector3());
-            regions_cache = Collections.singleton(rg);
-            return regions_cache;
+            return Collections.singleton(rg);
+        }
+        return this.getRegions(this.getMergeGroup());
+    }
+
+    private @NonNull Set<CuboidRegion> getRegions(final @NonNull PlotMergeGroup group) {
+        final Set<CuboidRegion> cached = group.getRegions();
+        if (cached != null) {
+            return cached;
         }
-        Set<Plot> plots = this.getConnectedPlots();
-        Set<CuboidRegion> regions = regions_cache = new HashSet<>();
+        return group.setRegions(this.computeRegions(group.getPlots()));
+    }
+
+    private @NonNull Set<CuboidRegion> computeRegions(final @NonNull Set<Plot> plots) {
+        Set<CuboidRegion> regions = new HashSet<>();
         Set<PlotId> visited = new HashSet<>();
         for (Plot current : plots) {
             if (visited.contains(current.getId())) {
@@ -2518,8 +2678,8 @@ public class Plot {
     public void reEnter() {
         TaskManager.runTaskLater(() -> {
             for (PlotPlayer<?> pp : Plot.this.getPlayersInPlot()) {
-                this.plotListener.plotExit(pp, Plot.this);
-                this.plotListener.plotEntry(pp, Plot.this);
+                plotListener().plotExit(pp, Plot.this);
+                plotListener().plotEntry(pp, Plot.this);
             }
         }, TaskTime.ticks(1L));
     }
@@ -2561,7 +2721,7 @@ public class Plot {
      */
     public void teleportPlayer(final PlotPlayer<?> player, TeleportCause cause, Consumer<Boolean> resultConsumer) {
         Plot plot = this.getBasePlot(false);
-        Result result = this.eventDispatcher.callTeleport(player, player.getLocation(), plot).getEventResult();
+        Result result = eventDispatcher().callTeleport(player, player.getLocation(), plot).getEventResult();
         if (result == Result.DENY) {
             player.sendMessage(
                     TranslatableCaption.of("events.event_denied"),
@@ -2678,11 +2838,11 @@ public class Plot {
                     lesserPlot.getPlotModificationManager().removeRoadSouth(queue);
                     Plot diagonal = greaterPlot.getRelative(Direction.EAST);
                     if (diagonal.isMerged(Direction.NORTHWEST)) {
-                        lesserPlot.plotModificationManager.removeRoadSouthEast(queue);
+                        lesserPlot.getPlotModificationManager().removeRoadSouthEast(queue);
                     }
                     Plot below = greaterPlot.getRelative(Direction.WEST);
                     if (below.isMerged(Direction.NORTHEAST)) {
-                        below.getRelative(Direction.NORTH).plotModificationManager.removeRoadSouthEast(queue);
+                        below.getRelative(Direction.NORTH).getPlotModificationManager().removeRoadSouthEast(queue);
                     }
                 }
             }
@@ -2702,9 +2862,9 @@ public class Plot {
                     //lesserPlot.removeSign();
                     Plot diagonal = greaterPlot.getRelative(Direction.SOUTH);
                     if (diagonal.isMerged(Direction.NORTHWEST)) {
-                        lesserPlot.plotModificationManager.removeRoadSouthEast(queue);
+                        lesserPlot.getPlotModificationManager().removeRoadSouthEast(queue);
                     }
-                    lesserPlot.plotModificationManager.removeRoadEast(queue);
+                    lesserPlot.getPlotModificationManager().removeRoadEast(queue);
                 }
                 Plot below = greaterPlot.getRelative(Direction.NORTH);
                 if (below.isMerged(Direction.SOUTHWEST)) {
@@ -2734,7 +2894,7 @@ public class Plot {
      * @return The flag value
      */
     public @NonNull <T> T getFlag(final @NonNull Class<? extends PlotFlag<T, ?>> flagClass) {
-        return this.flagContainer.getFlag(flagClass).getValue();
+        return this.getReadFlagContainer().getFlag(flagClass).getValue();
     }
 
     /**
@@ -2749,7 +2909,7 @@ public class Plot {
      */
     public @NonNull <T, V extends PlotFlag<T, ?>> T getFlag(final @NonNull V flag) {
         final Class<?> flagClass = flag.getClass();
-        final PlotFlag<?, ?> flagInstance = this.flagContainer.getFlagErased(flagClass);
+        final PlotFlag<?, ?> flagInstance = this.getReadFlagContainer().getFlagErased(flagClass);
         return FlagContainer.<T, V>castUnsafe(flagInstance).getValue();
     }
 
@@ -2996,6 +3156,39 @@ public class Plot {
      * @return Flag container
      */
     public @NonNull FlagContainer getFlagContainer() {
+        FlagContainer flagContainer = this.flagContainer;
+        if (flagContainer == null) {
+            synchronized (this) {
+                flagContainer = this.flagContainer;
+                if (flagContainer == null) {
+                    flagContainer = new FlagContainer(this.area == null ? null : this.area.getFlagContainer());
+                    this.flagContainer = flagContainer;
+                }
+            }
+        }
+        return flagContainer;
+    }
+
+    /**
+     * Get the flag container to look up flag values in, without creating
+     * a flag container for plots that do not have one yet.
+     *
+     * @return The plot flag container, or the container of the area
+     */
+    private @NonNull FlagContainer getReadFlagContainer() {
+        final FlagContainer flagContainer = this.flagContainer;
+        if (flagContainer != null) {
+            return flagContainer;
+        }
+        return this.area == null ? GlobalFlagContainer.getInstance() : this.area.getFlagContainer();
+    }
+
+    /**
+     * Get the flag container of this plot without creating it.
+     *
+     * @return the flag container, or {@code null} if this plot never had flags of its own
+     */
+    @Nullable FlagContainer localFlagContainer() {
         return this.flagContainer;
     }
 
@@ -3006,7 +3199,7 @@ public class Plot {
      * @return Plot comment container
      */
     public @NonNull PlotCommentContainer getPlotCommentContainer() {
-        return this.plotCommentContainer;
+        return new PlotCommentContainer(this);
     }
 
     /**
@@ -3015,7 +3208,27 @@ public class Plot {
      * @return Plot modification manager
      */
     public @NonNull PlotModificationManager getPlotModificationManager() {
-        return this.plotModificationManager;
+        return new PlotModificationManager(this);
+    }
+
+    private static @NonNull EventDispatcher eventDispatcher() {
+        return PlotSquared.get().getEventDispatcher();
+    }
+
+    private static @NonNull PlotListener plotListener() {
+        return PlotSquared.get().getPlotListener();
+    }
+
+    private static @NonNull RegionManager regionManager() {
+        return PlotSquared.platform().regionManager();
+    }
+
+    private static @NonNull WorldUtil worldUtil() {
+        return PlotSquared.platform().worldUtil();
+    }
+
+    private static @NonNull SchematicHandler schematicHandler() {
+        return PlotSquared.platform().injector().getInstance(SchematicHandler.class);
     }
 
 }
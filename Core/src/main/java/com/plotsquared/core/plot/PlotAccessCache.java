@@ -0,0 +1,85 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *                  Copyright (C) 2021 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-plot cache of the access decisions made by {@link Plot#isOwner(UUID)},
+ * {@link Plot#isAdded(UUID)} and {@link Plot#isDenied(UUID)}, keyed by player.
+ * <p>
+ * A cache is only valid for the access version of the area and the presence version of
+ * the player manager it was created with. The plot drops its cache when its trusted
+ * players, members or denied players change.
+ */
+final class PlotAccessCache {
+
+    static final int OWNER = 1;
+    static final int ADDED = 1 << 1;
+    static final int DENIED = 1 << 2;
+
+    /**
+     * Players are rarely checked against more than a handful of plots at once, so the
+     * cache is simply reset rather than evicting single entries once it grows this large
+     */
+    private static final int MAX_ENTRIES = 256;
+
+    private final Map<UUID, Byte> decisions = new ConcurrentHashMap<>();
+    private final long accessVersion;
+    private final long presenceVersion;
+
+    PlotAccessCache(final long accessVersion, final long presenceVersion) {
+        this.accessVersion = accessVersion;
+        this.presenceVersion = presenceVersion;
+    }
+
+    boolean isValid(final long accessVersion, final long presenceVersion) {
+        return this.accessVersion == accessVersion && this.presenceVersion == presenceVersion;
+    }
+
+    /**
+     * Get the cached decision for a player
+     *
+     * @param uuid player
+     * @return the decision bits, or {@code -1} if the player has not been checked yet
+     */
+    int get(final @NonNull UUID uuid) {
+        final Byte decision = this.decisions.get(uuid);
+        return decision == null ? -1 : decision;
+    }
+
+    void put(final @NonNull UUID uuid, final int decision) {
+        if (this.decisions.size() >= MAX_ENTRIES) {
+            this.decisions.clear();
+        }
+        this.decisions.put(uuid, (byte) decision);
+    }
+
+}
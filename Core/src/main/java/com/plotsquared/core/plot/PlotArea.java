@@ -38,6 +38,7 @@ import com.plotsquared.core.configuration.caption.CaptionUtility;
 import com.plotsquared.core.configuration.caption.LocaleHolder;
 import com.plotsquared.core.configuration.caption.TranslatableCaption;
 import com.plotsquared.core.configuration.file.YamlConfiguration;
+import com.plotsquared.core.database.DBFunc;
 import com.plotsquared.core.generator.GridPlotWorld;
 import com.plotsquared.core.generator.IndependentPlotGenerator;
 import com.plotsquared.core.inject.annotations.WorldConfig;
@@ -60,6 +61,7 @@ import com.plotsquared.core.util.MathMan;
 import com.plotsquared.core.util.PlotExpression;
 import com.plotsquared.core.util.RegionUtil;
 import com.plotsquared.core.util.StringMan;
+import com.plotsquared.core.util.entity.EntityCategories;
 import com.sk89q.worldedit.math.BlockVector2;
 import com.sk89q.worldedit.math.BlockVector3;
 import com.sk89q.worldedit.regions.CuboidRegion;
@@ -88,6 +90,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 /**
@@ -104,6 +107,23 @@ public abstract class PlotArea {
     }
 
     protected final ConcurrentHashMap<PlotId, Plot> plots = new ConcurrentHashMap<>();
+    /**
+     * Owner index of the claimed plots
+     */
+    private final PlotOwnerIndex ownerIndex = new PlotOwnerIndex();
+    private final PlotSearchIndex searchIndex = new PlotSearchIndex();
+    private final PlotOccupancyIndex occupancyIndex = new PlotOccupancyIndex();
+    private final PlotEntityIndex entityIndex = new PlotEntityIndex();
+    /**
+     * Cached merge groups, stored under the id of every member
+     */
+    private final ConcurrentHashMap<PlotId, PlotMergeGroup> mergeGroups = new ConcurrentHashMap<>();
+    private final AtomicLong mergeGroupVersion = new AtomicLong();
+    /**
+     * Changes whenever cached access decisions of plots in this area may have become stale
+     */
+    private final AtomicLong accessVersion = new AtomicLong();
+    private volatile Consumer<PlotId> plotLayoutListener;
     @NonNull
     private final String worldName;
     private final String id;
@@ -614,12 +634,11 @@ public abstract class PlotArea {
      * @return the base plot or null
      */
     public @Nullable Plot getOwnedPlot(final @NonNull Location location) {
-        final PlotId pid =
-                this.getPlotManager().getPlotId(location.getX(), location.getY(), location.getZ());
-        if (pid == null) {
+        final long pid = this.getPlotManager().getPlotIdPacked(location.getX(), location.getY(), location.getZ());
+        if (pid == PlotId.NONE_PACKED) {
             return null;
         }
-        Plot plot = this.plots.get(pid);
+        Plot plot = getOwnedPlotAbs(pid);
         return plot == null ? null : plot.getBasePlot(false);
     }
 
@@ -630,12 +649,25 @@ public abstract class PlotArea {
      * @return Plot or null
      */
     public @Nullable Plot getOwnedPlotAbs(final @NonNull Location location) {
-        final PlotId pid =
-                this.getPlotManager().getPlotId(location.getX(), location.getY(), location.getZ());
-        if (pid == null) {
+        final long pid = this.getPlotManager().getPlotIdPacked(location.getX(), location.getY(), location.getZ());
+        if (pid == PlotId.NONE_PACKED) {
             return null;
         }
-        return this.plots.get(pid);
+        return getOwnedPlotAbs(pid);
+    }
+
+    /**
+     * Get the id of the plot at a block position without allocating a {@link Location}. Roads
+     * between merged plots resolve to a plot, as with {@link PlotManager#getPlotIdPacked(int, int, int)}.
+     *
+     * @param world the world name, which decides the plot in areas spanning several worlds
+     * @param x     block x
+     * @param y     block y
+     * @param z     block z
+     * @return the plot id, or null if the position is not in a plot
+     */
+    public @Nullable PlotId getPlotId(final @NonNull String world, final int x, final int y, final int z) {
+        return PlotId.unpack(this.getPlotManager().getPlotIdPacked(x, y, z));
     }
 
     /**
@@ -648,6 +680,32 @@ public abstract class PlotArea {
         return this.plots.get(id);
     }
 
+    /**
+     * Get the owned Plot at the given plot coordinates. IDs near the origin are
+     * interned by {@link PlotId#of(int, int)}, so this does not allocate on the common path.
+     *
+     * @param x the plot x coordinate
+     * @param y the plot y coordinate
+     * @return the plot or null
+     */
+    public @Nullable Plot getOwnedPlotAbs(final int x, final int y) {
+        return this.plots.get(PlotId.of(x, y));
+    }
+
+    /**
+     * Get the owned Plot at a packed plot id.
+     *
+     * @param packedId the id, as created by {@link PlotId#pack(int, int)}
+     * @return the plot or null, also if the id is {@link PlotId#NONE_PACKED}
+     * @see PlotManager#getPlotIdPacked(int, int, int)
+     */
+    public @Nullable Plot getOwnedPlotAbs(final long packedId) {
+        if (packedId == PlotId.NONE_PACKED) {
+            return null;
+        }
+        return getOwnedPlotAbs(PlotId.unpackX(packedId), PlotId.unpackY(packedId));
+    }
+
     public @Nullable Plot getOwnedPlot(final @NonNull PlotId id) {
         Plot plot = this.plots.get(id);
         return plot == null ? null : plot.getBasePlot(false);
@@ -667,22 +725,190 @@ public abstract class PlotArea {
                 getRegionAbs() == null || this.region.contains(location.getBlockVector3()));
     }
 
+    /**
+     * Get the players currently inside a plot. Players in any part of a merged plot are included.
+     *
+     * @param plot a plot in this area
+     * @return the players inside the plot
+     * @see Plot#getPlayersInPlot()
+     */
+    public @NonNull List<PlotPlayer<?>> getPlayersInPlot(final @NonNull Plot plot) {
+        if (!plot.isMerged()) {
+            return new ArrayList<>(this.occupancyIndex.get(plot.getId()));
+        }
+        // A player is indexed under a single id, so the entries of the connected plots are disjoint
+        final List<PlotPlayer<?>> players = new ArrayList<>();
+        for (final Plot connected : plot.getConnectedPlots()) {
+            players.addAll(this.occupancyIndex.get(connected.getId()));
+        }
+        return players;
+    }
+
+    /**
+     * Update the occupancy of the plots in this area. This is called by the player
+     * whenever its current plot changes, and should not be called otherwise.
+     *
+     * @param player   the player
+     * @param previous the plot the player was in, or {@code null}
+     * @param current  the plot the player is now in, or {@code null}
+     */
+    public void updateOccupancy(
+            final @NonNull PlotPlayer<?> player,
+            final @Nullable Plot previous,
+            final @Nullable Plot current
+    ) {
+        if (previous != null && previous.getArea() == this) {
+            this.occupancyIndex.remove(previous.getId(), player);
+        }
+        if (current != null && current.getArea() == this) {
+            this.occupancyIndex.add(current.getId(), player);
+        }
+    }
+
+    /**
+     * Check whether the platform keeps the entity counters of this area up to date for a world, in
+     * which case {@link #getEntityCounts(String, PlotId)} may be used instead of counting the entities
+     * in the world.
+     *
+     * @param world the world name, see {@link Plot#getWorldName()}
+     * @return {@code true} if the entity counters of the world are tracked
+     */
+    public boolean isEntityCountTracked(final @NonNull String world) {
+        return this.entityIndex.isTracked(world);
+    }
+
+    /**
+     * Set whether the platform keeps the entity counters of this area up to date for a world. The
+     * counters of the world are cleared when tracking is disabled. This should only be called by the
+     * platform, before it counts the entities that are already in the world.
+     *
+     * @param world   the world name
+     * @param tracked whether the counters are tracked
+     */
+    public void setEntityCountTracked(final @NonNull String world, final boolean tracked) {
+        this.entityIndex.setTracked(world, tracked);
+    }
+
+    /**
+     * Update the entity counters of a plot. This is called by the platform whenever an entity is
+     * added to or removed from the area, or moves between plots, and should not be called otherwise.
+     * Updates for worlds that are not tracked are ignored.
+     *
+     * @param world   the world of the entity
+     * @param id      the id of the plot at the location of the entity
+     * @param capMask the caps the entity counts towards, see {@link EntityCategories#getCapMask}
+     * @param delta   {@code 1} if the entity was added, {@code -1} if it was removed
+     */
+    public void updateEntityCount(final @NonNull String world, final @NonNull PlotId id, final int capMask, final int delta) {
+        if (capMask != 0) {
+            this.entityIndex.update(world, id, capMask, delta);
+        }
+    }
+
+    /**
+     * Get the tracked entity counters of a single plot, ignoring merged plots.
+     *
+     * @param world the world name, see {@link Plot#getWorldName()}
+     * @param id    the plot id
+     * @return the counts, indexed by the {@code CAP_} constants in {@link EntityCategories}
+     * @see #isEntityCountTracked(String)
+     */
+    public int @NonNull [] getEntityCounts(final @NonNull String world, final @NonNull PlotId id) {
+        final int[] count = new int[EntityCategories.CAP_COUNT];
+        this.entityIndex.addTo(world, id, count);
+        return count;
+    }
+
+    /**
+     * Add the tracked entity counters of a single plot to the given array.
+     *
+     * @param world  the world name, see {@link Plot#getWorldName()}
+     * @param id     the plot id
+     * @param target array of length {@link EntityCategories#CAP_COUNT}
+     * @see #getEntityCounts(String, PlotId)
+     */
+    public void addEntityCounts(final @NonNull String world, final @NonNull PlotId id, final int @NonNull [] target) {
+        this.entityIndex.addTo(world, id, target);
+    }
+
+    /**
+     * Get the players that own at least one plot in this area, as stored in the
+     * database (see {@link Plot#getOwnerAbs()}).
+     *
+     * @return unmodifiable view of the plot owners
+     */
+    public @NonNull Set<UUID> getOwners() {
+        return this.ownerIndex.getOwners();
+    }
+
     public @NonNull Set<Plot> getPlotsAbs(final UUID uuid) {
         if (uuid == null) {
             return Collections.emptySet();
         }
-        final HashSet<Plot> myPlots = new HashSet<>();
-        forEachPlotAbs(value -> {
-            if (uuid.equals(value.getOwnerAbs())) {
-                myPlots.add(value);
+        final Set<PlotId> ids = this.ownerIndex.getOwned(uuid);
+        final HashSet<Plot> myPlots = new HashSet<>(ids.size());
+        for (final PlotId id : ids) {
+            final Plot plot = this.plots.get(id);
+            if (plot != null && uuid.equals(plot.getOwnerAbs())) {
+                myPlots.add(plot);
             }
-        });
+        }
         return myPlots;
     }
 
     public @NonNull Set<Plot> getPlots(final @NonNull UUID uuid) {
-        return getPlots().stream().filter(plot -> plot.isBasePlot() && plot.isOwner(uuid))
-                .collect(ImmutableSet.toImmutableSet());
+        if (DBFunc.SERVER.equals(uuid)) {
+            // Server plots are identified by flag rather than by their stored owner
+            return getPlots().stream().filter(plot -> plot.isBasePlot() && plot.isOwner(uuid))
+                    .collect(ImmutableSet.toImmutableSet());
+        }
+        final ImmutableSet.Builder<Plot> myPlots = ImmutableSet.builder();
+        for (final Plot plot : getPlotsAbs(uuid)) {
+            final Plot base = plot.getBasePlot(false);
+            if (base.isOwner(uuid)) {
+                myPlots.add(base);
+            }
+        }
+        return myPlots.build();
+    }
+
+    /**
+     * Get the claimed plots with the given alias.
+     *
+     * @param alias the alias, case insensitive
+     * @return the plots with the alias
+     */
+    public @NonNull Set<Plot> getPlotsByAlias(final @NonNull String alias) {
+        final Set<PlotId> ids = this.searchIndex.getByAlias(alias);
+        final HashSet<Plot> plots = new HashSet<>(ids.size());
+        for (final PlotId id : ids) {
+            final Plot plot = this.plots.get(id);
+            if (plot != null && alias.equalsIgnoreCase(plot.getAlias())) {
+                plots.add(plot);
+            }
+        }
+        return plots;
+    }
+
+    /**
+     * Get the claimed plots that the given player owns, is trusted on or is a member of,
+     * including the plots that trust or add {@link DBFunc#EVERYONE everyone}. Whether the
+     * player is actually added depends on more than that, see {@link Plot#isAdded(UUID)}.
+     *
+     * @param uuid the player
+     * @return the plots the player may be added to
+     */
+    public @NonNull Set<Plot> getPlotsAddedTo(final @NonNull UUID uuid) {
+        final HashSet<Plot> plots = new HashSet<>(this.getPlotsAbs(uuid));
+        for (final UUID key : new UUID[]{uuid, DBFunc.EVERYONE}) {
+            for (final PlotId id : this.searchIndex.getByAdded(key)) {
+                final Plot plot = this.plots.get(id);
+                if (plot != null && (plot.trustedView().contains(key) || plot.membersView().contains(key))) {
+                    plots.add(plot);
+                }
+            }
+        }
+        return plots;
     }
 
     /**
@@ -696,9 +922,9 @@ public abstract class PlotArea {
 
     public int getPlotCount(final @NonNull UUID uuid) {
         if (!Settings.Done.COUNTS_TOWARDS_LIMIT) {
-            return (int) getPlotsAbs(uuid).stream().filter(plot -> !DoneFlag.isDone(plot)).count();
+            return Math.max(0, this.ownerIndex.getOwnedCount(uuid) - this.ownerIndex.getDoneCount(uuid));
         }
-        return getPlotsAbs(uuid).size();
+        return this.ownerIndex.getOwnedCount(uuid);
     }
 
     /**
@@ -716,7 +942,10 @@ public abstract class PlotArea {
     //todo check if this method is needed in this class
 
     public boolean hasPlot(final @NonNull UUID uuid) {
-        return this.plots.entrySet().stream().anyMatch(entry -> entry.getValue().isOwner(uuid));
+        if (DBFunc.SERVER.equals(uuid)) {
+            return this.plots.entrySet().stream().anyMatch(entry -> entry.getValue().isOwner(uuid));
+        }
+        return getPlotsAbs(uuid).stream().anyMatch(plot -> plot.isOwner(uuid));
     }
 
     public int getPlotCount(final @Nullable PlotPlayer<?> player) {
@@ -825,12 +1054,6 @@ public abstract class PlotArea {
         return myPlots;
     }
 
-    private void forEachPlotAbs(Consumer<Plot> run) {
-        for (final Entry<PlotId, Plot> entry : this.plots.entrySet()) {
-            run.accept(entry.getValue());
-        }
-    }
-
     public void forEachBasePlot(Consumer<Plot> run) {
         for (final Plot plot : getPlots()) {
             if (plot.isBasePlot()) {
@@ -862,7 +1085,7 @@ public abstract class PlotArea {
                 metaDataAccess.set(plot);
             }
         }
-        return this.plots.put(plot.getId(), plot) == null;
+        return addPlotAbs(plot);
     }
 
     public Plot getNextFreePlot(final PlotPlayer<?> player, @Nullable PlotId start) {
@@ -898,6 +1121,9 @@ public abstract class PlotArea {
 
     public boolean addPlotIfAbsent(final @NonNull Plot plot) {
         if (this.plots.putIfAbsent(plot.getId(), plot) == null) {
+            this.ownerIndex.index(plot.getId(), plot);
+            this.searchIndex.index(plot.getId(), plot);
+            this.invalidateMergeGroups(plot.getId());
             for (PlotPlayer<?> pp : plot.getPlayersInPlot()) {
                 try (final MetaDataAccess<Plot> metaDataAccess = pp.accessTemporaryMetaData(
                         PlayerMetaDataKeys.TEMPORARY_LAST_PLOT)) {
@@ -910,7 +1136,15 @@ public abstract class PlotArea {
     }
 
     public boolean addPlotAbs(final @NonNull Plot plot) {
-        return this.plots.put(plot.getId(), plot) == null;
+        final Plot previous = this.plots.put(plot.getId(), plot);
+        if (previous != null) {
+            this.ownerIndex.unindex(plot.getId(), previous.getOwnerAbs());
+            this.searchIndex.unindex(plot.getId(), previous);
+        }
+        this.ownerIndex.index(plot.getId(), plot);
+        this.searchIndex.index(plot.getId(), plot);
+        this.invalidateMergeGroups(plot.getId());
+        return previous == null;
     }
 
     /**
@@ -997,7 +1231,188 @@ public abstract class PlotArea {
     }
 
     public boolean removePlot(final @NonNull PlotId id) {
-        return this.plots.remove(id) != null;
+        final Plot plot = this.plots.remove(id);
+        if (plot == null) {
+            return false;
+        }
+        this.ownerIndex.unindex(id, plot.getOwnerAbs());
+        this.searchIndex.unindex(id, plot);
+        this.invalidateMergeGroups(id);
+        return true;
+    }
+
+    /**
+     * Update the owner index after the stored owner of a plot has changed.
+     *
+     * @param plot          the plot
+     * @param previousOwner the owner the plot was indexed under
+     */
+    void updateOwner(final @NonNull Plot plot, final @Nullable UUID previousOwner) {
+        if (this.plots.get(plot.getId()) != plot) {
+            return;
+        }
+        this.ownerIndex.unindex(plot.getId(), previousOwner);
+        this.ownerIndex.index(plot.getId(), plot);
+        // Ownership of a merged plot is shared with the rest of its group
+        this.invalidateAccess();
+    }
+
+    /**
+     * Update the owner index after the {@link DoneFlag} of a plot has changed.
+     *
+     * @param plot the plot
+     */
+    void updateDone(final @NonNull Plot plot) {
+        if (this.plots.get(plot.getId()) == plot) {
+            this.ownerIndex.updateDone(plot);
+        }
+    }
+
+    /**
+     * Update the search index after the alias of a plot has changed.
+     *
+     * @param plot     the plot
+     * @param previous the alias the plot was indexed under
+     */
+    void updateAlias(final @NonNull Plot plot, final @NonNull String previous) {
+        if (this.plots.get(plot.getId()) == plot) {
+            this.searchIndex.updateAlias(plot.getId(), previous, plot.getAlias());
+        }
+    }
+
+    /**
+     * Update the search index after a player was trusted on, added to or
+     * removed from a plot.
+     *
+     * @param plot the plot
+     * @param uuid the player
+     */
+    void updateAdded(final @NonNull Plot plot, final @NonNull UUID uuid) {
+        if (this.plots.get(plot.getId()) == plot) {
+            this.searchIndex.updateAdded(plot, uuid);
+        }
+    }
+
+    /**
+     * Remove a plot from the search index before its trusted players and members
+     * are replaced, see {@link #indexSearch(Plot)}.
+     *
+     * @param plot the plot
+     */
+    void unindexSearch(final @NonNull Plot plot) {
+        if (this.plots.get(plot.getId()) == plot) {
+            this.searchIndex.unindex(plot.getId(), plot);
+        }
+    }
+
+    /**
+     * Add a plot to the search index after its trusted players and members were replaced.
+     *
+     * @param plot the plot
+     */
+    void indexSearch(final @NonNull Plot plot) {
+        if (this.plots.get(plot.getId()) == plot) {
+            this.searchIndex.index(plot.getId(), plot);
+        }
+    }
+
+    /**
+     * Get the cached merge group containing the given plot id.
+     *
+     * @param id the plot id
+     * @return the merge group, or null if it has not been cached
+     */
+    @Nullable PlotMergeGroup getMergeGroup(final @NonNull PlotId id) {
+        return this.mergeGroups.get(id);
+    }
+
+    /**
+     * Get the current merge group version. This must be read before a
+     * merge group is computed and passed to {@link #cacheMergeGroup(PlotMergeGroup, long)}.
+     *
+     * @return merge group version
+     */
+    long getMergeGroupVersion() {
+        return this.mergeGroupVersion.get();
+    }
+
+    /**
+     * Set a listener that is notified whenever a plot in this area is claimed, removed, merged or
+     * unlinked, i.e. whenever the plot id returned for locations in or around that plot may have
+     * changed. The listener receives the id of the plot and may be called from any thread.
+     *
+     * @param listener the listener, or {@code null} to remove it
+     */
+    public void setPlotLayoutListener(final @Nullable Consumer<PlotId> listener) {
+        this.plotLayoutListener = listener;
+    }
+
+    /**
+     * Get a counter that changes whenever the cached access decisions of plots in
+     * this area may be stale, see {@link PlotAccessCache}.
+     *
+     * @return access version
+     */
+    long getAccessVersion() {
+        return this.accessVersion.get();
+    }
+
+    /**
+     * Invalidate the cached access decisions of all plots in this area. This is needed
+     * whenever a change to one plot affects the access decisions of other plots, such
+     * as the owner of a merged plot changing.
+     */
+    void invalidateAccess() {
+        this.accessVersion.incrementAndGet();
+    }
+
+    /**
+     * Cache a merge group, unless any merge group has been invalidated since
+     * the given version was read.
+     *
+     * @param group   the merge group
+     * @param version the version read before the group was computed
+     */
+    void cacheMergeGroup(final @NonNull PlotMergeGroup group, final long version) {
+        if (this.mergeGroupVersion.get() != version) {
+            return;
+        }
+        for (final PlotId id : group.getIds()) {
+            this.mergeGroups.put(id, group);
+        }
+        if (this.mergeGroupVersion.get() != version) {
+            for (final PlotId id : group.getIds()) {
+                this.mergeGroups.remove(id, group);
+            }
+        }
+    }
+
+    /**
+     * Discard the cached merge group containing the given plot id.
+     *
+     * @param id the plot id
+     */
+    void invalidateMergeGroup(final @NonNull PlotId id) {
+        this.mergeGroupVersion.incrementAndGet();
+        this.accessVersion.incrementAndGet();
+        final PlotMergeGroup group = this.mergeGroups.remove(id);
+        if (group != null) {
+            for (final PlotId member : group.getIds()) {
+                this.mergeGroups.remove(member, group);
+            }
+        }
+        final Consumer<PlotId> listener = this.plotLayoutListener;
+        if (listener != null) {
+            listener.accept(id);
+        }
+    }
+
+    private void invalidateMergeGroups(final @NonNull PlotId id) {
+        this.invalidateMergeGroup(id);
+        this.invalidateMergeGroup(id.getRelative(Direction.NORTH));
+        this.invalidateMergeGroup(id.getRelative(Direction.EAST));
+        this.invalidateMergeGroup(id.getRelative(Direction.SOUTH));
+        this.invalidateMergeGroup(id.getRelative(Direction.WEST));
     }
 
     public boolean mergePlots(final @NonNull List<PlotId> plotIds, final boolean removeRoads) {
@@ -0,0 +1,104 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *                  Copyright (C) 2021 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import com.plotsquared.core.util.entity.EntityCategories;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counters of the entities inside the plots of a {@link PlotArea}, per cap (see the {@code CAP_}
+ * constants in {@link EntityCategories}), keyed by the world and the id of the plot at the entity's
+ * location. Counters are kept per world, as the plots of an area may span several worlds (see
+ * {@link com.plotsquared.core.plot.world.SinglePlotArea}).
+ * <p>
+ * The counters are maintained by the platform as entities are added to and removed from the world,
+ * which also covers chunks being loaded and unloaded. A world is tracked while it has an entry.
+ */
+final class PlotEntityIndex {
+
+    private final Map<String, Map<PlotId, int[]>> worlds = new ConcurrentHashMap<>();
+
+    boolean isTracked(final @NonNull String world) {
+        return this.worlds.containsKey(world);
+    }
+
+    /**
+     * Start or stop tracking the entities of a world. The counters of the world are dropped when
+     * tracking stops, starting to track an already tracked world keeps its counters.
+     *
+     * @param world   the world name
+     * @param tracked whether the world is tracked
+     */
+    void setTracked(final @NonNull String world, final boolean tracked) {
+        if (tracked) {
+            this.worlds.putIfAbsent(world, new ConcurrentHashMap<>());
+        } else {
+            this.worlds.remove(world);
+        }
+    }
+
+    void update(final @NonNull String world, final @NonNull PlotId id, final int capMask, final int delta) {
+        final Map<PlotId, int[]> counts = this.worlds.get(world);
+        if (counts == null) {
+            return;
+        }
+        counts.compute(id, (key, count) -> {
+            if (count == null) {
+                if (delta < 0) {
+                    return null;
+                }
+                count = new int[EntityCategories.CAP_COUNT];
+            }
+            for (int i = 0; i < EntityCategories.CAP_COUNT; i++) {
+                if ((capMask & 1 << i) != 0) {
+                    count[i] = Math.max(0, count[i] + delta);
+                }
+            }
+            return count[EntityCategories.CAP_ENTITY] == 0 ? null : count;
+        });
+    }
+
+    /**
+     * Add the counters of a plot to the given array.
+     *
+     * @param world  the world name
+     * @param id     the plot id
+     * @param target array of length {@link EntityCategories#CAP_COUNT}
+     */
+    void addTo(final @NonNull String world, final @NonNull PlotId id, final int @NonNull [] target) {
+        final Map<PlotId, int[]> counts = this.worlds.get(world);
+        final int[] count = counts == null ? null : counts.get(id);
+        if (count != null) {
+            for (int i = 0; i < EntityCategories.CAP_COUNT; i++) {
+                target[i] += count[i];
+            }
+        }
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *                  Copyright (C) 2021 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import com.plotsquared.core.plot.flag.FlagContainer;
+import com.plotsquared.core.plot.flag.PlotFlag;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Snapshot of how much per-plot state is actually held by a set of plots. Used by
+ * {@code /plot debug footprint} to see how many plots carry flags, added players and
+ * merge data of their own, and how many flag maps are shared between plots.
+ */
+public final class PlotFootprint {
+
+    private int plots;
+    private int flagContainers;
+    private int compactedFlagContainers;
+    private int sharedFlagMaps;
+    private int trusted;
+    private int members;
+    private int denied;
+    private int merged;
+
+    private PlotFootprint() {
+    }
+
+    /**
+     * Collect the footprint of the given plots
+     *
+     * @param plots plots to inspect
+     * @return footprint snapshot
+     */
+    public static @NonNull PlotFootprint of(final @NonNull Iterable<Plot> plots) {
+        final PlotFootprint footprint = new PlotFootprint();
+        final Set<Map<Class<?>, PlotFlag<?, ?>>> sharedMaps = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (final Plot plot : plots) {
+            footprint.plots++;
+            final FlagContainer container = plot.localFlagContainer();
+            if (container != null) {
+                footprint.flagContainers++;
+                if (container.isCompacted()) {
+                    footprint.compactedFlagContainers++;
+                    sharedMaps.add(container.getFlagMap());
+                }
+            }
+            if (!plot.trustedView().isEmpty()) {
+                footprint.trusted++;
+            }
+            if (!plot.membersView().isEmpty()) {
+                footprint.members++;
+            }
+            if (!plot.deniedView().isEmpty()) {
+                footprint.denied++;
+            }
+            if (plot.isMerged()) {
+                footprint.merged++;
+            }
+        }
+        footprint.sharedFlagMaps = sharedMaps.size();
+        return footprint;
+    }
+
+    public int getPlots() {
+        return this.plots;
+    }
+
+    /**
+     * @return number of plots with a flag container of their own
+     */
+    public int getFlagContainers() {
+        return this.flagContainers;
+    }
+
+    /**
+     * @return number of flag containers using a shared flag map
+     */
+    public int getCompactedFlagContainers() {
+        return this.compactedFlagContainers;
+    }
+
+    /**
+     * @return number of distinct shared flag maps used by the compacted containers
+     */
+    public int getSharedFlagMaps() {
+        return this.sharedFlagMaps;
+    }
+
+    /**
+     * @return number of plots with at least one trusted player
+     */
+    public int getTrusted() {
+        return this.trusted;
+    }
+
+    /**
+     * @return number of plots with at least one member
+     */
+    public int getMembers() {
+        return this.members;
+    }
+
+    /**
+     * @return number of plots with at least one denied player
+     */
+    public int getDenied() {
+        return this.denied;
+    }
+
+    /**
+     * @return number of merged plots
+     */
+    public int getMerged() {
+        return this.merged;
+    }
+
+}
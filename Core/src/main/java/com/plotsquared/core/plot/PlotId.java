@@ -38,6 +38,20 @@ import java.util.NoSuchElementException;
  */
 public final class PlotId {
 
+    /**
+     * Packed value used to signal that a coordinate does not map to any plot, e.g. because
+     * it lies on a road. No {@code PlotId} packs to this value in practice.
+     */
+    public static final long NONE_PACKED = Long.MIN_VALUE;
+
+    /**
+     * IDs within this distance of the origin are interned, as they make up the vast
+     * majority of lookups on any real server.
+     */
+    private static final int CACHE_RADIUS = 64;
+    private static final int CACHE_WIDTH = CACHE_RADIUS * 2;
+    private static final PlotId[] CACHE = new PlotId[CACHE_WIDTH * CACHE_WIDTH];
+
     private final int x;
     private final int y;
     private final int hash;
@@ -55,14 +69,72 @@ public final class PlotId {
     }
 
     /**
-     * Create a new plot ID instance
+     * Create a new plot ID instance. IDs close to the origin are shared instances,
+     * so callers must not rely on identity.
      *
      * @param x The plot x coordinate
      * @param y The plot y coordinate
-     * @return a new PlotId at x,y
+     * @return a PlotId at x,y
      */
     public static @NonNull PlotId of(final int x, final int y) {
-        return new PlotId(x, y);
+        final int cx = x + CACHE_RADIUS;
+        final int cy = y + CACHE_RADIUS;
+        if (cx < 0 || cy < 0 || cx >= CACHE_WIDTH || cy >= CACHE_WIDTH) {
+            return new PlotId(x, y);
+        }
+        final int index = cx * CACHE_WIDTH + cy;
+        // Racing writers may both create an instance; PlotId is immutable with final
+        // fields, so publishing either one is safe
+        PlotId id = CACHE[index];
+        if (id == null) {
+            CACHE[index] = id = new PlotId(x, y);
+        }
+        return id;
+    }
+
+    /**
+     * Pack plot coordinates into a single long, without allocating
+     *
+     * @param x The plot x coordinate
+     * @param y The plot y coordinate
+     * @return packed coordinates
+     * @see #unpack(long)
+     */
+    public static long pack(final int x, final int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Get the X component of packed coordinates
+     *
+     * @param packed Packed coordinates
+     * @return X component
+     */
+    public static int unpackX(final long packed) {
+        return (int) (packed >> 32);
+    }
+
+    /**
+     * Get the Y component of packed coordinates
+     *
+     * @param packed Packed coordinates
+     * @return Y component
+     */
+    public static int unpackY(final long packed) {
+        return (int) packed;
+    }
+
+    /**
+     * Get the plot ID for packed coordinates
+     *
+     * @param packed Packed coordinates, as created by {@link #pack(int, int)}
+     * @return Plot ID, or {@code null} if the value is {@link #NONE_PACKED}
+     */
+    public static @Nullable PlotId unpack(final long packed) {
+        if (packed == NONE_PACKED) {
+            return null;
+        }
+        return of(unpackX(packed), unpackY(packed));
     }
 
     /**
@@ -122,6 +194,16 @@ public final class PlotId {
         return of(this.getX(), this.getY());
     }
 
+    /**
+     * Get this ID packed into a single long
+     *
+     * @return Packed coordinates
+     * @see #pack(int, int)
+     */
+    public long pack() {
+        return pack(this.x, this.y);
+    }
+
     /**
      * Get the ID X component
      *
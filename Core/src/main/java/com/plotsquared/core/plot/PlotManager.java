@@ -56,6 +56,20 @@ public abstract class PlotManager {
 
     public abstract PlotId getPlotId(int x, int y, int z);
 
+    /**
+     * Get the (merge aware) plot id at a block position, packed with {@link PlotId#pack(int, int)}.
+     * Grid based managers override this to avoid allocating on hot event paths.
+     *
+     * @param x block x
+     * @param y block y
+     * @param z block z
+     * @return packed plot id, or {@link PlotId#NONE_PACKED} if the position is not in a plot
+     */
+    public long getPlotIdPacked(int x, int y, int z) {
+        final PlotId id = getPlotId(x, y, z);
+        return id == null ? PlotId.NONE_PACKED : id.pack();
+    }
+
     // If you have a circular plot, just return the corner if it were a square
     public abstract Location getPlotBottomLocAbs(@NonNull PlotId plotId);
 
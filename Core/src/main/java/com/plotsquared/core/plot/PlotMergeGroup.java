@@ -0,0 +1,122 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *                  Copyright (C) 2021 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import com.plotsquared.core.util.RegionUtil;
+import com.sk89q.worldedit.regions.CuboidRegion;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of a group of merged plots.
+ * <p>
+ * Groups are cached per {@link PlotArea} under the id of every member, and
+ * are discarded as a whole when the merge state of any member changes. The
+ * rectangular regions (and their bounding box) are only computed once per
+ * group, the first time they are requested.
+ */
+final class PlotMergeGroup {
+
+    private final Set<Plot> plots;
+    private final Set<PlotId> ids;
+    private volatile Regions regions;
+
+    PlotMergeGroup(final @NonNull Set<Plot> plots) {
+        this.plots = Collections.unmodifiableSet(plots);
+        final Set<PlotId> ids = new HashSet<>(plots.size());
+        for (final Plot plot : plots) {
+            ids.add(plot.getId());
+        }
+        this.ids = Collections.unmodifiableSet(ids);
+    }
+
+    /**
+     * Get the plots in this group
+     *
+     * @return immutable set of plots
+     */
+    @NonNull Set<Plot> getPlots() {
+        return this.plots;
+    }
+
+    /**
+     * Get the ids the plots had when the group was created.
+     *
+     * @return immutable set of plot ids
+     */
+    @NonNull Set<PlotId> getIds() {
+        return this.ids;
+    }
+
+    /**
+     * Get the rectangular regions of this group, if they have been computed.
+     *
+     * @return immutable set of regions, or null
+     */
+    @Nullable Set<CuboidRegion> getRegions() {
+        final Regions regions = this.regions;
+        return regions == null ? null : regions.regions;
+    }
+
+    /**
+     * Get the bounding box of all regions, if they have been computed.
+     *
+     * @return bounding box, or null
+     */
+    @Nullable CuboidRegion getBoundingBox() {
+        final Regions regions = this.regions;
+        return regions == null ? null : regions.boundingBox;
+    }
+
+    /**
+     * Store the computed regions of this group.
+     *
+     * @param regions the regions
+     * @return immutable view of the stored regions
+     */
+    @NonNull Set<CuboidRegion> setRegions(final @NonNull Set<CuboidRegion> regions) {
+        final Regions computed = new Regions(Collections.unmodifiableSet(regions));
+        this.regions = computed;
+        return computed.regions;
+    }
+
+    private static final class Regions {
+
+        private final Set<CuboidRegion> regions;
+        private final CuboidRegion boundingBox;
+
+        private Regions(final @NonNull Set<CuboidRegion> regions) {
+            this.regions = regions;
+            this.boundingBox = RegionUtil.getAxisAlignedBoundingBox(regions);
+        }
+
+    }
+
+}
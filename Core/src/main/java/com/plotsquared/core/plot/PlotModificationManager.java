@@ -78,12 +78,10 @@ public final class PlotModificationManager {
     private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + PlotModificationManager.class.getSimpleName());
 
     private final Plot plot;
-    private final ProgressSubscriberFactory subscriberFactory;
 
     @Inject
     PlotModificationManager(final @NonNull Plot plot) {
         this.plot = plot;
-        this.subscriberFactory = PlotSquared.platform().injector().getInstance(ProgressSubscriberFactory.class);
     }
 
     /**
@@ -138,6 +136,7 @@ public final class PlotModificationManager {
             if (plot.isMerged()) {
                 other.setMerged(plot.getMerged());
             }
+            other.getArea().unindexSearch(other);
             if (plot.members != null && !plot.members.isEmpty()) {
                 other.members = plot.members;
                 for (UUID member : plot.members) {
@@ -156,6 +155,8 @@ public final class PlotModificationManager {
                     DBFunc.setDenied(other, denied);
                 }
             }
+            other.getArea().indexSearch(other);
+            other.getArea().invalidateAccess();
         }
         // copy terrain
         final ArrayDeque<CuboidRegion> regions = new ArrayDeque<>(this.plot.getRegions());
@@ -474,11 +475,11 @@ public final class PlotModificationManager {
                 this.plot.updateWorldBorder();
             }
         }
-        Plot.connected_cache = null;
-        Plot.regions_cache = null;
+        this.plot.getArea().invalidateMergeGroup(this.plot.getId());
         this.plot.getTrusted().clear();
         this.plot.getMembers().clear();
         this.plot.getDenied().clear();
+        this.plot.invalidateAccessCache();
         this.plot.settings = new PlotSettings();
         if (this.plot.getArea().addPlot(this.plot)) {
             DBFunc.createPlotAndSettings(this.plot, () -> {
@@ -641,7 +642,8 @@ public final class PlotModificationManager {
             }
         }
         if (actor != null && Settings.QUEUE.NOTIFY_PROGRESS) {
-            queue.addProgressSubscriber(subscriberFactory.createWithActor(actor));
+            queue.addProgressSubscriber(PlotSquared.platform().injector().getInstance(ProgressSubscriberFactory.class)
+                    .createWithActor(actor));
         }
         if (queue.size() > 0) {
             queue.enqueue();
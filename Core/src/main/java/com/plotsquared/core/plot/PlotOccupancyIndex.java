@@ -0,0 +1,78 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *                  Copyright (C) 2021 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import com.plotsquared.core.player.PlotPlayer;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the players currently inside the plots of a {@link PlotArea}, keyed by
+ * the id of the plot stored as the player's current plot (see {@link PlotPlayer#getCurrentPlot()}).
+ * As the current plot is the base plot of the player's location, players standing anywhere
+ * in a merged plot share a single entry.
+ * <p>
+ * The index is kept up to date by the player whenever its current plot changes, which covers
+ * plot entry and exit, teleports, world changes and logouts.
+ */
+final class PlotOccupancyIndex {
+
+    private final Map<PlotId, Set<PlotPlayer<?>>> occupants = new ConcurrentHashMap<>();
+
+    void add(final @NonNull PlotId id, final @NonNull PlotPlayer<?> player) {
+        this.occupants.compute(id, (key, players) -> {
+            if (players == null) {
+                players = ConcurrentHashMap.newKeySet();
+            }
+            players.add(player);
+            return players;
+        });
+    }
+
+    void remove(final @NonNull PlotId id, final @NonNull PlotPlayer<?> player) {
+        this.occupants.computeIfPresent(id, (key, players) -> {
+            players.remove(player);
+            return players.isEmpty() ? null : players;
+        });
+    }
+
+    /**
+     * Get the players indexed under a plot id.
+     *
+     * @param id the plot id
+     * @return unmodifiable view of the players
+     */
+    @NonNull Collection<PlotPlayer<?>> get(final @NonNull PlotId id) {
+        final Set<PlotPlayer<?>> players = this.occupants.get(id);
+        return players == null ? Collections.emptySet() : Collections.unmodifiableSet(players);
+    }
+
+}
@@ -0,0 +1,147 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *                  Copyright (C) 2021 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import com.plotsquared.core.plot.flag.implementations.DoneFlag;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Secondary index of the claimed plots in a {@link PlotArea}, keyed by the
+ * owner as stored in the database (see {@link Plot#getOwnerAbs()}).
+ * <p>
+ * The index is kept up to date by the area when plots are added or removed,
+ * and by the plot when its owner or its {@link DoneFlag} changes.
+ */
+final class PlotOwnerIndex {
+
+    private final Map<UUID, Set<PlotId>> owned = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<PlotId>> done = new ConcurrentHashMap<>();
+
+    private static void add(final Map<UUID, Set<PlotId>> map, final UUID owner, final PlotId id) {
+        map.compute(owner, (key, ids) -> {
+            if (ids == null) {
+                ids = ConcurrentHashMap.newKeySet();
+            }
+            ids.add(id);
+            return ids;
+        });
+    }
+
+    private static void remove(final Map<UUID, Set<PlotId>> map, final UUID owner, final PlotId id) {
+        map.computeIfPresent(owner, (key, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    /**
+     * Index a plot under its current owner.
+     *
+     * @param id   the id the plot is stored under
+     * @param plot the plot
+     */
+    void index(final @NonNull PlotId id, final @NonNull Plot plot) {
+        final UUID owner = plot.getOwnerAbs();
+        if (owner == null) {
+            return;
+        }
+        add(this.owned, owner, id);
+        if (DoneFlag.isDone(plot)) {
+            add(this.done, owner, id);
+        } else {
+            remove(this.done, owner, id);
+        }
+    }
+
+    /**
+     * Remove a plot id from the entries of an owner.
+     *
+     * @param id    the id the plot is stored under
+     * @param owner the owner the plot was indexed under
+     */
+    void unindex(final @NonNull PlotId id, final @Nullable UUID owner) {
+        if (owner == null) {
+            return;
+        }
+        remove(this.owned, owner, id);
+        remove(this.done, owner, id);
+    }
+
+    /**
+     * Re-evaluate the done state of an indexed plot.
+     *
+     * @param plot the plot
+     */
+    void updateDone(final @NonNull Plot plot) {
+        final UUID owner = plot.getOwnerAbs();
+        if (owner == null) {
+            return;
+        }
+        if (DoneFlag.isDone(plot)) {
+            add(this.done, owner, plot.getId());
+        } else {
+            remove(this.done, owner, plot.getId());
+        }
+    }
+
+    /**
+     * Get the ids of all plots owned by the given owner.
+     *
+     * @param owner the owner
+     * @return unmodifiable view of the plot ids
+     */
+    @NonNull Set<PlotId> getOwned(final @NonNull UUID owner) {
+        final Set<PlotId> ids = this.owned.get(owner);
+        return ids == null ? Collections.emptySet() : Collections.unmodifiableSet(ids);
+    }
+
+    /**
+     * Get all owners that own at least one plot.
+     *
+     * @return unmodifiable view of the owners
+     */
+    @NonNull Set<UUID> getOwners() {
+        return Collections.unmodifiableSet(this.owned.keySet());
+    }
+
+    int getOwnedCount(final @NonNull UUID owner) {
+        final Set<PlotId> ids = this.owned.get(owner);
+        return ids == null ? 0 : ids.size();
+    }
+
+    int getDoneCount(final @NonNull UUID owner) {
+        final Set<PlotId> ids = this.done.get(owner);
+        return ids == null ? 0 : ids.size();
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *                  Copyright (C) 2021 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Inverted index of the claimed plots in a {@link PlotArea} by alias (case insensitive)
+ * and by the players that are trusted or added as a member. Owners are covered
+ * by the {@link PlotOwnerIndex}.
+ * <p>
+ * The index is kept up to date by the area when plots are added or removed, and by the
+ * plot when its alias, trusted players or members change.
+ */
+final class PlotSearchIndex {
+
+    private final Map<String, Set<PlotId>> aliases = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<PlotId>> added = new ConcurrentHashMap<>();
+
+    private static <K> void add(final Map<K, Set<PlotId>> map, final K key, final PlotId id) {
+        map.compute(key, (k, ids) -> {
+            if (ids == null) {
+                ids = ConcurrentHashMap.newKeySet();
+            }
+            ids.add(id);
+            return ids;
+        });
+    }
+
+    private static <K> void remove(final Map<K, Set<PlotId>> map, final K key, final PlotId id) {
+        map.computeIfPresent(key, (k, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private static <K> Set<PlotId> get(final Map<K, Set<PlotId>> map, final K key) {
+        final Set<PlotId> ids = map.get(key);
+        return ids == null ? Collections.emptySet() : Collections.unmodifiableSet(ids);
+    }
+
+    private static String normalize(final String alias) {
+        return alias.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Index a plot under its current alias, trusted players and members.
+     *
+     * @param id   the id the plot is stored under
+     * @param plot the plot
+     */
+    void index(final @NonNull PlotId id, final @NonNull Plot plot) {
+        this.updateAlias(id, "", plot.getAlias());
+        for (final UUID uuid : plot.trustedView()) {
+            add(this.added, uuid, id);
+        }
+        for (final UUID uuid : plot.membersView()) {
+            add(this.added, uuid, id);
+        }
+    }
+
+    /**
+     * Remove a plot from the entries of its current alias, trusted players and members.
+     *
+     * @param id   the id the plot is stored under
+     * @param plot the plot
+     */
+    void unindex(final @NonNull PlotId id, final @NonNull Plot plot) {
+        this.updateAlias(id, plot.getAlias(), "");
+        for (final UUID uuid : plot.trustedView()) {
+            remove(this.added, uuid, id);
+        }
+        for (final UUID uuid : plot.membersView()) {
+            remove(this.added, uuid, id);
+        }
+    }
+
+    void updateAlias(final @NonNull PlotId id, final @NonNull String previous, final @NonNull String alias) {
+        if (!previous.isEmpty()) {
+            remove(this.aliases, normalize(previous), id);
+        }
+        if (!alias.isEmpty()) {
+            add(this.aliases, normalize(alias), id);
+        }
+    }
+
+    /**
+     * Re-evaluate whether a plot is indexed under a player, after the player
+     * was trusted, added or removed.
+     *
+     * @param plot the plot
+     * @param uuid the player
+     */
+    void updateAdded(final @NonNull Plot plot, final @NonNull UUID uuid) {
+        if (plot.trustedView().contains(uuid) || plot.membersView().contains(uuid)) {
+            add(this.added, uuid, plot.getId());
+        } else {
+            remove(this.added, uuid, plot.getId());
+        }
+    }
+
+    /**
+     * Get the ids of the plots with the given alias.
+     *
+     * @param alias the alias, case insensitive
+     * @return unmodifiable view of the plot ids
+     */
+    @NonNull Set<PlotId> getByAlias(final @NonNull String alias) {
+        return get(this.aliases, normalize(alias));
+    }
+
+    /**
+     * Get the ids of the plots the given player is trusted on or a member of.
+     *
+     * @param uuid the player
+     * @return unmodifiable view of the plot ids
+     */
+    @NonNull Set<PlotId> getByAdded(final @NonNull UUID uuid) {
+        return get(this.added, uuid);
+    }
+
+}
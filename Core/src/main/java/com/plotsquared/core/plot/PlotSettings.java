@@ -45,9 +45,9 @@ import java.util.UUID;
 public class PlotSettings {
 
     /**
-     * Merged plots.
+     * Merged plots, one bit per direction (see {@link #getMerged(int)}).
      */
-    private boolean[] merged = new boolean[]{false, false, false, false};
+    private byte merged;
     /**
      * Plot alias.
      */
@@ -72,7 +72,7 @@ public class PlotSettings {
      * @return boolean merged
      */
     public boolean getMerged(int direction) {
-        return this.merged[direction];
+        return (this.merged & 1 << direction) != 0;
     }
 
     public Map<UUID, Integer> getRatings() {
@@ -87,8 +87,8 @@ public class PlotSettings {
     }
 
     public boolean setMerged(int direction, boolean merged) {
-        if (this.merged[direction] != merged) {
-            this.merged[direction] = merged;
+        if (getMerged(direction) != merged) {
+            this.merged ^= 1 << direction;
             return true;
         }
         return false;
@@ -98,11 +98,7 @@ public class PlotSettings {
         if (Direction.ALL == direction) {
             throw new IllegalArgumentException("You cannot use Direction.ALL in this method!");
         }
-        if (this.merged[direction.getIndex()] != merged) {
-            this.merged[direction.getIndex()] = merged;
-            return true;
-        }
-        return false;
+        return setMerged(direction.getIndex(), merged);
     }
 
     public BlockLoc getPosition() {
@@ -148,12 +144,28 @@ public class PlotSettings {
         this.comments.add(comment);
     }
 
+    /**
+     * Get the merged state in all four directions. The returned array is a copy,
+     * use {@link #setMerged(boolean[])} to apply changes.
+     *
+     * @return merged state, indexed as in {@link #getMerged(int)}
+     */
     public boolean[] getMerged() {
-        return this.merged;
+        final boolean[] merged = new boolean[4];
+        for (int i = 0; i < 4; i++) {
+            merged[i] = getMerged(i);
+        }
+        return merged;
     }
 
     public void setMerged(boolean[] merged) {
-        this.merged = merged;
+        byte bits = 0;
+        for (int i = 0; i < 4; i++) {
+            if (merged[i]) {
+                bits |= 1 << i;
+            }
+        }
+        this.merged = bits;
     }
 
     public String getAlias() {
@@ -52,23 +52,34 @@ import com.plotsquared.core.util.task.RunnableVal3;
 import com.plotsquared.core.util.task.TaskManager;
 import com.plotsquared.core.util.task.TaskTime;
 import net.kyori.adventure.text.minimessage.Template;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
 
 public class ExpireManager {
 
+    private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + ExpireManager.class.getSimpleName());
+
     public static ExpireManager IMP;
-    private final ConcurrentHashMap<UUID, Long> dates_cache;
+    /**
+     * Time each player was last seen, ordered by that time
+     */
+    private final ExpiryIndex lastSeen;
     private final ConcurrentHashMap<UUID, Long> account_age_cache;
     private final EventDispatcher eventDispatcher;
     private final ArrayDeque<ExpiryTask> tasks;
@@ -77,10 +88,11 @@ public class ExpireManager {
      * 0 = stopped, 1 = stopping, 2 = running
      */
     private int running;
+    private File indexFile;
 
     public ExpireManager(final @NonNull EventDispatcher eventDispatcher) {
         this.tasks = new ArrayDeque<>();
-        this.dates_cache = new ConcurrentHashMap<>();
+        this.lastSeen = new ExpiryIndex();
         this.account_age_cache = new ConcurrentHashMap<>();
         this.eventDispatcher = eventDispatcher;
     }
@@ -123,10 +135,74 @@ public class ExpireManager {
     }
 
     public long getTimestamp(UUID uuid) {
-        Long value = this.dates_cache.get(uuid);
+        Long value = this.lastSeen.get(uuid);
         return value == null ? 0 : value;
     }
 
+    /**
+     * Load the last seen times of players from a snapshot file, and use that file
+     * for {@link #saveIndex()}.
+     *
+     * @param file snapshot file
+     */
+    public void loadIndex(final @NonNull File file) {
+        this.indexFile = file;
+        try {
+            final int entries = this.lastSeen.load(file);
+            if (entries > 0) {
+                LOGGER.info("Loaded the last seen times of {} players for plot expiry", entries);
+            }
+        } catch (final IOException e) {
+            LOGGER.error("Failed to read the expiry index {}", file.getName(), e);
+        }
+    }
+
+    /**
+     * Save the last seen times of players to the file given to {@link #loadIndex(File)}, if any.
+     */
+    public void saveIndex() {
+        if (this.indexFile == null) {
+            return;
+        }
+        try {
+            this.lastSeen.save(this.indexFile);
+        } catch (final IOException e) {
+            LOGGER.error("Failed to save the expiry index {}", this.indexFile.getName(), e);
+        }
+    }
+
+    /**
+     * Get the plots that might have expired, which are the plots of owners that have not
+     * been seen for at least as long as the shortest expiry time of any task. Owners that
+     * are not yet indexed are looked up first. Plots of owners that were seen the longest
+     * ago come first.
+     *
+     * @return plots to check for expiry
+     */
+    private Collection<Plot> getExpiryCandidates() {
+        long days = Long.MAX_VALUE;
+        for (final ExpiryTask task : this.tasks) {
+            days = Math.min(days, task.getSettings().DAYS);
+        }
+        if (days == Long.MAX_VALUE) {
+            return Collections.emptyList();
+        }
+        for (final PlotArea area : PlotSquared.get().getPlotAreaManager().getAllPlotAreas()) {
+            for (final UUID owner : area.getOwners()) {
+                if (this.lastSeen.get(owner) == null) {
+                    final OfflinePlotPlayer opp = PlotSquared.platform().playerManager().getOfflinePlayer(owner);
+                    this.lastSeen.update(owner, opp == null ? 0 : opp.getLastPlayed());
+                }
+            }
+        }
+        this.saveIndex();
+        final Collection<Plot> plots = new LinkedHashSet<>();
+        for (final UUID owner : this.lastSeen.getSeenBefore(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(days))) {
+            plots.addAll(PlotQuery.newQuery().ownedBy(owner).asList());
+        }
+        return plots;
+    }
+
     public void updateExpired(Plot plot) {
         if (plotsToDelete != null && !plotsToDelete.isEmpty() && plotsToDelete.contains(plot)) {
             if (isExpired(new ArrayDeque<>(tasks), plot).isEmpty()) {
@@ -309,9 +385,10 @@ public class ExpireManager {
             return false;
         }
         this.running = 2;
-        final ConcurrentLinkedDeque<Plot> plots =
-                new ConcurrentLinkedDeque<>(PlotQuery.newQuery().allPlots().asList());
+        final ConcurrentLinkedDeque<Plot> plots = new ConcurrentLinkedDeque<>();
         TaskManager.runTaskAsync(new Runnable() {
+            private boolean collected;
+
             @Override
             public void run() {
                 final Runnable task = this;
@@ -319,6 +396,11 @@ public class ExpireManager {
                     ExpireManager.this.running = 0;
                     return;
                 }
+                if (!this.collected) {
+                    // Only owners that have been away long enough can have expired plots
+                    plots.addAll(getExpiryCandidates());
+                    this.collected = true;
+                }
                 long start = System.currentTimeMillis();
                 while (!plots.isEmpty()) {
                     if (ExpireManager.this.running != 2) {
@@ -404,7 +486,7 @@ public class ExpireManager {
     }
 
     public void storeDate(UUID uuid, long time) {
-        Long existing = this.dates_cache.put(uuid, time);
+        Long existing = this.lastSeen.update(uuid, time);
         if (existing != null) {
             long diff = time - existing;
             if (diff > 0) {
@@ -455,15 +537,10 @@ public class ExpireManager {
         if (PlotSquared.platform().playerManager().getPlayerIfExists(uuid) != null) {
             return 0;
         }
-        Long last = this.dates_cache.get(uuid);
-        if (last == null) {
-            OfflinePlotPlayer opp = PlotSquared.platform().playerManager().getOfflinePlayer(uuid);
-            if (opp != null && (last = opp.getLastPlayed()) != 0) {
-                this.dates_cache.put(uuid, last);
-            } else {
-                return 0;
-            }
-        }
+        // The index is only saved now and then, so after a crash it can miss the latest logins.
+        // Plots are deleted based on this, so the platform's time wins if it is later
+        OfflinePlotPlayer opp = PlotSquared.platform().playerManager().getOfflinePlayer(uuid);
+        long last = this.lastSeen.updateIfLater(uuid, opp == null ? 0 : opp.getLastPlayed());
         if (last == 0) {
             return 0;
         }
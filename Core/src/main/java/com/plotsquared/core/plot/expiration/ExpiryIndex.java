@@ -0,0 +1,223 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *                  Copyright (C) 2021 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot.expiration;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Index of the time players were last seen, ordered by that time so that the players
+ * that have been away for longer than a given time can be found without looking at
+ * every plot. A time of {@code 0} marks a player whose last login is unknown, such
+ * players are never considered inactive.
+ * <p>
+ * The index can be written to and read back from a binary snapshot, so that the last
+ * seen times of offline owners do not have to be looked up again after a restart.
+ */
+final class ExpiryIndex {
+
+    private static final int SNAPSHOT_MAGIC = 0x50324558;
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final Map<UUID, Long> lastSeen = new ConcurrentHashMap<>();
+    private final NavigableSet<Entry> order = new ConcurrentSkipListSet<>();
+
+    /**
+     * Set the time a player was last seen
+     *
+     * @param uuid player
+     * @param time last seen time, in milliseconds since the epoch
+     * @return the previous time, or {@code null} if the player was not indexed
+     */
+    @Nullable Long update(final @NonNull UUID uuid, final long time) {
+        final Long[] previous = new Long[1];
+        this.lastSeen.compute(uuid, (key, existing) -> {
+            if (existing != null) {
+                this.order.remove(new Entry(existing, uuid));
+            }
+            this.order.add(new Entry(time, uuid));
+            previous[0] = existing;
+            return time;
+        });
+        return previous[0];
+    }
+
+    /**
+     * Set the time a player was last seen, unless the index already has a later time
+     *
+     * @param uuid player
+     * @param time last seen time, in milliseconds since the epoch
+     * @return the time the index now has for the player
+     */
+    long updateIfLater(final @NonNull UUID uuid, final long time) {
+        return this.lastSeen.compute(uuid, (key, existing) -> {
+            if (existing != null) {
+                if (existing >= time) {
+                    return existing;
+                }
+                this.order.remove(new Entry(existing, uuid));
+            }
+            this.order.add(new Entry(time, uuid));
+            return time;
+        });
+    }
+
+    /**
+     * Get the time a player was last seen
+     *
+     * @param uuid player
+     * @return last seen time, or {@code null} if the player is not indexed
+     */
+    @Nullable Long get(final @NonNull UUID uuid) {
+        return this.lastSeen.get(uuid);
+    }
+
+    /**
+     * Get all players that have been seen, but not since the given time. The players
+     * that have been away the longest come first.
+     *
+     * @param time cutoff time, in milliseconds since the epoch
+     * @return players last seen before the cutoff
+     */
+    @NonNull List<UUID> getSeenBefore(final long time) {
+        final List<UUID> players = new ArrayList<>();
+        for (final Entry entry : this.order) {
+            if (entry.time >= time) {
+                break;
+            }
+            if (entry.time > 0) {
+                players.add(entry.uuid);
+            }
+        }
+        return players;
+    }
+
+    int size() {
+        return this.lastSeen.size();
+    }
+
+    /**
+     * Write the index to a binary snapshot, which can be read back with {@link #load(File)}
+     *
+     * @param file snapshot file
+     * @throws IOException if the snapshot could not be written
+     */
+    void save(final @NonNull File file) throws IOException {
+        final File temporary = new File(file.getPath() + ".tmp");
+        try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary.toPath())))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            final List<Entry> entries = new ArrayList<>(this.order);
+            out.writeInt(entries.size());
+            for (final Entry entry : entries) {
+                out.writeLong(entry.uuid.getMostSignificantBits());
+                out.writeLong(entry.uuid.getLeastSignificantBits());
+                out.writeLong(entry.time);
+            }
+        }
+        Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Read a snapshot written by {@link #save(File)} into the index. Players that are
+     * already indexed keep their current time.
+     *
+     * @param file snapshot file
+     * @return number of entries read, or {@code 0} if there is no (valid) snapshot
+     * @throws IOException if the snapshot could not be read
+     */
+    int load(final @NonNull File file) throws IOException {
+        if (!file.isFile()) {
+            return 0;
+        }
+        try (final DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                return 0;
+            }
+            final int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                final UUID uuid = new UUID(in.readLong(), in.readLong());
+                final long time = in.readLong();
+                if (!this.lastSeen.containsKey(uuid)) {
+                    this.update(uuid, time);
+                }
+            }
+            return count;
+        }
+    }
+
+    private static final class Entry implements Comparable<Entry> {
+
+        private final long time;
+        private final UUID uuid;
+
+        private Entry(final long time, final @NonNull UUID uuid) {
+            this.time = time;
+            this.uuid = uuid;
+        }
+
+        @Override
+        public int compareTo(final @NonNull Entry other) {
+            final int result = Long.compare(this.time, other.time);
+            return result != 0 ? result : this.uuid.compareTo(other.uuid);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Entry)) {
+                return false;
+            }
+            final Entry other = (Entry) obj;
+            return this.time == other.time && this.uuid.equals(other.uuid);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Long.hashCode(this.time) + this.uuid.hashCode();
+        }
+
+    }
+
+}
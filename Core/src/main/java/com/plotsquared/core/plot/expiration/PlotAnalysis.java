@@ -38,18 +38,26 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.lang.reflect.Array;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class PlotAnalysis {
 
     private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + PlotAnalysis.class.getSimpleName());
 
+    /**
+     * Version of the analysis, stored after the values in the {@link AnalysisFlag}. Values of other
+     * versions are not comparable, so such plots are analysed again. Version 2 compares blocks
+     * against the terrain generated at their actual chunk position.
+     */
+    public static final int VERSION = 2;
+
     public static boolean running = false;
+    private static volatile boolean warnedOutdated = false;
     public int changes;
     public int faces;
     public int data;
@@ -64,6 +72,15 @@ public class PlotAnalysis {
 
     public static PlotAnalysis getAnalysis(Plot plot, Settings.Auto_Clear settings) {
         final List<Integer> values = plot.getFlag(AnalysisFlag.class);
+        if (!values.isEmpty() && (values.size() <= 10 || values.get(10) != VERSION)) {
+            if (!warnedOutdated) {
+                warnedOutdated = true;
+                LOGGER.warn("Plot {} has an analysis made by an older version. Outdated analyses are ignored and plots "
+                        + "are analysed again, auto clear thresholds calibrated with them should be calibrated again "
+                        + "using /plot debugexec calibrate-analysis", plot);
+            }
+            return null;
+        }
         if (!values.isEmpty()) {
             PlotAnalysis analysis = new PlotAnalysis();
             analysis.changes = values.get(0); // 2126
@@ -160,43 +177,15 @@ public class PlotAnalysis {
                 });
                 ratingAnalysis.start();
 
-                ArrayDeque<Plot> plotsQueue = new ArrayDeque<>(plots);
-                while (true) {
-                    final Plot queuePlot = plotsQueue.poll();
-                    if (queuePlot == null) {
-                        break;
-                    }
-                    LOGGER.info(" | {}", queuePlot);
-
-                    final Object lock = new Object();
-                    TaskManager.runTask(new Runnable() {
-                        @Override
-                        public void run() {
-                            analyzePlot(queuePlot, new RunnableVal<>() {
-                                @Override
-                                public void run(PlotAnalysis value) {
-                                    try {
-                                        synchronized (this) {
-                                            wait(10000);
-                                        }
-                                    } catch (InterruptedException e) {
-                                        e.printStackTrace();
-                                    }
-                                    synchronized (lock) {
-                                        queuePlot.removeRunning();
-                                        lock.notify();
-                                    }
-                                }
-                            });
-                        }
-                    });
-                    try {
-                        synchronized (lock) {
-                            lock.wait();
-                        }
-                    } catch (InterruptedException e) {
-                        e.printStackTrace();
-                    }
+                final CountDownLatch analyzed = new CountDownLatch(1);
+                PlotSquared.platform().hybridUtils().analyzePlots(plots, Plot::removeRunning, analyzed::countDown);
+                try {
+                    analyzed.await();
+                } catch (InterruptedException e) {
+                    LOGGER.error("Calibration cancelled, interrupted while analyzing plots");
+                    Thread.currentThread().interrupt();
+                    running = false;
+                    return;
                 }
 
                 LOGGER.info("- Waiting on plot rating thread: {}%", mi.intValue() * 100 / plots.size());
@@ -587,7 +576,7 @@ public class PlotAnalysis {
     public List<Integer> asList() {
         return Arrays
                 .asList(this.changes, this.faces, this.data, this.air, this.variety, this.changes_sd,
-                        this.faces_sd, this.data_sd, this.air_sd, this.variety_sd
+                        this.faces_sd, this.data_sd, this.air_sd, this.variety_sd, VERSION
                 );
     }
 
@@ -27,6 +27,8 @@ package com.plotsquared.core.plot.flag;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.apache.logging.log4j.LogManager;
@@ -46,10 +48,18 @@ public class FlagContainer {
 
     private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + FlagContainer.class.getSimpleName());
 
-    private final Map<String, String> unknownFlags = new HashMap<>();
-    private final Map<Class<?>, PlotFlag<?, ?>> flagMap = new HashMap<>();
+    /**
+     * Flag maps shared between {@link #compact() compacted} containers with identical flags
+     */
+    private static final Interner<Map<Class<?>, PlotFlag<?, ?>>> SHARED_FLAG_MAPS = Interners.newWeakInterner();
+
     private final PlotFlagUpdateHandler plotFlagUpdateHandler;
-    private final Collection<PlotFlagUpdateHandler> updateSubscribers = new ArrayList<>();
+    // Both created when first needed, most containers never get unknown flags or subscribers
+    private Map<String, String> unknownFlags;
+    private Collection<PlotFlagUpdateHandler> updateSubscribers;
+    private Map<Class<?>, PlotFlag<?, ?>> flagMap = new HashMap<>();
+    // Whether flagMap is an immutable map shared with other containers, copied before it is modified
+    private boolean sharedFlagMap;
     private FlagContainer parentContainer;
 
     /**
@@ -70,9 +80,6 @@ public class FlagContainer {
     ) {
         this.parentContainer = parentContainer;
         this.plotFlagUpdateHandler = plotFlagUpdateHandler;
-        if (!(this instanceof GlobalFlagContainer)) {
-            GlobalFlagContainer.getInstance().subscribe(this::handleUnknowns);
-        }
     }
 
     /**
@@ -121,6 +128,14 @@ public class FlagContainer {
 
     @SuppressWarnings("unused")
     protected Map<Class<?>, PlotFlag<?, ?>> getInternalPlotFlagMap() {
+        return this.mutableFlagMap();
+    }
+
+    private Map<Class<?>, PlotFlag<?, ?>> mutableFlagMap() {
+        if (this.sharedFlagMap) {
+            this.flagMap = new HashMap<>(this.flagMap);
+            this.sharedFlagMap = false;
+        }
         return this.flagMap;
     }
 
@@ -130,7 +145,32 @@ public class FlagContainer {
      * @return Immutable flag map
      */
     public Map<Class<?>, PlotFlag<?, ?>> getFlagMap() {
-        return ImmutableMap.<Class<?>, PlotFlag<?, ?>>builder().putAll(this.flagMap).build();
+        if (this.sharedFlagMap) {
+            return this.flagMap;
+        }
+        return ImmutableMap.copyOf(this.flagMap);
+    }
+
+    /**
+     * Replace the local flag map with an immutable map that is shared with every
+     * other compacted container holding the same flags. The map is copied again
+     * as soon as this container is modified. This is meant for containers that
+     * are rarely changed after being loaded, such as plot flag containers.
+     */
+    public void compact() {
+        if (!this.sharedFlagMap) {
+            this.flagMap = SHARED_FLAG_MAPS.intern(ImmutableMap.copyOf(this.flagMap));
+            this.sharedFlagMap = true;
+        }
+    }
+
+    /**
+     * Check whether the local flag map is currently shared with other containers
+     *
+     * @return {@code true} if the container was {@link #compact() compacted} and not modified since
+     */
+    public boolean isCompacted() {
+        return this.sharedFlagMap;
     }
 
     /**
@@ -147,7 +187,7 @@ public class FlagContainer {
                     flag.getName().length() <= 64,
                     "flag name may not be more than 64 characters. Check: " + flag.getName()
             );
-            final PlotFlag<?, ?> oldInstance = this.flagMap.put(flag.getClass(), flag);
+            final PlotFlag<?, ?> oldInstance = this.mutableFlagMap().put(flag.getClass(), flag);
             final PlotFlagUpdateType plotFlagUpdateType;
             if (oldInstance != null) {
                 plotFlagUpdateType = PlotFlagUpdateType.FLAG_UPDATED;
@@ -157,8 +197,9 @@ public class FlagContainer {
             if (this.plotFlagUpdateHandler != null) {
                 this.plotFlagUpdateHandler.handle(flag, plotFlagUpdateType);
             }
-            this.updateSubscribers
-                    .forEach(subscriber -> subscriber.handle(flag, plotFlagUpdateType));
+            if (this.updateSubscribers != null) {
+                this.updateSubscribers.forEach(subscriber -> subscriber.handle(flag, plotFlagUpdateType));
+            }
         } catch (IllegalStateException e) {
             LOGGER.info("Flag {} (class '{}') could not be added to the container because the "
                     + "flag name exceeded the allowed limit of 64 characters. Please tell the developer "
@@ -176,12 +217,13 @@ public class FlagContainer {
      * @return value of flag removed
      */
     public <V, T extends PlotFlag<V, ?>> V removeFlag(final T flag) {
-        final Object value = this.flagMap.remove(flag.getClass());
+        final Object value = this.mutableFlagMap().remove(flag.getClass());
         if (this.plotFlagUpdateHandler != null) {
             this.plotFlagUpdateHandler.handle(flag, PlotFlagUpdateType.FLAG_REMOVED);
         }
-        this.updateSubscribers
-                .forEach(subscriber -> subscriber.handle(flag, PlotFlagUpdateType.FLAG_REMOVED));
+        if (this.updateSubscribers != null) {
+            this.updateSubscribers.forEach(subscriber -> subscriber.handle(flag, PlotFlagUpdateType.FLAG_REMOVED));
+        }
         if (value == null) {
             return null;
         } else {
@@ -209,7 +251,12 @@ public class FlagContainer {
      * Clears the local flag map
      */
     public void clearLocal() {
-        this.flagMap.clear();
+        if (this.sharedFlagMap) {
+            this.flagMap = new HashMap<>();
+            this.sharedFlagMap = false;
+        } else {
+            this.flagMap.clear();
+        }
     }
 
     /**
@@ -302,6 +349,9 @@ public class FlagContainer {
      * @see PlotFlagUpdateType Plot flag update types
      */
     public void subscribe(final @NonNull PlotFlagUpdateHandler plotFlagUpdateHandler) {
+        if (this.updateSubscribers == null) {
+            this.updateSubscribers = new ArrayList<>();
+        }
         this.updateSubscribers.add(plotFlagUpdateHandler);
     }
 
@@ -309,7 +359,7 @@ public class FlagContainer {
             final PlotFlag<?, ?> flag,
             final PlotFlagUpdateType plotFlagUpdateType
     ) {
-        if (plotFlagUpdateType != PlotFlagUpdateType.FLAG_REMOVED && this.unknownFlags
+        if (plotFlagUpdateType != PlotFlagUpdateType.FLAG_REMOVED && this.unknownFlags != null && this.unknownFlags
                 .containsKey(flag.getName())) {
             final String value = this.unknownFlags.remove(flag.getName());
             if (value != null) {
@@ -333,6 +383,13 @@ public class FlagContainer {
      * @param value    Flag value
      */
     public void addUnknownFlag(final String flagName, final String value) {
+        if (this.unknownFlags == null) {
+            this.unknownFlags = new HashMap<>();
+            // Only containers holding unknown flags need to hear about flag registrations
+            if (!(this instanceof GlobalFlagContainer)) {
+                GlobalFlagContainer.getInstance().subscribe(this::handleUnknowns);
+            }
+        }
         this.unknownFlags.put(flagName.toLowerCase(Locale.ENGLISH), value);
     }
 
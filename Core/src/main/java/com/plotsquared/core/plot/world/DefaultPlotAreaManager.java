@@ -47,6 +47,7 @@ public class DefaultPlotAreaManager implements PlotAreaManager {
 
     final PlotArea[] noPlotAreas = new PlotArea[0];
     private final Map<String, PlotWorld> plotWorlds = new HashMap<>();
+    private final PlotRasterCache rasterCache = new PlotRasterCache(this);
 
     @Override
     public @NonNull PlotArea[] getAllPlotAreas() {
@@ -69,14 +70,21 @@ public class DefaultPlotAreaManager implements PlotAreaManager {
         return world.getArea(location);
     }
 
+    @Override
+    public @NonNull PlotRasterCache getRasterCache() {
+        return this.rasterCache;
+    }
+
     @Override
     public void addPlotArea(final @NonNull PlotArea plotArea) {
+        plotArea.setPlotLayoutListener(id -> this.rasterCache.invalidatePlot(plotArea, id));
         PlotWorld world = this.plotWorlds.get(plotArea.getWorldName());
         if (world != null) {
             if (world instanceof StandardPlotWorld && world.getAreas().isEmpty()) {
                 this.plotWorlds.remove(plotArea.getWorldName());
             } else {
                 world.addArea(plotArea);
+                this.rasterCache.invalidateAreas();
                 return;
             }
         }
@@ -87,10 +95,12 @@ public class DefaultPlotAreaManager implements PlotAreaManager {
             world.addArea(plotArea);
         }
         this.plotWorlds.put(plotArea.getWorldName(), world);
+        this.rasterCache.invalidateAreas();
     }
 
     @Override
     public void removePlotArea(final @NonNull PlotArea area) {
+        area.setPlotLayoutListener(null);
         final PlotWorld world = this.plotWorlds.get(area.getWorldName());
         if (world == null) {
             return;
@@ -103,6 +113,7 @@ public class DefaultPlotAreaManager implements PlotAreaManager {
                 this.plotWorlds.remove(world.getWorld());
             }
         }
+        this.rasterCache.invalidateAreas();
     }
 
     @Override
@@ -158,6 +169,7 @@ public class DefaultPlotAreaManager implements PlotAreaManager {
     @Override
     public void removeWorld(final @NonNull String worldName) {
         this.plotWorlds.remove(worldName);
+        this.rasterCache.invalidateAreas();
     }
 
     @Override
@@ -99,6 +99,13 @@ public interface PlotAreaManager {
      */
     @NonNull String[] getAllWorlds();
 
+    /**
+     * Get the per-chunk cache of plot areas and plot ids, for resolving plots in frequently fired events
+     *
+     * @return Raster cache
+     */
+    @NonNull PlotRasterCache getRasterCache();
+
     /**
      * Add a plot area
      *
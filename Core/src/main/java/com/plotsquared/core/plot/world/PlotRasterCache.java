@@ -0,0 +1,325 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *                  Copyright (C) 2021 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot.world;
+
+import com.plotsquared.core.location.Location;
+import com.plotsquared.core.plot.Plot;
+import com.plotsquared.core.plot.PlotArea;
+import com.plotsquared.core.plot.PlotId;
+import com.plotsquared.core.plot.PlotManager;
+import com.plotsquared.core.util.MathMan;
+import com.plotsquared.core.util.RegionUtil;
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldedit.regions.CuboidRegion;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of the plot area and plot id of every block column in a chunk, for hot paths such as
+ * physics, redstone and pathfinding events that resolve the same few chunks over and over.
+ * <p>
+ * A raster is built the first time a chunk is resolved and is dropped when the chunk unloads.
+ * When plots are claimed, removed, merged or unlinked only the rasters of the chunks around the
+ * affected plot are dropped (see {@link PlotArea#setPlotLayoutListener}), all rasters are dropped
+ * when plot areas are added or removed. Ownership is always read from the area itself, so owner
+ * changes need no invalidation.
+ */
+public final class PlotRasterCache {
+
+    private static final Raster EMPTY = new Raster(null, null, null, null);
+
+    private final PlotAreaManager plotAreaManager;
+    private final Map<String, Map<Long, Raster>> worlds = new ConcurrentHashMap<>();
+    // Changes on every invalidation, so that rasters built concurrently with one are not kept
+    private final AtomicLong version = new AtomicLong();
+
+    PlotRasterCache(final @NonNull PlotAreaManager plotAreaManager) {
+        this.plotAreaManager = plotAreaManager;
+    }
+
+    /**
+     * Get the plot area containing the given block
+     *
+     * @param world World name
+     * @param x     Block X coordinate
+     * @param y     Block Y coordinate
+     * @param z     Block Z coordinate
+     * @return Plot area, or {@code null} if the block is not in a plot area
+     */
+    public @Nullable PlotArea getPlotArea(final @NonNull String world, final int x, final int y, final int z) {
+        return this.getRaster(world, x, y, z).getArea(x, z);
+    }
+
+    /**
+     * Get the (absolute) owned plot containing the given block, see {@link PlotArea#getOwnedPlotAbs(Location)}
+     *
+     * @param world World name
+     * @param x     Block X coordinate
+     * @param y     Block Y coordinate
+     * @param z     Block Z coordinate
+     * @return Owned plot, or {@code null}
+     */
+    public @Nullable Plot getOwnedPlotAbs(final @NonNull String world, final int x, final int y, final int z) {
+        final Raster raster = this.getRaster(world, x, y, z);
+        final PlotArea area = raster.getArea(x, z);
+        final PlotId id = raster.getId(x, z);
+        return area == null || id == null ? null : area.getOwnedPlotAbs(id);
+    }
+
+    /**
+     * Get the owned base plot containing the given block, see {@link PlotArea#getOwnedPlot(Location)}
+     *
+     * @param world World name
+     * @param x     Block X coordinate
+     * @param y     Block Y coordinate
+     * @param z     Block Z coordinate
+     * @return Owned base plot, or {@code null}
+     */
+    public @Nullable Plot getOwnedPlot(final @NonNull String world, final int x, final int y, final int z) {
+        final Raster raster = this.getRaster(world, x, y, z);
+        final PlotArea area = raster.getArea(x, z);
+        final PlotId id = raster.getId(x, z);
+        return area == null || id == null ? null : area.getOwnedPlot(id);
+    }
+
+    /**
+     * Get the base plot containing the given block, see {@link PlotArea#getPlot(Location)}
+     *
+     * @param world World name
+     * @param x     Block X coordinate
+     * @param y     Block Y coordinate
+     * @param z     Block Z coordinate
+     * @return Base plot, or {@code null} if the block is not in a plot
+     */
+    public @Nullable Plot getPlot(final @NonNull String world, final int x, final int y, final int z) {
+        final Raster raster = this.getRaster(world, x, y, z);
+        final PlotArea area = raster.getArea(x, z);
+        final PlotId id = raster.getId(x, z);
+        return area == null || id == null ? null : area.getPlot(id);
+    }
+
+    /**
+     * Get the plot area containing the given location
+     *
+     * @param location Location
+     * @return Plot area, or {@code null} if the location is not in a plot area
+     */
+    public @Nullable PlotArea getPlotArea(final @NonNull Location location) {
+        return this.getPlotArea(location.getWorldName(), location.getX(), location.getY(), location.getZ());
+    }
+
+    /**
+     * Get the (absolute) owned plot containing the given location, see {@link PlotArea#getOwnedPlotAbs(Location)}
+     *
+     * @param location Location
+     * @return Owned plot, or {@code null}
+     */
+    public @Nullable Plot getOwnedPlotAbs(final @NonNull Location location) {
+        return this.getOwnedPlotAbs(location.getWorldName(), location.getX(), location.getY(), location.getZ());
+    }
+
+    /**
+     * Get the owned base plot containing the given location, see {@link PlotArea#getOwnedPlot(Location)}
+     *
+     * @param location Location
+     * @return Owned base plot, or {@code null}
+     */
+    public @Nullable Plot getOwnedPlot(final @NonNull Location location) {
+        return this.getOwnedPlot(location.getWorldName(), location.getX(), location.getY(), location.getZ());
+    }
+
+    /**
+     * Get the base plot containing the given location, see {@link PlotArea#getPlot(Location)}
+     *
+     * @param location Location
+     * @return Base plot, or {@code null} if the location is not in a plot
+     */
+    public @Nullable Plot getPlot(final @NonNull Location location) {
+        return this.getPlot(location.getWorldName(), location.getX(), location.getY(), location.getZ());
+    }
+
+    /**
+     * Drop the raster of a chunk, should be called when the chunk unloads
+     *
+     * @param world  World name
+     * @param chunkX Chunk X coordinate
+     * @param chunkZ Chunk Z coordinate
+     */
+    public void invalidateChunk(final @NonNull String world, final int chunkX, final int chunkZ) {
+        final Map<Long, Raster> rasters = this.worlds.get(world);
+        if (rasters != null) {
+            rasters.remove(MathMan.pairInt(chunkX, chunkZ));
+        }
+    }
+
+    /**
+     * Drop all rasters of a world
+     *
+     * @param world World name
+     */
+    public void invalidateWorld(final @NonNull String world) {
+        this.version.incrementAndGet();
+        this.worlds.remove(world);
+    }
+
+    /**
+     * Drop the rasters of the chunks overlapping a plot or the roads around it, called when
+     * the plot is claimed, removed, merged or unlinked
+     *
+     * @param area Plot area
+     * @param id   Plot id
+     */
+    void invalidatePlot(final @NonNull PlotArea area, final @NonNull PlotId id) {
+        this.version.incrementAndGet();
+        final Map<Long, Raster> rasters = this.worlds.get(area.getWorldName());
+        if (rasters == null || rasters.isEmpty()) {
+            return;
+        }
+        // The plot and its roads lie between the corners of its diagonal neighbours
+        final PlotManager manager = area.getPlotManager();
+        final Location min = manager.getPlotTopLocAbs(PlotId.of(id.getX() - 1, id.getY() - 1));
+        final Location max = manager.getPlotBottomLocAbs(PlotId.of(id.getX() + 1, id.getY() + 1));
+        final int minX = Math.min(min.getX(), max.getX()) >> 4;
+        final int minZ = Math.min(min.getZ(), max.getZ()) >> 4;
+        final int maxX = Math.max(min.getX(), max.getX()) >> 4;
+        final int maxZ = Math.max(min.getZ(), max.getZ()) >> 4;
+        if ((long) (maxX - minX + 1) * (maxZ - minZ + 1) > rasters.size()) {
+            rasters.keySet().removeIf(key -> {
+                final int chunkX = MathMan.unpairIntX(key);
+                final int chunkZ = MathMan.unpairIntY(key);
+                return chunkX >= minX && chunkX <= maxX && chunkZ >= minZ && chunkZ <= maxZ;
+            });
+        } else {
+            for (int chunkX = minX; chunkX <= maxX; chunkX++) {
+                for (int chunkZ = minZ; chunkZ <= maxZ; chunkZ++) {
+                    rasters.remove(MathMan.pairInt(chunkX, chunkZ));
+                }
+            }
+        }
+    }
+
+    /**
+     * Invalidate every raster, called when plot areas are added or removed
+     */
+    void invalidateAreas() {
+        this.version.incrementAndGet();
+        this.worlds.clear();
+    }
+
+    /**
+     * Get the raster of the chunk containing the block, building it if needed
+     */
+    private @NonNull Raster getRaster(final @NonNull String world, final int x, final int y, final int z) {
+        final long key = MathMan.pairInt(x >> 4, z >> 4);
+        final Map<Long, Raster> rasters = this.worlds.computeIfAbsent(world, w -> new ConcurrentHashMap<>());
+        Raster raster = rasters.get(key);
+        if (raster == null) {
+            final long version = this.version.get();
+            raster = this.build(world, x >> 4, y, z >> 4);
+            rasters.put(key, raster);
+            // Don't keep a raster that may have been built from state invalidated in the meantime
+            if (this.version.get() != version) {
+                rasters.remove(key, raster);
+            }
+        }
+        return raster;
+    }
+
+    private @NonNull Raster build(final @NonNull String world, final int chunkX, final int y, final int chunkZ) {
+        final int bx = chunkX << 4;
+        final int bz = chunkZ << 4;
+        final PlotArea[] candidates = this.plotAreaManager.getPlotAreas(
+                world,
+                new CuboidRegion(BlockVector3.at(bx, y, bz), BlockVector3.at(bx + 15, y, bz + 15))
+        );
+        if (candidates.length == 0) {
+            return EMPTY;
+        }
+        if (candidates.length == 1 && candidates[0] instanceof SinglePlotArea) {
+            // The plot depends on the world rather than the position
+            final SinglePlotArea area = (SinglePlotArea) candidates[0];
+            return new Raster(area, area.getWorldPlotId(world), null, null);
+        }
+        final CuboidRegion[] regions = new CuboidRegion[candidates.length];
+        for (int i = 0; i < candidates.length; i++) {
+            regions[i] = candidates[i].getRegion();
+        }
+        final PlotArea[] areas = new PlotArea[256];
+        final PlotId[] ids = new PlotId[256];
+        boolean uniform = true;
+        for (int i = 0; i < 256; i++) {
+            final int x = bx + (i & 15);
+            final int z = bz + (i >> 4);
+            PlotArea area = null;
+            for (int j = 0; j < candidates.length; j++) {
+                if (RegionUtil.contains(regions[j], x, z)) {
+                    area = candidates[j];
+                    break;
+                }
+            }
+            areas[i] = area;
+            ids[i] = area == null ? null : area.getPlotManager().getPlotId(x, y, z);
+            uniform &= areas[i] == areas[0] && (ids[i] == null ? ids[0] == null : ids[i].equals(ids[0]));
+        }
+        if (uniform) {
+            return areas[0] == null ? EMPTY : new Raster(areas[0], ids[0], null, null);
+        }
+        return new Raster(null, null, areas, ids);
+    }
+
+    private static final class Raster {
+
+        // Set if every column of the chunk resolves to the same area and id
+        private final PlotArea area;
+        private final PlotId id;
+        private final PlotArea[] areas;
+        private final PlotId[] ids;
+
+        private Raster(
+                final @Nullable PlotArea area, final @Nullable PlotId id,
+                final @Nullable PlotArea[] areas, final @Nullable PlotId[] ids
+        ) {
+            this.area = area;
+            this.id = id;
+            this.areas = areas;
+            this.ids = ids;
+        }
+
+        private @Nullable PlotArea getArea(final int x, final int z) {
+            return this.areas == null ? this.area : this.areas[(x & 15) | (z & 15) << 4];
+        }
+
+        private @Nullable PlotId getId(final int x, final int z) {
+            return this.ids == null ? this.id : this.ids[(x & 15) | (z & 15) << 4];
+        }
+
+    }
+
+}
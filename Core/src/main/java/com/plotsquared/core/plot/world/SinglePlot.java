@@ -25,14 +25,19 @@
  */
 package com.plotsquared.core.plot.world;
 
+import com.plotsquared.core.PlotSquared;
+import com.plotsquared.core.events.TeleportCause;
 import com.plotsquared.core.location.BlockLoc;
 import com.plotsquared.core.location.Location;
+import com.plotsquared.core.player.PlotPlayer;
 import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.PlotArea;
 import com.plotsquared.core.plot.PlotId;
 import com.plotsquared.core.plot.flag.PlotFlag;
 import com.sk89q.worldedit.math.BlockVector3;
 import com.sk89q.worldedit.regions.CuboidRegion;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.Collection;
@@ -44,6 +49,8 @@ import java.util.function.Consumer;
 
 public class SinglePlot extends Plot {
 
+    private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + SinglePlot.class.getSimpleName());
+
     private final Set<CuboidRegion> regions = Collections.singleton(
             new CuboidRegion(
                     BlockVector3.at(Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE),
@@ -85,6 +92,23 @@ public class SinglePlot extends Plot {
         return super.isLoaded();
     }
 
+    @Override
+    public void teleportPlayer(final PlotPlayer<?> player, TeleportCause cause, Consumer<Boolean> resultConsumer) {
+        if (PlotSquared.platform().worldUtil().isWorld(getWorldName())) {
+            super.teleportPlayer(player, cause, resultConsumer);
+            return;
+        }
+        // Prepare the world files off the main thread, instead of in the blocking isLoaded
+        getArea().loadWorldAsync(getId()).whenComplete((ignored, throwable) -> {
+            if (throwable != null) {
+                LOGGER.error("Failed to load world {}", getWorldName(), throwable);
+                resultConsumer.accept(false);
+                return;
+            }
+            super.teleportPlayer(player, cause, resultConsumer);
+        });
+    }
+
     @NonNull
     @Override
     public Set<CuboidRegion> getRegions() {
@@ -53,12 +53,20 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class SinglePlotArea extends GridPlotWorld {
 
+    private static final WorldEntry NOT_A_PLOT = new WorldEntry(null, false);
+
     private final EventDispatcher eventDispatcher;
     private final PlotListener plotListener;
+    // Names of loaded worlds are resolved once, as lookups by location happen in every block and entity event
+    private final Map<String, WorldEntry> worldEntries = new ConcurrentHashMap<>();
+    private final Map<PlotId, CompletableFuture<Void>> pendingLoads = new ConcurrentHashMap<>();
+    private final SinglePlotWorldPool worldPool = new SinglePlotWorldPool();
     public boolean VOID = false;
 
     public SinglePlotArea(
@@ -98,61 +106,8 @@ public class SinglePlotArea extends GridPlotWorld {
         if (PlotSquared.platform().worldUtil().isWorld(worldName)) {
             return;
         }
-        PlotAreaBuilder builder = PlotAreaBuilder.newBuilder()
-                .plotManager("PlotSquared:single")
-                .generatorName("PlotSquared:single")
-                .plotAreaType(getType())
-                .terrainType(getTerrain())
-                .settingsNodesWrapper(new SettingsNodesWrapper(new ConfigurationNode[0], null))
-                .worldName(worldName);
-
-        File container = PlotSquared.platform().worldContainer();
-        File destination = new File(container, worldName);
-
-        {// convert old
-            File oldFile = new File(container, id.toCommaSeparatedString());
-            if (oldFile.exists()) {
-                oldFile.renameTo(destination);
-            } else {
-                oldFile = new File(container, id.toSeparatedString("."));
-                if (oldFile.exists()) {
-                    oldFile.renameTo(destination);
-                }
-            }
-        }
-        // Duplicate 0;0
-        if (builder.plotAreaType() != PlotAreaType.NORMAL) {
-            if (!destination.exists()) {
-                File src = new File(container, "0_0");
-                if (src.exists()) {
-                    if (!destination.exists()) {
-                        destination.mkdirs();
-                    }
-                    File levelDat = new File(src, "level.dat");
-                    if (levelDat.exists()) {
-                        try {
-                            Files.copy(
-                                    levelDat.toPath(),
-                                    new File(destination, levelDat.getName()).toPath()
-                            );
-                            File data = new File(src, "data");
-                            if (data.exists()) {
-                                File dataDest = new File(destination, "data");
-                                dataDest.mkdirs();
-                                for (File file : data.listFiles()) {
-                                    Files.copy(
-                                            file.toPath(),
-                                            new File(dataDest, file.getName()).toPath()
-                                    );
-                                }
-                            }
-                        } catch (IOException exception) {
-                            exception.printStackTrace();
-                        }
-                    }
-                }
-            }
-        }
+        PlotAreaBuilder builder = createWorldBuilder(worldName);
+        prepareWorldFiles(id, builder);
 
         try {
             TaskManager.getPlatformImplementation().sync(() -> {
@@ -178,6 +133,90 @@ public class SinglePlotArea extends GridPlotWorld {
         //        return AsyncWorld.create(wc);
     }
 
+    /**
+     * Load the world of a plot, preparing the world files off the main thread.
+     * Only the world creation itself happens on the main thread.
+     *
+     * @param id plot id
+     * @return future completed on the main thread once the world is loaded
+     */
+    public @NonNull CompletableFuture<Void> loadWorldAsync(final @NonNull PlotId id) {
+        final String worldName = id.toUnderscoreSeparatedString();
+        if (PlotSquared.platform().worldUtil().isWorld(worldName)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return this.pendingLoads.computeIfAbsent(id, key -> {
+            final CompletableFuture<Void> future = new CompletableFuture<>();
+            final PlotAreaBuilder builder = createWorldBuilder(worldName);
+            TaskManager.runTaskAsync(() -> {
+                prepareWorldFiles(id, builder);
+                TaskManager.runTask(() -> {
+                    this.pendingLoads.remove(id);
+                    try {
+                        if (!PlotSquared.platform().worldUtil().isWorld(worldName)) {
+                            PlotSquared.platform().setupUtils().setupWorld(builder);
+                        }
+                        future.complete(null);
+                    } catch (final Throwable throwable) {
+                        future.completeExceptionally(throwable);
+                    }
+                });
+            });
+            return future;
+        });
+    }
+
+    /**
+     * Get the pool of prepared template worlds used when loading plot worlds.
+     *
+     * @return world pool
+     */
+    public @NonNull SinglePlotWorldPool getWorldPool() {
+        return this.worldPool;
+    }
+
+    private @NonNull PlotAreaBuilder createWorldBuilder(final @NonNull String worldName) {
+        return PlotAreaBuilder.newBuilder()
+                .plotManager("PlotSquared:single")
+                .generatorName("PlotSquared:single")
+                .plotAreaType(getType())
+                .terrainType(getTerrain())
+                .settingsNodesWrapper(new SettingsNodesWrapper(new ConfigurationNode[0], null))
+                .worldName(worldName);
+    }
+
+    /**
+     * Move legacy world directories into place, or populate a new world directory
+     * from the template world. Synchronized, as both loadWorld variants may prepare
+     * the same world concurrently.
+     */
+    private synchronized void prepareWorldFiles(final @NonNull PlotId id, final @NonNull PlotAreaBuilder builder) {
+        File container = PlotSquared.platform().worldContainer();
+        File destination = new File(container, builder.worldName());
+
+        {// convert old
+            File oldFile = new File(container, id.toCommaSeparatedString());
+            if (oldFile.exists()) {
+                oldFile.renameTo(destination);
+            } else {
+                oldFile = new File(container, id.toSeparatedString("."));
+                if (oldFile.exists()) {
+                    oldFile.renameTo(destination);
+                }
+            }
+        }
+        // Duplicate 0;0
+        if (builder.plotAreaType() != PlotAreaType.NORMAL && !destination.exists()) {
+            if (this.worldPool.take(destination)) {
+                return;
+            }
+            try {
+                SinglePlotWorldPool.copyTemplate(container, destination);
+            } catch (IOException exception) {
+                exception.printStackTrace();
+            }
+        }
+    }
 
     @Override
     public ConfigurationNode[] getSettingNodes() {
@@ -185,10 +224,102 @@ public class SinglePlotArea extends GridPlotWorld {
                 new ConfigurationNode("void", this.VOID, TranslatableCaption.of("setup.singleplotarea_void_world"), ConfigurationUtil.BOOLEAN)};
     }
 
+    /**
+     * Get the id of the plot a world belongs to. Names of loaded worlds are only parsed once,
+     * see {@link #loadWorldEntry(String)}.
+     *
+     * @param worldName world name
+     * @return the plot id, or {@code null} if the name does not describe a plot id
+     */
+    public @Nullable PlotId getWorldPlotId(final @NonNull String worldName) {
+        return getWorldEntry(worldName).id;
+    }
+
+    /**
+     * Check whether a world name is the name of a plot world, i.e. of the form {@code x_z}.
+     *
+     * @param worldName world name
+     * @return {@code true} if the world is a plot world
+     * @see SinglePlotAreaManager#isWorld(String)
+     */
+    public boolean isPlotWorld(final @NonNull String worldName) {
+        return getWorldEntry(worldName).plotWorld;
+    }
+
+    /**
+     * Resolve the plot id of a world once, should be called when the world is loaded. Only
+     * loaded worlds are remembered, as names may also come from commands or the API.
+     *
+     * @param worldName world name
+     */
+    public void loadWorldEntry(final @NonNull String worldName) {
+        this.worldEntries.computeIfAbsent(worldName, SinglePlotArea::resolveWorldEntry);
+    }
+
+    /**
+     * Forget the resolved plot id of a world, e.g. when the world is unloaded.
+     *
+     * @param worldName world name
+     */
+    public void invalidateWorld(final @NonNull String worldName) {
+        this.worldEntries.remove(worldName);
+    }
+
+    private @NonNull WorldEntry getWorldEntry(final @NonNull String worldName) {
+        final WorldEntry entry = this.worldEntries.get(worldName);
+        return entry != null ? entry : resolveWorldEntry(worldName);
+    }
+
+    private static @NonNull WorldEntry resolveWorldEntry(final @NonNull String worldName) {
+        final PlotId id = PlotId.fromStringOrNull(worldName);
+        final boolean plotWorld = isPlotWorldName(worldName);
+        return id == null && !plotWorld ? NOT_A_PLOT : new WorldEntry(id, plotWorld);
+    }
+
+    private static boolean isPlotWorldName(final @NonNull String name) {
+        int mode = 0;
+        for (int i = 0; i < name.length(); i++) {
+            final char c = name.charAt(i);
+            switch (mode) {
+                case 0:
+                    mode = 1;
+                    if (c == '-') {
+                        continue;
+                    }
+                case 1:
+                    if ((c <= '/') || (c >= ':')) {
+                        if (c == '_') {
+                            mode = 2;
+                            continue;
+                        }
+                        return false;
+                    } else {
+                        continue;
+                    }
+                case 2:
+                    mode = 3;
+                    if (c == '-') {
+                        continue;
+                    }
+                case 3:
+                    if ((c <= '/') || (c >= ':')) {
+                        return false;
+                    }
+            }
+        }
+        return mode == 3;
+    }
+
+    @Nullable
+    @Override
+    public PlotId getPlotId(final @NonNull String world, final int x, final int y, final int z) {
+        return getWorldPlotId(world);
+    }
+
     @Nullable
     @Override
     public Plot getOwnedPlot(final @NonNull Location location) {
-        PlotId pid = PlotId.fromStringOrNull(location.getWorldName());
+        PlotId pid = getWorldPlotId(location.getWorldName());
         Plot plot = pid == null ? null : this.plots.get(pid);
         return plot == null ? null : plot.getBasePlot(false);
     }
@@ -196,21 +327,21 @@ public class SinglePlotArea extends GridPlotWorld {
     @Nullable
     @Override
     public Plot getOwnedPlotAbs(@NonNull Location location) {
-        PlotId pid = PlotId.fromStringOrNull(location.getWorldName());
+        PlotId pid = getWorldPlotId(location.getWorldName());
         return pid == null ? null : plots.get(pid);
     }
 
     @Nullable
     @Override
     public Plot getPlot(final @NonNull Location location) {
-        PlotId pid = PlotId.fromStringOrNull(location.getWorldName());
+        PlotId pid = getWorldPlotId(location.getWorldName());
         return pid == null ? null : getPlot(pid);
     }
 
     @Nullable
     @Override
     public Plot getPlotAbs(final @NonNull Location location) {
-        final PlotId pid = PlotId.fromStringOrNull(location.getWorldName());
+        final PlotId pid = getWorldPlotId(location.getWorldName());
         return pid == null ? null : getPlotAbs(pid);
     }
 
@@ -269,4 +400,16 @@ public class SinglePlotArea extends GridPlotWorld {
         return plot.getBasePlot(false);
     }
 
+    private static final class WorldEntry {
+
+        private final PlotId id;
+        private final boolean plotWorld;
+
+        private WorldEntry(final @Nullable PlotId id, final boolean plotWorld) {
+            this.id = id;
+            this.plotWorld = plotWorld;
+        }
+
+    }
+
 }
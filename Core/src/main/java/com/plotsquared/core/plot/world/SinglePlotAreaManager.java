@@ -77,40 +77,7 @@ public class SinglePlotAreaManager extends DefaultPlotAreaManager {
     }
 
     public boolean isWorld(final @NonNull String id) {
-        char[] chars = id.toCharArray();
-        if (chars.length == 1 && chars[0] == '*') {
-            return true;
-        }
-        int mode = 0;
-        for (char c : chars) {
-            switch (mode) {
-                case 0:
-                    mode = 1;
-                    if (c == '-') {
-                        continue;
-                    }
-                case 1:
-                    if ((c <= '/') || (c >= ':')) {
-                        if (c == '_') {
-                            mode = 2;
-                            continue;
-                        }
-                        return false;
-                    } else {
-                        continue;
-                    }
-                case 2:
-                    mode = 3;
-                    if (c == '-') {
-                        continue;
-                    }
-                case 3:
-                    if ((c <= '/') || (c >= ':')) {
-                        return false;
-                    }
-            }
-        }
-        return mode == 3;
+        return id.equals("*") || this.area.isPlotWorld(id);
     }
 
     @Override
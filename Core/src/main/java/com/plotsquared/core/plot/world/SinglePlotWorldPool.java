@@ -0,0 +1,246 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *                  Copyright (C) 2021 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot.world;
+
+import com.plotsquared.core.PlotSquared;
+import com.plotsquared.core.configuration.Settings;
+import com.plotsquared.core.util.task.TaskManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Pool of copies of the {@code 0_0} template world, prepared in the background so that
+ * creating a new plot world only has to move a directory into place.
+ * <p>
+ * Copies are made in a temporary directory inside the pool and renamed once complete,
+ * so an interrupted copy is never handed out. Pooled copies older than the template
+ * are discarded.
+ */
+public final class SinglePlotWorldPool {
+
+    private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + SinglePlotWorldPool.class.getSimpleName());
+    private static final String POOL_DIRECTORY = ".plotsquared-world-pool";
+    private static final String TEMPORARY_PREFIX = "tmp-";
+    static final String TEMPLATE_WORLD = "0_0";
+
+    private final Deque<File> ready = new ConcurrentLinkedDeque<>();
+    private final AtomicBoolean replenishing = new AtomicBoolean();
+    private final AtomicBoolean initialized = new AtomicBoolean();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong unloads = new AtomicLong();
+
+    SinglePlotWorldPool() {
+    }
+
+    /**
+     * Copy the template world files into a world directory.
+     *
+     * @param container   world container
+     * @param destination world directory
+     * @return {@code false} if there is no template to copy
+     * @throws IOException if the copy fails
+     */
+    static boolean copyTemplate(final @NonNull File container, final @NonNull File destination) throws IOException {
+        final File src = new File(container, TEMPLATE_WORLD);
+        final File levelDat = new File(src, "level.dat");
+        if (!levelDat.exists()) {
+            return false;
+        }
+        destination.mkdirs();
+        Files.copy(levelDat.toPath(), new File(destination, levelDat.getName()).toPath());
+        final File data = new File(src, "data");
+        final File[] files = data.listFiles();
+        if (files != null) {
+            final File dataDest = new File(destination, "data");
+            dataDest.mkdirs();
+            for (final File file : files) {
+                Files.copy(file.toPath(), new File(dataDest, file.getName()).toPath());
+            }
+        }
+        return true;
+    }
+
+    private static void delete(final @NonNull File directory) {
+        try (Stream<Path> paths = Files.walk(directory.toPath())) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        } catch (final IOException e) {
+            LOGGER.warn("Failed to delete pooled world {}", directory, e);
+        }
+    }
+
+    private static void move(final @NonNull File source, final @NonNull File destination) throws IOException {
+        try {
+            Files.move(source.toPath(), destination.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException ignored) {
+            Files.move(source.toPath(), destination.toPath());
+        }
+    }
+
+    private @NonNull File getPoolDirectory() {
+        return new File(PlotSquared.platform().worldContainer(), POOL_DIRECTORY);
+    }
+
+    /**
+     * Move a prepared copy of the template world into place.
+     *
+     * @param destination world directory, which must not exist
+     * @return {@code true} if a prepared copy was used, {@code false} if the caller has to copy the template itself
+     */
+    boolean take(final @NonNull File destination) {
+        if (Settings.Single_Worlds.POOL_SIZE <= 0) {
+            return false;
+        }
+        final long templateModified = new File(new File(PlotSquared.platform().worldContainer(), TEMPLATE_WORLD), "level.dat")
+                .lastModified();
+        File copy;
+        while ((copy = this.ready.poll()) != null) {
+            if (new File(copy, "level.dat").lastModified() < templateModified) {
+                // The template changed since this copy was made
+                delete(copy);
+                continue;
+            }
+            try {
+                move(copy, destination);
+                this.hits.incrementAndGet();
+                replenish();
+                return true;
+            } catch (final IOException e) {
+                LOGGER.warn("Failed to move pooled world {} to {}", copy, destination, e);
+                delete(copy);
+            }
+        }
+        this.misses.incrementAndGet();
+        replenish();
+        return false;
+    }
+
+    /**
+     * Top the pool up to the configured size on a background thread. Does nothing
+     * if the pool is already being replenished.
+     */
+    public void replenish() {
+        if (Settings.Single_Worlds.POOL_SIZE <= 0 || !this.replenishing.compareAndSet(false, true)) {
+            return;
+        }
+        TaskManager.runTaskAsync(() -> {
+            try {
+                final File pool = getPoolDirectory();
+                if (this.initialized.compareAndSet(false, true)) {
+                    recover(pool);
+                }
+                final File container = PlotSquared.platform().worldContainer();
+                while (this.ready.size() < Settings.Single_Worlds.POOL_SIZE) {
+                    final String name = UUID.randomUUID().toString();
+                    final File temporary = new File(pool, TEMPORARY_PREFIX + name);
+                    if (!copyTemplate(container, temporary)) {
+                        break;
+                    }
+                    final File copy = new File(pool, name);
+                    move(temporary, copy);
+                    this.ready.add(copy);
+                }
+            } catch (final IOException e) {
+                LOGGER.error("Failed to prepare pooled worlds", e);
+            } finally {
+                this.replenishing.set(false);
+            }
+        });
+    }
+
+    private void recover(final @NonNull File pool) {
+        final File[] files = pool.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (final File file : files) {
+            if (file.getName().startsWith(TEMPORARY_PREFIX)) {
+                delete(file);
+            } else if (file.isDirectory()) {
+                this.ready.add(file);
+            }
+        }
+    }
+
+    /**
+     * Record that an idle plot world has been unloaded.
+     */
+    public void recordUnload() {
+        this.unloads.incrementAndGet();
+    }
+
+    /**
+     * Get the number of prepared copies currently in the pool.
+     *
+     * @return pool size
+     */
+    public int getReady() {
+        return this.ready.size();
+    }
+
+    /**
+     * Get the number of world loads that used a prepared copy.
+     *
+     * @return pool hits
+     */
+    public long getHits() {
+        return this.hits.get();
+    }
+
+    /**
+     * Get the number of world loads that had to copy the template themselves.
+     *
+     * @return pool misses
+     */
+    public long getMisses() {
+        return this.misses.get();
+    }
+
+    /**
+     * Get the number of idle plot worlds that have been unloaded.
+     *
+     * @return idle unloads
+     */
+    public long getUnloads() {
+        return this.unloads.get();
+    }
+
+}
@@ -26,10 +26,14 @@
 package com.plotsquared.core.queue;
 
 import com.plotsquared.core.util.task.PlotSquaredTask;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.function.BooleanSupplier;
 
 public abstract class ChunkCoordinator implements PlotSquaredTask {
 
     private boolean cancelled = false;
+    private volatile BooleanSupplier consumerReady = () -> true;
 
     @Override
     public abstract void runTask();
@@ -51,6 +55,45 @@ public abstract class ChunkCoordinator implements PlotSquaredTask {
      */
     public abstract void start();
 
+    /**
+     * Process the next loaded chunk, if one is available. Called by the {@link ChunkCoordinatorScheduler}, which
+     * interleaves the chunks of all running coordinators within one time budget per tick. Coordinators that are
+     * not scheduled, and process their chunks in {@link #runTask()} instead, do not need to override this.
+     *
+     * @return {@code true} if a chunk was processed, {@code false} if no loaded chunk was available
+     */
+    public boolean processNextChunk() {
+        return false;
+    }
+
+    /**
+     * Called by the {@link ChunkCoordinatorScheduler} at the end of every tick, after chunks have been processed.
+     * Used to complete the coordinator and to request more chunks. Does nothing by default.
+     *
+     * @param processedChunks Amount of chunks processed by this coordinator during the tick
+     */
+    public void finishTick(int processedChunks) {
+    }
+
+    /**
+     * Set a condition that must hold for the chunk consumer to be given the next loaded chunk. While it does not
+     * hold, implementations should keep loaded chunks waiting and not request further chunks.
+     *
+     * @param consumerReady condition checked before each chunk is consumed
+     */
+    public void setConsumerReady(final @NonNull BooleanSupplier consumerReady) {
+        this.consumerReady = consumerReady;
+    }
+
+    /**
+     * Check whether the chunk consumer may be given the next loaded chunk, see {@link #setConsumerReady(BooleanSupplier)}
+     *
+     * @return {@code true} if the next chunk may be consumed
+     */
+    protected boolean isConsumerReady() {
+        return this.consumerReady.getAsBoolean();
+    }
+
     /**
      * Get the amount of remaining chunks (at the time of the method call)
      *
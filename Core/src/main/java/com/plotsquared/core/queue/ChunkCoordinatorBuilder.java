@@ -40,6 +40,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 
 /**
@@ -53,6 +54,7 @@ public class ChunkCoordinatorBuilder {
     private Consumer<Throwable> throwableConsumer = Throwable::printStackTrace;
     private World world;
     private Consumer<BlockVector2> chunkConsumer;
+    private BooleanSupplier consumerReady;
     private Runnable whenDone = () -> {
     };
     private long maxIterationTime = Settings.QUEUE.MAX_ITERATION_TIME; // A little over 1 tick;
@@ -136,6 +138,18 @@ public class ChunkCoordinatorBuilder {
         return this;
     }
 
+    /**
+     * Set the condition that must hold for the consumer to be given the next loaded chunk,
+     * see {@link QueueCoordinator#setChunkConsumerReady(BooleanSupplier)}
+     *
+     * @param consumerReady condition checked before each chunk is consumed
+     * @return this ChunkCoordinatorBuilder instance
+     */
+    public @NonNull ChunkCoordinatorBuilder withConsumerReady(final @Nullable BooleanSupplier consumerReady) {
+        this.consumerReady = consumerReady;
+        return this;
+    }
+
     /**
      * Set the Runnable to run when all chunks have been accessed
      *
@@ -217,7 +231,7 @@ public class ChunkCoordinatorBuilder {
         Preconditions.checkNotNull(this.chunkConsumer, "No chunk consumer was supplied");
         Preconditions.checkNotNull(this.whenDone, "No final action was supplied");
         Preconditions.checkNotNull(this.throwableConsumer, "No throwable consumer was supplied");
-        return chunkCoordinatorFactory
+        final ChunkCoordinator coordinator = chunkCoordinatorFactory
                 .create(this.maxIterationTime,
                         this.initialBatchSize,
                         this.chunkConsumer,
@@ -228,6 +242,10 @@ public class ChunkCoordinatorBuilder {
                         this.unloadAfter,
                         this.progressSubscribers
                 );
+        if (this.consumerReady != null) {
+            coordinator.setConsumerReady(this.consumerReady);
+        }
+        return coordinator;
     }
 
 }
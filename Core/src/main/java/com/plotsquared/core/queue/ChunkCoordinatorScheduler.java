@@ -0,0 +1,205 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *                  Copyright (C) 2021 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.queue;
+
+import com.google.inject.Singleton;
+import com.plotsquared.core.configuration.Settings;
+import com.plotsquared.core.util.task.PlotSquaredTask;
+import com.plotsquared.core.util.task.TaskManager;
+import com.plotsquared.core.util.task.TaskTime;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the chunk work of every active {@link ChunkCoordinator} from a single repeating task,
+ * sharing one per-tick time budget between them. Coordinators are handed one chunk at a time in
+ * round-robin order, so a large queue cannot starve smaller ones, and the budget shrinks while
+ * the server is already running behind.
+ */
+@Singleton
+public final class ChunkCoordinatorScheduler implements PlotSquaredTask {
+
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final List<ChunkCoordinator> coordinators = new CopyOnWriteArrayList<>();
+    private PlotSquaredTask task;
+    private int offset;
+    private long lastTick;
+
+    // Metrics, only written from the scheduler task
+    private volatile long processedChunks;
+    private volatile int lastTickChunks;
+    private volatile long lastTickNanos;
+    private volatile long lastBudgetNanos;
+    private volatile long lastTickInterval;
+
+    /**
+     * Start running the given coordinator from the next tick on. It is removed once it has been cancelled.
+     *
+     * @param coordinator Coordinator to schedule
+     */
+    public synchronized void schedule(final @NonNull ChunkCoordinator coordinator) {
+        this.coordinators.add(coordinator);
+        if (this.task == null) {
+            this.lastTick = 0;
+            this.task = TaskManager.runTaskRepeat(this, TaskTime.ticks(1));
+        }
+    }
+
+    @Override
+    public void runTask() {
+        final long start = System.nanoTime();
+        final long interval = this.lastTick == 0 ? TICK_NANOS : start - this.lastTick;
+        this.lastTick = start;
+        this.lastTickInterval = interval;
+        final ChunkCoordinator[] active = this.coordinators.toArray(new ChunkCoordinator[0]);
+        if (active.length == 0) {
+            synchronized (this) {
+                if (this.coordinators.isEmpty() && this.task != null) {
+                    this.task.cancel();
+                    this.task = null;
+                }
+            }
+            return;
+        }
+        final long budget = getBudget(interval);
+        final long deadline = start + budget;
+        final int[] processed = new int[active.length];
+        final int first = Math.floorMod(this.offset++, active.length);
+        int total = 0;
+        boolean progress = true;
+        loop:
+        while (progress) {
+            progress = false;
+            for (int i = 0; i < active.length; i++) {
+                final int index = (first + i) % active.length;
+                final ChunkCoordinator coordinator = active[index];
+                if (coordinator.isCancelled() || !coordinator.processNextChunk()) {
+                    continue;
+                }
+                processed[index]++;
+                total++;
+                progress = true;
+                if (System.nanoTime() >= deadline) {
+                    break loop;
+                }
+            }
+        }
+        for (int i = 0; i < active.length; i++) {
+            final ChunkCoordinator coordinator = active[i];
+            if (!coordinator.isCancelled()) {
+                coordinator.finishTick(processed[i]);
+            }
+            if (coordinator.isCancelled()) {
+                this.coordinators.remove(coordinator);
+            }
+        }
+        this.processedChunks += total;
+        this.lastTickChunks = total;
+        this.lastTickNanos = System.nanoTime() - start;
+        this.lastBudgetNanos = budget;
+    }
+
+    /**
+     * Get the time that may be spent this tick. Time by which the last tick overran its 50ms is
+     * taken off the configured budget, down to the configured minimum.
+     */
+    private long getBudget(final long interval) {
+        final long budget = TimeUnit.MILLISECONDS.toNanos(Settings.QUEUE.MAX_ITERATION_TIME);
+        final long minimum = TimeUnit.MILLISECONDS.toNanos(Math.min(
+                Settings.QUEUE.MIN_ITERATION_TIME,
+                Settings.QUEUE.MAX_ITERATION_TIME
+        ));
+        return Math.max(minimum, budget - Math.max(0, interval - TICK_NANOS));
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return false;
+    }
+
+    @Override
+    public void cancel() {
+    }
+
+    /**
+     * Get the number of coordinators currently scheduled
+     *
+     * @return scheduled coordinator count
+     */
+    public int getActiveCoordinators() {
+        return this.coordinators.size();
+    }
+
+    /**
+     * Get the number of chunks processed since the server started
+     *
+     * @return processed chunk count
+     */
+    public long getProcessedChunks() {
+        return this.processedChunks;
+    }
+
+    /**
+     * Get the number of chunks processed during the last tick
+     *
+     * @return chunk count of the last tick
+     */
+    public int getLastTickChunks() {
+        return this.lastTickChunks;
+    }
+
+    /**
+     * Get the time spent processing chunks during the last tick
+     *
+     * @return time in nanoseconds
+     */
+    public long getLastTickNanos() {
+        return this.lastTickNanos;
+    }
+
+    /**
+     * Get the time budget of the last tick, after accounting for server lag
+     *
+     * @return budget in nanoseconds
+     */
+    public long getLastBudgetNanos() {
+        return this.lastBudgetNanos;
+    }
+
+    /**
+     * Get the measured length of the last server tick, as seen by the scheduler
+     *
+     * @return tick length in nanoseconds
+     */
+    public long getLastTickInterval() {
+        return this.lastTickInterval;
+    }
+
+}
@@ -42,6 +42,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 
 /**
@@ -226,6 +227,21 @@ public class DelegateQueueCoordinator extends QueueCoordinator {
         }
     }
 
+    @Override
+    public @Nullable BooleanSupplier getChunkConsumerReady() {
+        if (parent != null) {
+            return parent.getChunkConsumerReady();
+        }
+        return null;
+    }
+
+    @Override
+    public void setChunkConsumerReady(@Nullable BooleanSupplier ready) {
+        if (parent != null) {
+            parent.setChunkConsumerReady(ready);
+        }
+    }
+
     @Override
     public void addProgressSubscriber(@NonNull ProgressSubscriber progressSubscriber) {
         if (parent != null) {
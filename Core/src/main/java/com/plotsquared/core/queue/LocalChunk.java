@@ -34,25 +34,49 @@ import com.sk89q.worldedit.util.Location;
 import com.sk89q.worldedit.world.biome.BiomeType;
 import com.sk89q.worldedit.world.block.BaseBlock;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.Arrays;
 import java.util.HashMap;
 
 public class LocalChunk {
 
+    /**
+     * Palette index of a position that has no block set.
+     */
+    private static final char UNSET = 0;
+    private static final int MAX_PALETTE_SIZE = Character.MAX_VALUE + 1;
+
     private final QueueCoordinator parent;
     private final int x;
     private final int z;
 
-    private final BaseBlock[][] baseblocks;
+    /**
+     * Blocks are stored as indices into a palette shared by every layer of the chunk, as a chunk
+     * written by a queue rarely contains more than a handful of distinct blocks.
+     */
+    private final char[][] blockIds;
+    private final int[] blockCounts;
+    private final HashMap<BaseBlock, Character> paletteIds = new HashMap<>();
     private final BiomeType[][] biomes;
     private final HashMap<BlockVector3, CompoundTag> tiles = new HashMap<>();
     private final HashMap<Location, BaseEntity> entities = new HashMap<>();
+    /**
+     * The blocks themselves, indexed like {@link #blockIds}, once more distinct blocks have been set than the
+     * palette can index. {@code null} while the blocks are stored as palette indices.
+     */
+    private BaseBlock[][] blocks;
+    private BaseBlock[] palette = new BaseBlock[16];
+    private int paletteSize = 1;
+    private BaseBlock lastBlock;
+    private char lastBlockId;
 
     public LocalChunk(@NonNull QueueCoordinator parent, int x, int z) {
         this.parent = parent;
         this.x = x;
         this.z = z;
-        baseblocks = new BaseBlock[16][];
+        blockIds = new char[16][];
+        blockCounts = new int[16];
         biomes = new BiomeType[16][];
     }
 
@@ -68,8 +92,99 @@ public class LocalChunk {
         return this.z;
     }
 
+    /**
+     * Get the blocks set in this chunk, indexed by layer and then {@link ChunkUtil#getJ(int, int, int)}. The returned
+     * arrays are a copy of the chunk's contents; prefer {@link #getBlock(int, int)} when reading single blocks.
+     *
+     * @return blocks set in this chunk
+     */
     public @NonNull BaseBlock[][] getBaseblocks() {
-        return this.baseblocks;
+        if (this.blocks != null) {
+            final BaseBlock[][] baseblocks = new BaseBlock[this.blocks.length][];
+            for (int layer = 0; layer < this.blocks.length; layer++) {
+                if (this.blocks[layer] != null) {
+                    baseblocks[layer] = this.blocks[layer].clone();
+                }
+            }
+            return baseblocks;
+        }
+        final BaseBlock[][] baseblocks = new BaseBlock[this.blockIds.length][];
+        for (int layer = 0; layer < this.blockIds.length; layer++) {
+            final char[] ids = this.blockIds[layer];
+            if (ids == null) {
+                continue;
+            }
+            final BaseBlock[] array = baseblocks[layer] = new BaseBlock[ids.length];
+            for (int j = 0; j < ids.length; j++) {
+                array[j] = this.palette[ids[j]];
+            }
+        }
+        return baseblocks;
+    }
+
+    /**
+     * Get the number of layers (16 block high sections) in this chunk
+     *
+     * @return number of layers
+     */
+    public int getLayerCount() {
+        return this.blockIds.length;
+    }
+
+    /**
+     * Get the number of blocks set in the given layer
+     *
+     * @param layer layer (y {@literal >>} 4)
+     * @return number of blocks set, from 0 to 4096
+     */
+    public int getBlockCount(final int layer) {
+        return this.blockCounts[layer];
+    }
+
+    /**
+     * Get the block set at the given position of a layer
+     *
+     * @param layer layer (y {@literal >>} 4)
+     * @param j     index within the layer, see {@link ChunkUtil#getJ(int, int, int)}
+     * @return the block, or {@code null} if no block is set there
+     */
+    public @Nullable BaseBlock getBlock(final int layer, final int j) {
+        if (this.blocks != null) {
+            final BaseBlock[] array = this.blocks[layer];
+            return array == null ? null : array[j];
+        }
+        final char[] ids = this.blockIds[layer];
+        return ids == null ? null : this.palette[ids[j]];
+    }
+
+    /**
+     * Get the block filling the given layer, if every position of the layer is set to the same block
+     *
+     * @param layer layer (y {@literal >>} 4)
+     * @return the block filling the layer, or {@code null} if the layer is not completely set to one block
+     */
+    public @Nullable BaseBlock getUniformBlock(final int layer) {
+        if (this.blockCounts[layer] != 4096) {
+            return null;
+        }
+        if (this.blocks != null) {
+            final BaseBlock[] array = this.blocks[layer];
+            final BaseBlock block = array[0];
+            for (int j = 1; j < array.length; j++) {
+                if (!block.equals(array[j])) {
+                    return null;
+                }
+            }
+            return block;
+        }
+        final char[] ids = this.blockIds[layer];
+        final char id = ids[0];
+        for (int j = 1; j < ids.length; j++) {
+            if (ids[j] != id) {
+                return null;
+            }
+        }
+        return this.palette[id];
     }
 
     public @NonNull BiomeType[][] getBiomes() {
@@ -98,9 +213,33 @@ public class LocalChunk {
     public void setBlock(final int x, final int y, final int z, final @NonNull BaseBlock baseBlock) {
         final int i = y >> 4;
         final int j = ChunkUtil.getJ(x, y, z);
-        BaseBlock[] array = baseblocks[i];
+        if (blocks != null) {
+            setUnpaletted(i, j, baseBlock);
+            return;
+        }
+        char[] array = blockIds[i];
+        if (array == null) {
+            array = (blockIds[i] = new char[4096]);
+        }
+        final char id = getPaletteId(baseBlock);
+        if (blocks != null) {
+            // The palette has just been exhausted
+            setUnpaletted(i, j, baseBlock);
+            return;
+        }
+        if (array[j] == UNSET) {
+            blockCounts[i]++;
+        }
+        array[j] = id;
+    }
+
+    private void setUnpaletted(final int i, final int j, final @NonNull BaseBlock baseBlock) {
+        BaseBlock[] array = blocks[i];
         if (array == null) {
-            array = (baseblocks[i] = new BaseBlock[4096]);
+            array = (blocks[i] = new BaseBlock[4096]);
+        }
+        if (array[j] == null) {
+            blockCounts[i]++;
         }
         array[j] = baseBlock;
     }
@@ -117,4 +256,67 @@ public class LocalChunk {
         return this.entities;
     }
 
+    private char getPaletteId(final @NonNull BaseBlock baseBlock) {
+        // Queues mostly set long runs of the same block, so skip the lookup for repeats
+        if (baseBlock == this.lastBlock) {
+            return this.lastBlockId;
+        }
+        Character id = this.paletteIds.get(baseBlock);
+        if (id == null) {
+            if (this.paletteSize == MAX_PALETTE_SIZE && !compactPalette()) {
+                // Every index is in use, so store the blocks themselves from now on
+                this.blocks = this.getBaseblocks();
+                Arrays.fill(this.blockIds, null);
+                this.palette = null;
+                this.paletteIds.clear();
+                this.lastBlock = null;
+                return UNSET;
+            }
+            if (this.paletteSize == this.palette.length) {
+                this.palette = Arrays.copyOf(this.palette, Math.min(this.palette.length << 1, MAX_PALETTE_SIZE));
+            }
+            id = (char) this.paletteSize++;
+            this.palette[id] = baseBlock;
+            this.paletteIds.put(baseBlock, id);
+        }
+        this.lastBlock = baseBlock;
+        this.lastBlockId = id;
+        return id;
+    }
+
+    /**
+     * Drop palette entries that are no longer referenced by any position. Only reached when blocks have been
+     * overwritten with enough distinct blocks to exhaust the palette.
+     *
+     * @return {@code true} if the compacted palette has room for another block
+     */
+    private boolean compactPalette() {
+        final char[] remapped = new char[MAX_PALETTE_SIZE];
+        final BaseBlock[] compacted = new BaseBlock[MAX_PALETTE_SIZE];
+        this.paletteIds.clear();
+        int size = 1;
+        for (final char[] ids : this.blockIds) {
+            if (ids == null) {
+                continue;
+            }
+            for (int j = 0; j < ids.length; j++) {
+                final char id = ids[j];
+                if (id == UNSET) {
+                    continue;
+                }
+                if (remapped[id] == UNSET) {
+                    remapped[id] = (char) size;
+                    compacted[size] = this.palette[id];
+                    this.paletteIds.put(compacted[size], remapped[id]);
+                    size++;
+                }
+                ids[j] = remapped[id];
+            }
+        }
+        this.palette = compacted;
+        this.paletteSize = size;
+        this.lastBlock = null;
+        return size < MAX_PALETTE_SIZE;
+    }
+
 }
@@ -44,6 +44,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.List;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 
 public abstract class QueueCoordinator {
@@ -51,6 +52,8 @@ public abstract class QueueCoordinator {
     private boolean forceSync = false;
     @Nullable
     private Object chunkObject;
+    @Nullable
+    private BooleanSupplier chunkConsumerReady;
 
     @Inject
     private GlobalBlockQueue blockQueue;
@@ -360,6 +363,28 @@ public abstract class QueueCoordinator {
      */
     public abstract void setChunkConsumer(@NonNull Consumer<BlockVector2> consumer);
 
+    /**
+     * Get the condition that must hold for the chunk consumer to be given the next chunk, or null if chunks
+     * are given to the consumer as soon as they have been loaded
+     *
+     * @return condition checked before each chunk is consumed
+     */
+    public @Nullable BooleanSupplier getChunkConsumerReady() {
+        return this.chunkConsumerReady;
+    }
+
+    /**
+     * Set a condition that must hold for the chunk consumer to be given the next chunk. While it does not hold,
+     * loaded chunks are kept waiting and no further chunks are loaded. This allows consumers that hand chunks
+     * off to other threads to limit the number of chunks waiting for them.
+     *
+     * @param ready condition checked before each chunk is consumed, or null to consume chunks as soon as they
+     *              have been loaded
+     */
+    public void setChunkConsumerReady(@Nullable BooleanSupplier ready) {
+        this.chunkConsumerReady = ready;
+    }
+
     /**
      * Add a {@link ProgressSubscriber} to the Queue to subscribe to the relevant Chunk Processor
      */
@@ -77,6 +77,8 @@ public class EntityUtil {
         if (Settings.Done.RESTRICT_BUILDING && DoneFlag.isDone(plot)) {
             return true;
         }
+        // Tracked counts are exact and cheap to read, the meta is only needed to avoid world scans
+        final boolean cacheCounts = plot.getArea() == null || !plot.getArea().isEntityCountTracked(plot.getWorldName());
         int[] mobs = null;
         for (PlotFlag<Integer, ?> flag : flags) {
             final int i = capNumeral(flag.getName());
@@ -91,13 +93,15 @@ public class EntityUtil {
                 mobs = plot.countEntities();
             }
             if (mobs[i] >= cap) {
-                plot.setMeta("EntityCount", mobs);
-                plot.setMeta("EntityCountTime", System.currentTimeMillis());
+                if (cacheCounts) {
+                    plot.setMeta("EntityCount", mobs);
+                    plot.setMeta("EntityCountTime", System.currentTimeMillis());
+                }
                 plot.debug("Prevented spawning of mob because it would exceed " + flag.getName());
                 return true;
             }
         }
-        if (mobs != null) {
+        if (mobs != null && cacheCounts) {
             for (PlotFlag<Integer, ?> flag : flags) {
                 final int i = capNumeral(flag.getName());
                 mobs[i]++;
@@ -63,6 +63,8 @@ public abstract class PlayerManager<P extends PlotPlayer<? extends T>, T> {
 
     private final Map<UUID, P> playerMap = new HashMap<>();
     private final Object playerLock = new Object();
+    // Only written while holding the player lock
+    private volatile long presenceVersion;
 
     public static void getUUIDsFromString(
             final @NonNull String list,
@@ -210,7 +212,9 @@ public abstract class PlayerManager<P extends PlotPlayer<? extends T>, T> {
      */
     public void removePlayer(final @NonNull PlotPlayer<?> plotPlayer) {
         synchronized (playerLock) {
-            this.playerMap.remove(plotPlayer.getUUID());
+            if (this.playerMap.remove(plotPlayer.getUUID()) != null) {
+                this.presenceVersion++;
+            }
         }
     }
 
@@ -221,7 +225,9 @@ public abstract class PlayerManager<P extends PlotPlayer<? extends T>, T> {
      */
     public void removePlayer(final @NonNull UUID uuid) {
         synchronized (playerLock) {
-            this.playerMap.remove(uuid);
+            if (this.playerMap.remove(uuid) != null) {
+                this.presenceVersion++;
+            }
         }
     }
 
@@ -275,6 +281,7 @@ public abstract class PlayerManager<P extends PlotPlayer<? extends T>, T> {
             if (player == null) {
                 player = createPlayer(uuid);
                 this.playerMap.put(uuid, player);
+                this.presenceVersion++;
             }
             return player;
         }
@@ -282,6 +289,17 @@ public abstract class PlayerManager<P extends PlotPlayer<? extends T>, T> {
 
     public @NonNull abstract P createPlayer(final @NonNull UUID uuid);
 
+    /**
+     * Get a counter that changes whenever a player is added to or removed from the
+     * player map. Can be used to validate cached decisions that depend on which
+     * players are online.
+     *
+     * @return presence version
+     */
+    public long getPresenceVersion() {
+        return this.presenceVersion;
+    }
+
     /**
      * Get an an offline player object from the player's UUID
      *
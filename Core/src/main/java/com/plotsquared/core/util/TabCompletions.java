@@ -229,7 +229,17 @@ public final class TabCompletions {
             final @NonNull Predicate<UUID> uuidFilter
     ) {
         List<String> players;
-        if (Settings.Enabled_Components.EXTENDED_USERNAME_COMPLETION) {
+        if (Settings.Enabled_Components.EXTENDED_USERNAME_COMPLETION && !input.isEmpty()) {
+            // Only look at the usernames matching the input instead of filtering every known username
+            final Collection<UUIDMapping> mappings =
+                    PlotSquared.get().getImpromptuUUIDPipeline().getAllImmediatelyByPrefix(input);
+            players = new ArrayList<>(mappings.size());
+            for (final UUIDMapping mapping : mappings) {
+                if (uuidFilter.test(mapping.getUuid())) {
+                    players.add(mapping.getUsername());
+                }
+            }
+        } else if (Settings.Enabled_Components.EXTENDED_USERNAME_COMPLETION) {
             players = cachedCompletionValues.getIfPresent(cacheIdentifier);
             if (players == null) {
                 final Collection<UUIDMapping> mappings =
@@ -26,6 +26,8 @@
 package com.plotsquared.core.util.entity;
 
 import com.plotsquared.core.PlotSquared;
+import com.sk89q.worldedit.world.entity.EntityType;
+import org.checkerframework.checker.nullness.qual.NonNull;
 
 /**
  * A collection of {@link EntityCategory entity categories}
@@ -38,6 +40,10 @@ public class EntityCategories {
     public static final int CAP_MOB = 3;
     public static final int CAP_VEHICLE = 4;
     public static final int CAP_MISC = 5;
+    /**
+     * Number of caps, which is the length of the arrays returned by the entity counting methods
+     */
+    public static final int CAP_COUNT = 6;
 
     public static final EntityCategory ANIMAL = register("animal");
     public static final EntityCategory TAMEABLE = register("tameable");
@@ -55,6 +61,30 @@ public class EntityCategories {
         return entityCategory;
     }
 
+    /**
+     * Get the caps that an entity of the given type counts towards.
+     *
+     * @param type the entity type
+     * @return a bit mask with the bit {@code 1 << CAP_} set for each cap the type counts towards,
+     *         {@code 0} for players, which are never counted
+     */
+    public static int getCapMask(final @NonNull EntityType type) {
+        if (PLAYER.contains(type)) {
+            return 0;
+        }
+        int mask = 1 << CAP_ENTITY;
+        if (PROJECTILE.contains(type) || OTHER.contains(type) || HANGING.contains(type)) {
+            mask |= 1 << CAP_MISC;
+        } else if (ANIMAL.contains(type) || VILLAGER.contains(type) || TAMEABLE.contains(type)) {
+            mask |= 1 << CAP_MOB | 1 << CAP_ANIMAL;
+        } else if (VEHICLE.contains(type)) {
+            mask |= 1 << CAP_VEHICLE;
+        } else if (HOSTILE.contains(type)) {
+            mask |= 1 << CAP_MOB | 1 << CAP_MONSTER;
+        }
+        return mask;
+    }
+
     public static void init() {
     }
 
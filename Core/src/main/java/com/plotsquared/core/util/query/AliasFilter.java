@@ -41,4 +41,8 @@ class AliasFilter implements PlotFilter {
         return this.alias.equalsIgnoreCase(plot.getAlias());
     }
 
+    @NonNull String getAlias() {
+        return this.alias;
+    }
+
 }
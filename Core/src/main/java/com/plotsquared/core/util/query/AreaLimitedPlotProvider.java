@@ -27,10 +27,13 @@ package com.plotsquared.core.util.query;
 
 import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.PlotArea;
+import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 class AreaLimitedPlotProvider implements PlotProvider {
 
@@ -49,4 +52,40 @@ class AreaLimitedPlotProvider implements PlotProvider {
         return plots;
     }
 
+    @Override
+    public Stream<Plot> streamPlots() {
+        // Concatenated rather than flat mapped, so that parallel streams split within the areas
+        return this.areas.stream()
+                .map(area -> area.getPlots().stream())
+                .reduce(Stream::concat)
+                .orElseGet(Stream::empty);
+    }
+
+    @Override
+    public Collection<Plot> getPlotsOwnedBy(final @NonNull UUID owner) {
+        final List<Plot> plots = new LinkedList<>();
+        for (final PlotArea area : areas) {
+            plots.addAll(area.getPlotsAbs(owner));
+        }
+        return plots;
+    }
+
+    @Override
+    public Collection<Plot> getPlotsByAlias(final @NonNull String alias) {
+        final List<Plot> plots = new LinkedList<>();
+        for (final PlotArea area : areas) {
+            plots.addAll(area.getPlotsByAlias(alias));
+        }
+        return plots;
+    }
+
+    @Override
+    public Collection<Plot> getPlotsAddedTo(final @NonNull UUID member) {
+        final List<Plot> plots = new LinkedList<>();
+        for (final PlotArea area : areas) {
+            plots.addAll(area.getPlotsAddedTo(member));
+        }
+        return plots;
+    }
+
 }
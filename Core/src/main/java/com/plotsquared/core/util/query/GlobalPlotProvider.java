@@ -30,9 +30,12 @@ import com.plotsquared.core.plot.PlotArea;
 import com.plotsquared.core.plot.world.PlotAreaManager;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 class GlobalPlotProvider implements PlotProvider {
 
@@ -51,4 +54,40 @@ class GlobalPlotProvider implements PlotProvider {
         return plots;
     }
 
+    @Override
+    public Stream<Plot> streamPlots() {
+        // Concatenated rather than flat mapped, so that parallel streams split within the areas
+        return Arrays.stream(this.plotAreaManager.getAllPlotAreas())
+                .map(area -> area.getPlots().stream())
+                .reduce(Stream::concat)
+                .orElseGet(Stream::empty);
+    }
+
+    @Override
+    public Collection<Plot> getPlotsOwnedBy(final @NonNull UUID owner) {
+        final Set<Plot> plots = new HashSet<>();
+        for (final PlotArea plotArea : this.plotAreaManager.getAllPlotAreas()) {
+            plots.addAll(plotArea.getPlotsAbs(owner));
+        }
+        return plots;
+    }
+
+    @Override
+    public Collection<Plot> getPlotsByAlias(final @NonNull String alias) {
+        final Set<Plot> plots = new HashSet<>();
+        for (final PlotArea plotArea : this.plotAreaManager.getAllPlotAreas()) {
+            plots.addAll(plotArea.getPlotsByAlias(alias));
+        }
+        return plots;
+    }
+
+    @Override
+    public Collection<Plot> getPlotsAddedTo(final @NonNull UUID member) {
+        final Set<Plot> plots = new HashSet<>();
+        for (final PlotArea plotArea : this.plotAreaManager.getAllPlotAreas()) {
+            plots.addAll(plotArea.getPlotsAddedTo(member));
+        }
+        return plots;
+    }
+
 }
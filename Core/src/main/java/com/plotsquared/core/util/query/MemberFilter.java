@@ -44,4 +44,8 @@ class MemberFilter implements PlotFilter {
         return plot.isAdded(uuid);
     }
 
+    @NonNull UUID getMember() {
+        return this.uuid;
+    }
+
 }
@@ -44,4 +44,8 @@ class OwnerFilter implements PlotFilter {
         return plot.hasOwner() && Objects.equals(plot.getOwnerAbs(), this.owner);
     }
 
+    @NonNull UUID getOwner() {
+        return this.owner;
+    }
+
 }
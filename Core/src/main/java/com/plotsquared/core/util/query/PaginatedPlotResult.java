@@ -29,20 +29,37 @@ import com.google.common.base.Preconditions;
 import com.plotsquared.core.plot.Plot;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 /**
- * Paginated collection of plots as a result of a {@link PlotQuery query}
+ * Paginated collection of plots as a result of a {@link PlotQuery query}.
+ * Results created by {@link PlotQuery#getPaginated(int)} are evaluated lazily:
+ * getting a page only sorts the plots up to and including that page, and the
+ * page count only counts the matching plots.
  */
 public final class PaginatedPlotResult {
 
-    private final List<Plot> plots;
+    private final PlotQuery query;
     private final int pageSize;
+    private List<Plot> plots;
+    // Number of leading plots of the result that are in the plot list
+    private int selected;
+    private int count = -1;
 
     PaginatedPlotResult(final @NonNull List<Plot> plots, final int pageSize) {
+        this.query = null;
         this.plots = plots;
         this.pageSize = pageSize;
+        this.selected = plots.size();
+        this.count = plots.size();
+    }
+
+    PaginatedPlotResult(final @NonNull PlotQuery query, final int pageSize) {
+        this.query = query;
+        this.plots = Collections.emptyList();
+        this.pageSize = pageSize;
     }
 
     /**
@@ -51,14 +68,15 @@ public final class PaginatedPlotResult {
      * @param page Positive page number. Indexed from 1
      * @return Plots that belong to the specified page
      */
-    public List<Plot> getPage(final int page) {
-        Preconditions.checkState(page >= 0, "Page must be positive");
+    public synchronized List<Plot> getPage(final int page) {
+        Preconditions.checkState(page > 0, "Page must be positive");
         final int from = (page - 1) * this.pageSize;
-        if (this.plots.size() < from) {
+        this.select(from + this.pageSize);
+        if (this.plots.size() <= from) {
             return Collections.emptyList();
         }
-        final int to = Math.max(from + pageSize, this.plots.size());
-        return this.plots.subList(from, to);
+        final int to = Math.min(from + this.pageSize, this.plots.size());
+        return Collections.unmodifiableList(this.plots.subList(from, to));
     }
 
     /**
@@ -67,7 +85,39 @@ public final class PaginatedPlotResult {
      * @return Available pages
      */
     public int getPages() {
-        return (int) Math.ceil((double) plots.size() / (double) pageSize);
+        return (int) Math.ceil((double) this.getPlotCount() / (double) this.pageSize);
+    }
+
+    /**
+     * Get the number of plots per page
+     *
+     * @return Page size
+     */
+    public int getPageSize() {
+        return this.pageSize;
+    }
+
+    /**
+     * Get the number of plots in the result. This is free once a page has been selected,
+     * otherwise the first page is selected to count the plots.
+     *
+     * @return Plot count
+     */
+    public synchronized int getPlotCount() {
+        if (this.count < 0) {
+            this.select(this.pageSize);
+        }
+        return this.count;
+    }
+
+    private void select(final int limit) {
+        if (this.query == null || this.selected >= limit || this.plots.size() == this.count) {
+            return;
+        }
+        final List<Plot> plots = new ArrayList<>();
+        this.count = this.query.selectFirst(limit, plots);
+        this.plots = plots;
+        this.selected = limit;
     }
 
 }
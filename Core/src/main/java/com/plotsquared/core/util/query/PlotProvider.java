@@ -26,12 +26,61 @@
 package com.plotsquared.core.util.query;
 
 import com.plotsquared.core.plot.Plot;
+import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.Collection;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 @FunctionalInterface
 interface PlotProvider {
 
     Collection<Plot> getPlots();
 
+    /**
+     * Stream the provided plots. Providers backed by plot areas stream the plots
+     * of the areas directly, instead of copying them into a new collection.
+     *
+     * @return Provided plots
+     */
+    default Stream<Plot> streamPlots() {
+        return this.getPlots().stream();
+    }
+
+    /**
+     * Get the provided plots that may be owned by the given owner. Providers
+     * backed by plot areas use the owner index of the areas, all other
+     * providers return every provided plot.
+     *
+     * @param owner Owner UUID
+     * @return Plots that may be owned by the owner
+     */
+    default Collection<Plot> getPlotsOwnedBy(final @NonNull UUID owner) {
+        return this.getPlots();
+    }
+
+    /**
+     * Get the provided plots that may have the given alias. Providers
+     * backed by plot areas use the search index of the areas, all other
+     * providers return every provided plot.
+     *
+     * @param alias Plot alias
+     * @return Plots that may have the alias
+     */
+    default Collection<Plot> getPlotsByAlias(final @NonNull String alias) {
+        return this.getPlots();
+    }
+
+    /**
+     * Get the provided plots that the given player may be added to. Providers
+     * backed by plot areas use the owner and search indexes of the areas, all
+     * other providers return every provided plot.
+     *
+     * @param member Member UUID
+     * @return Plots the player may be added to
+     */
+    default Collection<Plot> getPlotsAddedTo(final @NonNull UUID member) {
+        return this.getPlots();
+    }
+
 }
@@ -35,6 +35,7 @@ import com.plotsquared.core.plot.flag.implementations.DoneFlag;
 import com.plotsquared.core.plot.world.PlotAreaManager;
 import com.plotsquared.core.util.MathMan;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -45,9 +46,12 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -59,12 +63,61 @@ import java.util.stream.Stream;
  */
 public final class PlotQuery implements Iterable<Plot> {
 
+    /**
+     * Same order as {@link PlotSquared#sortPlotsByTemp(Collection)}: plots with a
+     * temporary id in ascending order, followed by the others in hash order
+     */
+    private static final Comparator<Plot> BY_TEMP = (a, b) -> {
+        if (a.temp > 0 && b.temp > 0) {
+            return Integer.compare(a.temp, b.temp);
+        } else if (a.temp > 0 || b.temp > 0) {
+            return a.temp > 0 ? -1 : 1;
+        }
+        return Integer.compare(a.hashCode(), b.hashCode());
+    };
+    private static final Comparator<Plot> BY_DONE = (a, b) -> {
+        String va = a.getFlag(DoneFlag.class);
+        String vb = b.getFlag(DoneFlag.class);
+        if (MathMan.isInteger(va)) {
+            if (MathMan.isInteger(vb)) {
+                return Integer.parseInt(vb) - Integer.parseInt(va);
+            }
+            return -1;
+        }
+        return 1;
+    };
+    private static final Comparator<Plot> BY_RATING = (p1, p2) -> {
+        double v1 = 0;
+        int p1s = p1.getSettings().getRatings().size();
+        int p2s = p2.getRatings().size();
+        if (!p1.getSettings().getRatings().isEmpty()) {
+            v1 = p1.getRatings().values().stream().mapToDouble(Rating::getAverageRating)
+                    .map(av -> av * av).sum();
+            v1 /= p1s;
+            v1 += p1s;
+        }
+        double v2 = 0;
+        if (!p2.getSettings().getRatings().isEmpty()) {
+            for (Map.Entry<UUID, Rating> entry : p2.getRatings().entrySet()) {
+                double av = entry.getValue().getAverageRating();
+                v2 += av * av;
+            }
+            v2 /= p2s;
+            v2 += p2s;
+        }
+        if (v2 == v1 && v2 != 0) {
+            return p2s - p1s;
+        }
+        return (int) Math.signum(v2 - v1);
+    };
+
     private final Collection<PlotFilter> filters = new LinkedList<>();
     private final PlotAreaManager plotAreaManager;
     private PlotProvider plotProvider;
     private SortingStrategy sortingStrategy = SortingStrategy.NO_SORTING;
     private PlotArea priorityArea;
     private Comparator<Plot> plotComparator;
+    private boolean parallel;
 
     private PlotQuery(final @NonNull PlotAreaManager plotAreaManager) {
         this.plotAreaManager = plotAreaManager;
@@ -237,7 +290,8 @@ public final class PlotQuery implements Iterable<Plot> {
 
     /**
      * Specify the sorting strategy that will decide how to
-     * sort the results. This only matters if you use {@link #asList()}
+     * sort the results. This only matters if you use {@link #asList()},
+     * {@link #asStream()} or {@link #getPaginated(int)}
      *
      * @param strategy Strategy
      * @return The query instance
@@ -275,12 +329,29 @@ public final class PlotQuery implements Iterable<Plot> {
     }
 
     /**
-     * Get all plots that match the given criteria
+     * Evaluate the filters in parallel. This is worth it for queries over a large
+     * number of plots, such as {@link #allPlots()} with an expensive {@link #thatPasses(Predicate)}
+     * predicate, which then has to be safe to call from multiple threads.
+     *
+     * @return The query instance
+     */
+    public @NonNull PlotQuery withParallelFiltering() {
+        this.parallel = true;
+        return this;
+    }
+
+    /**
+     * Get all plots that match the given criteria. The stream is lazy, so plots are
+     * only filtered as they are consumed, and only sorted if a sorting strategy is set
      *
      * @return Matching plots
      */
     public @NonNull Stream<Plot> asStream() {
-        return this.asList().stream();
+        final Comparator<Plot> comparator = this.getComparator();
+        if (comparator == null) {
+            return this.filteredStream();
+        }
+        return this.filteredStream().sorted(comparator);
     }
 
     /**
@@ -289,67 +360,10 @@ public final class PlotQuery implements Iterable<Plot> {
      * @return Matching plots as a mutable
      */
     public @NonNull List<Plot> asList() {
-        final List<Plot> result;
-        if (this.filters.isEmpty()) {
-            result = new ArrayList<>(this.plotProvider.getPlots());
-        } else {
-            final Collection<Plot> plots = this.plotProvider.getPlots();
-            result = new ArrayList<>(plots.size());
-            outer:
-            for (final Plot plot : plots) {
-                for (final PlotFilter filter : this.filters) {
-                    if (!filter.accepts(plot)) {
-                        continue outer;
-                    }
-                }
-                result.add(plot);
-            }
-        }
-        if (this.sortingStrategy == SortingStrategy.NO_SORTING) {
-            return result;
-        } else if (this.sortingStrategy == SortingStrategy.SORT_BY_TEMP) {
-            return PlotSquared.get().sortPlotsByTemp(result);
-        } else if (this.sortingStrategy == SortingStrategy.SORT_BY_DONE) {
-            result.sort((a, b) -> {
-                String va = a.getFlag(DoneFlag.class);
-                String vb = b.getFlag(DoneFlag.class);
-                if (MathMan.isInteger(va)) {
-                    if (MathMan.isInteger(vb)) {
-                        return Integer.parseInt(vb) - Integer.parseInt(va);
-                    }
-                    return -1;
-                }
-                return 1;
-            });
-        } else if (this.sortingStrategy == SortingStrategy.SORT_BY_RATING) {
-            result.sort((p1, p2) -> {
-                double v1 = 0;
-                int p1s = p1.getSettings().getRatings().size();
-                int p2s = p2.getRatings().size();
-                if (!p1.getSettings().getRatings().isEmpty()) {
-                    v1 = p1.getRatings().values().stream().mapToDouble(Rating::getAverageRating)
-                            .map(av -> av * av).sum();
-                    v1 /= p1s;
-                    v1 += p1s;
-                }
-                double v2 = 0;
-                if (!p2.getSettings().getRatings().isEmpty()) {
-                    for (Map.Entry<UUID, Rating> entry : p2.getRatings().entrySet()) {
-                        double av = entry.getValue().getAverageRating();
-                        v2 += av * av;
-                    }
-                    v2 /= p2s;
-                    v2 += p2s;
-                }
-                if (v2 == v1 && v2 != 0) {
-                    return p2s - p1s;
-                }
-                return (int) Math.signum(v2 - v1);
-            });
-        } else if (this.sortingStrategy == SortingStrategy.SORT_BY_CREATION) {
-            return PlotSquared.get().sortPlots(result, PlotSquared.SortType.CREATION_DATE, this.priorityArea);
-        } else if (this.sortingStrategy == SortingStrategy.COMPARATOR) {
-            result.sort(this.plotComparator);
+        final List<Plot> result = this.filteredStream().collect(Collectors.toCollection(ArrayList::new));
+        final Comparator<Plot> comparator = this.getComparator();
+        if (comparator != null) {
+            result.sort(comparator);
         }
         return result;
     }
@@ -360,19 +374,21 @@ public final class PlotQuery implements Iterable<Plot> {
      * @return Matching plots as a mutable set
      */
     public @NonNull Set<Plot> asSet() {
-        return new HashSet<>(this.asList());
+        return this.filteredStream().collect(Collectors.toCollection(HashSet::new));
     }
 
     /**
      * Get all plots that match the given criteria
-     * in the form of a {@link PaginatedPlotResult}
+     * in the form of a {@link PaginatedPlotResult}. The result is evaluated lazily
+     * against a copy of this query, and only the plots up to the requested page are
+     * sorted, so the first pages of a large result are cheap to get.
      *
      * @param pageSize The size of the pages. Must be positive.
      * @return Paginated plot result
      */
     public @NonNull PaginatedPlotResult getPaginated(final int pageSize) {
         Preconditions.checkState(pageSize > 0, "Page size must be greater than 0");
-        return new PaginatedPlotResult(this.asList(), pageSize);
+        return new PaginatedPlotResult(this.copy(), pageSize);
     }
 
     /**
@@ -390,7 +406,7 @@ public final class PlotQuery implements Iterable<Plot> {
      * @return Result count
      */
     public int count() {
-        return this.asList().size();
+        return (int) this.filteredStream().count();
     }
 
     /**
@@ -400,22 +416,145 @@ public final class PlotQuery implements Iterable<Plot> {
      * @return true if any provided plot matches the filters.
      */
     public boolean anyMatch() {
+        return this.filteredStream().findAny().isPresent();
+    }
+
+    /**
+     * Select the first plots of the sorted result. Only a heap of at most {@code limit}
+     * plots is sorted, instead of the entire result.
+     *
+     * @param limit  Maximum number of plots to select
+     * @param target List the selected plots are added to, in order
+     * @return The amount of plots contained in the query result
+     */
+    int selectFirst(final int limit, final @NonNull List<Plot> target) {
+        final Comparator<Plot> comparator = this.getComparator();
+        final int[] count = new int[1];
+        if (comparator == null) {
+            this.filteredStream().forEachOrdered(plot -> {
+                if (count[0]++ < limit) {
+                    target.add(plot);
+                }
+            });
+            return count[0];
+        }
+        // Max-heap of the best plots seen so far, its head is the one to evict first.
+        // forEachOrdered runs the action one plot at a time, also for parallel filtering
+        final PriorityQueue<Plot> heap = new PriorityQueue<>(limit + 1, comparator.reversed());
+        this.filteredStream().forEachOrdered(plot -> {
+            count[0]++;
+            heap.add(plot);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        });
+        final List<Plot> selected = new ArrayList<>(heap);
+        selected.sort(comparator);
+        target.addAll(selected);
+        return count[0];
+    }
+
+    /**
+     * Get the plots that match the filters, without sorting them.
+     *
+     * @return Lazy stream of matching plots
+     */
+    @NonNull
+    private Stream<Plot> filteredStream() {
+        Stream<Plot> stream = this.getProvidedPlots();
         if (this.filters.isEmpty()) {
-            return !this.plotProvider.getPlots().isEmpty();
-        } else {
-            final Collection<Plot> plots = this.plotProvider.getPlots();
-            outer:
-            for (final Plot plot : plots) {
-                // a plot must pass all filters to match the criteria
-                for (final PlotFilter filter : this.filters) {
-                    if (!filter.accepts(plot)) {
-                        continue outer;
-                    }
+            return stream;
+        }
+        if (this.parallel) {
+            stream = stream.parallel();
+        }
+        // a plot must pass all filters to match the criteria
+        final PlotFilter[] filters = this.filters.toArray(new PlotFilter[0]);
+        return stream.filter(plot -> {
+            for (final PlotFilter filter : filters) {
+                if (!filter.accepts(plot)) {
+                    return false;
                 }
-                return true; // a plot passed all filters, so we have a match
             }
-            return false;
+            return true;
+        });
+    }
+
+    /**
+     * Get the plots to run the filters against. If the query is restricted to
+     * a single owner, member or alias, the owner and search indexes of the plot
+     * areas are used instead of every plot of the provider.
+     *
+     * @return Candidate plots
+     */
+    @NonNull
+    private Stream<Plot> getProvidedPlots() {
+        for (final PlotFilter filter : this.filters) {
+            if (filter instanceof OwnerFilter) {
+                return this.plotProvider.getPlotsOwnedBy(((OwnerFilter) filter).getOwner()).stream();
+            }
+        }
+        for (final PlotFilter filter : this.filters) {
+            if (filter instanceof AliasFilter) {
+                return this.plotProvider.getPlotsByAlias(((AliasFilter) filter).getAlias()).stream();
+            } else if (filter instanceof MemberFilter) {
+                return this.plotProvider.getPlotsAddedTo(((MemberFilter) filter).getMember()).stream();
+            }
         }
+        return this.plotProvider.streamPlots();
+    }
+
+    /**
+     * Get the comparator that implements the sorting strategy
+     *
+     * @return Comparator, or {@code null} if the plots are not sorted
+     */
+    private @Nullable Comparator<Plot> getComparator() {
+        return switch (this.sortingStrategy) {
+            case NO_SORTING -> null;
+            case SORT_BY_TEMP -> BY_TEMP;
+            case SORT_BY_DONE -> BY_DONE;
+            case SORT_BY_RATING -> BY_RATING;
+            case SORT_BY_CREATION -> byArea(this.priorityArea).thenComparing(BY_TEMP);
+            case COMPARATOR -> this.plotComparator;
+        };
+    }
+
+    /**
+     * Order plots by their area, with the given area first. This is the area order of
+     * {@link PlotSquared#sortPlots(Collection, PlotSquared.SortType, PlotArea)}
+     *
+     * @param priorityArea Area whose plots come first, or {@code null}
+     * @return Comparator
+     */
+    private static @NonNull Comparator<Plot> byArea(final @Nullable PlotArea priorityArea) {
+        return (a, b) -> {
+            final PlotArea areaA = a.getArea();
+            final PlotArea areaB = b.getArea();
+            if (Objects.equals(areaA, areaB)) {
+                return 0;
+            }
+            if (priorityArea != null) {
+                if (priorityArea.equals(areaA)) {
+                    return -1;
+                } else if (priorityArea.equals(areaB)) {
+                    return 1;
+                }
+            }
+            return Integer.compare(Objects.hashCode(areaA), Objects.hashCode(areaB));
+        };
+    }
+
+    @NonNull
+    private PlotQuery copy() {
+        final PlotQuery query = new PlotQuery(this.plotAreaManager);
+        query.plotProvider = this.plotProvider;
+        query.filters.addAll(this.filters);
+        query.sortingStrategy = this.sortingStrategy;
+        query.priorityArea = this.priorityArea;
+        query.plotComparator = this.plotComparator;
+        query.parallel = this.parallel;
+        return query;
     }
 
     @NonNull
@@ -30,11 +30,15 @@ import com.plotsquared.core.configuration.Settings;
 import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.PlotArea;
 import com.plotsquared.core.plot.PlotId;
+import com.plotsquared.core.uuid.UUIDMapping;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -49,7 +53,10 @@ class SearchPlotProvider implements PlotProvider {
 
     /**
      * Fuzzy plot search with spaces separating terms.
-     * - Terms: type, alias, world, owner, trusted, member
+     * - Terms: plot id, owner, trusted, member, alias
+     * <p>
+     * Only the plots that match at least one term are looked at, using the owner
+     * and search indexes of the plot areas.
      *
      * @param search Search string
      * @return Search results
@@ -61,17 +68,35 @@ class SearchPlotProvider implements PlotProvider {
 
         List<UUID> uuids = new ArrayList<>();
         PlotId id = null;
+        String alias = null;
 
         for (String term : split) {
-            try {
-                UUID uuid = PlotSquared.get().getImpromptuUUIDPipeline()
-                        .getSingle(term, Settings.UUID.BLOCKING_TIMEOUT);
-                if (uuid == null) {
-                    uuid = UUID.fromString(term);
-                }
+            UUID uuid = getUUID(term);
+            if (uuid != null) {
                 uuids.add(uuid);
-            } catch (Exception ignored) {
-                id = PlotId.fromString(term);
+                continue;
+            }
+            PlotId plotId = PlotId.fromStringOrNull(term);
+            if (plotId != null) {
+                id = plotId;
+            } else {
+                alias = term;
+            }
+        }
+
+        final Set<Plot> candidates = new LinkedHashSet<>();
+        for (final PlotArea area : PlotSquared.get().getPlotAreaManager().getAllPlotAreas()) {
+            for (final UUID uuid : uuids) {
+                candidates.addAll(area.getPlotsAddedTo(uuid));
+            }
+            if (id != null) {
+                final Plot plot = area.getOwnedPlotAbs(id);
+                if (plot != null) {
+                    candidates.add(plot);
+                }
+            }
+            if (alias != null) {
+                candidates.addAll(area.getPlotsByAlias(alias));
             }
         }
 
@@ -79,9 +104,7 @@ class SearchPlotProvider implements PlotProvider {
                 IntStream.range(0, size).mapToObj(i -> new ArrayList<Plot>())
                         .collect(Collectors.toCollection(() -> new ArrayList<>(size)));
 
-        PlotArea area = null;
-        String alias = null;
-        for (Plot plot : PlotQuery.newQuery().allPlots()) {
+        for (Plot plot : candidates) {
             int count = 0;
             if (!uuids.isEmpty()) {
                 for (UUID uuid : uuids) {
@@ -97,10 +120,7 @@ class SearchPlotProvider implements PlotProvider {
                     count++;
                 }
             }
-            if (area != null && plot.getArea().equals(area)) {
-                count++;
-            }
-            if (alias != null && alias.equals(plot.getAlias())) {
+            if (alias != null && alias.equalsIgnoreCase(plot.getAlias())) {
                 count += 2;
             }
             if (count != 0) {
@@ -117,6 +137,32 @@ class SearchPlotProvider implements PlotProvider {
         return plots;
     }
 
+    /**
+     * Resolve a search term to a player. Cached names and UUIDs are resolved without
+     * blocking, and terms that are plot ids are not looked up at all.
+     *
+     * @param term Search term
+     * @return UUID, or {@code null} if the term is not a player
+     */
+    private static @Nullable UUID getUUID(final @NonNull String term) {
+        final UUIDMapping mapping = PlotSquared.get().getImpromptuUUIDPipeline().getImmediately(term);
+        if (mapping != null) {
+            return mapping.getUuid();
+        }
+        try {
+            return UUID.fromString(term);
+        } catch (final IllegalArgumentException ignored) {
+        }
+        if (PlotId.fromStringOrNull(term) != null) {
+            return null;
+        }
+        try {
+            return PlotSquared.get().getImpromptuUUIDPipeline().getSingle(term, Settings.UUID.BLOCKING_TIMEOUT);
+        } catch (final Exception ignored) {
+            return null;
+        }
+    }
+
     @Override
     public Collection<Plot> getPlots() {
         return getPlotsBySearch(this.searchTerm);
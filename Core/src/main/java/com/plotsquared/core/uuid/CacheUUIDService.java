@@ -25,63 +25,118 @@
  */
 package com.plotsquared.core.uuid;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
 
 /**
- * UUID service backed by a Guava Cache
+ * UUID service backed by an in-memory {@link UUIDMappingTable}, which can be saved to and restored
+ * from a binary snapshot
  */
 public class CacheUUIDService implements UUIDService, Consumer<List<UUIDMapping>> {
 
-    private final Cache<String, UUIDMapping> usernameCache;
-    private final Cache<UUID, UUIDMapping> uuidCache;
+    private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + CacheUUIDService.class.getSimpleName());
+    private static final int SNAPSHOT_MAGIC = 0x50325543;
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final UUIDMappingTable table;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
     /**
      * Construct a new Cache UUID service with a maximum number of entries.
-     * Because it stores the mappings in two ways, the actual number
-     * of entries is two times the specified size
+     * Once full, the oldest entries are replaced
      *
      * @param size Maximum number of entries
      */
     public CacheUUIDService(final int size) {
-        this.usernameCache = CacheBuilder.newBuilder().maximumSize(size).build();
-        this.uuidCache = CacheBuilder.newBuilder().maximumSize(size).build();
+        this.table = new UUIDMappingTable(size);
     }
 
     @Override
     public @NonNull List<UUIDMapping> getNames(final @NonNull List<@NonNull UUID> uuids) {
         final List<UUIDMapping> mappings = new ArrayList<>(uuids.size());
-        mappings.addAll(this.uuidCache.getAllPresent(uuids).values());
+        this.lock.readLock().lock();
+        try {
+            for (final UUID uuid : uuids) {
+                final String username = this.table.getUsername(uuid);
+                if (username != null) {
+                    mappings.add(new UUIDMapping(uuid, username));
+                }
+            }
+        } finally {
+            this.lock.readLock().unlock();
+        }
         return mappings;
     }
 
     @Override
     public @NonNull List<UUIDMapping> getUUIDs(final @NonNull List<@NonNull String> usernames) {
         final List<UUIDMapping> mappings = new ArrayList<>(usernames.size());
-        mappings.addAll(this.usernameCache.getAllPresent(usernames).values());
+        this.lock.readLock().lock();
+        try {
+            for (final String username : usernames) {
+                final UUIDMapping mapping = this.table.getByUsername(username);
+                if (mapping != null) {
+                    mappings.add(mapping);
+                }
+            }
+        } finally {
+            this.lock.readLock().unlock();
+        }
         return mappings;
     }
 
     @Override
     public void accept(final @NonNull List<@NonNull UUIDMapping> uuidMappings) {
-        for (final UUIDMapping mapping : uuidMappings) {
-            this.uuidCache.put(mapping.getUuid(), mapping);
-            this.usernameCache.put(mapping.getUsername(), mapping);
+        this.lock.writeLock().lock();
+        try {
+            for (final UUIDMapping mapping : uuidMappings) {
+                this.table.put(mapping.getUuid(), mapping.getUsername());
+            }
+        } finally {
+            this.lock.writeLock().unlock();
         }
     }
 
     @Override
     public @NonNull Collection<@NonNull UUIDMapping> getImmediately() {
-        return this.usernameCache.asMap().values();
+        this.lock.readLock().lock();
+        try {
+            return this.table.getAll();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public @NonNull Collection<@NonNull UUIDMapping> getImmediatelyByPrefix(final @NonNull String prefix) {
+        this.lock.readLock().lock();
+        try {
+            return this.table.getByPrefix(prefix);
+        } finally {
+            this.lock.readLock().unlock();
+        }
     }
 
     @Override
@@ -105,4 +160,110 @@ public class CacheUUIDService implements UUIDService, Consumer<List<UUIDMapping>
         return list.get(0);
     }
 
+    /**
+     * Check whether a username is cached for the given UUID
+     *
+     * @param uuid UUID
+     * @return {@code true} if the UUID is cached
+     */
+    public boolean contains(final @NonNull UUID uuid) {
+        this.lock.readLock().lock();
+        try {
+            return this.table.getUsername(uuid) != null;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get the number of cached mappings
+     *
+     * @return cached mapping count
+     */
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.table.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Write all cached mappings to a binary snapshot, which can be read back with {@link #loadSnapshot(File)}
+     *
+     * @param file Snapshot file
+     * @throws IOException If the snapshot could not be written
+     */
+    public void saveSnapshot(final @NonNull File file) throws IOException {
+        final File temporary = new File(file.getPath() + ".tmp");
+        try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary.toPath())))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            this.lock.readLock().lock();
+            try {
+                out.writeInt(this.table.size());
+                final IOException[] failure = new IOException[1];
+                this.table.forEach((most, least, username) -> {
+                    if (failure[0] != null) {
+                        return;
+                    }
+                    try {
+                        final byte[] bytes = username.getBytes(StandardCharsets.UTF_8);
+                        out.writeLong(most);
+                        out.writeLong(least);
+                        out.writeShort(bytes.length);
+                        out.write(bytes);
+                    } catch (final IOException e) {
+                        failure[0] = e;
+                    }
+                });
+                if (failure[0] != null) {
+                    throw failure[0];
+                }
+            } finally {
+                this.lock.readLock().unlock();
+            }
+        }
+        Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Read a snapshot written by {@link #saveSnapshot(File)} into the cache. The file is memory mapped
+     * rather than streamed.
+     *
+     * @param file Snapshot file
+     * @return Number of mappings read, or {@code 0} if there is no (valid) snapshot
+     */
+    public int loadSnapshot(final @NonNull File file) {
+        if (!file.isFile()) {
+            return 0;
+        }
+        try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != SNAPSHOT_MAGIC || buffer.getInt() != SNAPSHOT_VERSION) {
+                LOGGER.warn("(UUID) Ignoring UUID cache snapshot {} with an unknown format", file.getName());
+                return 0;
+            }
+            final int count = buffer.getInt();
+            final byte[] bytes = new byte[Short.MAX_VALUE];
+            this.lock.writeLock().lock();
+            try {
+                for (int i = 0; i < count; i++) {
+                    final long most = buffer.getLong();
+                    final long least = buffer.getLong();
+                    final int length = buffer.getShort();
+                    buffer.get(bytes, 0, length);
+                    this.table.put(most, least, new String(bytes, 0, length, StandardCharsets.UTF_8));
+                }
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+            return count;
+        } catch (final IOException | BufferUnderflowException e) {
+            LOGGER.error("(UUID) Failed to read UUID cache snapshot {}", file.getName(), e);
+            return 0;
+        }
+    }
+
 }
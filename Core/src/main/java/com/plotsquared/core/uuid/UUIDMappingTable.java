@@ -0,0 +1,225 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *                  Copyright (C) 2021 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.uuid;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Bounded UUID to username table that stores UUIDs as pairs of longs in an open addressing hash table,
+ * rather than as one {@link UUID} and {@link UUIDMapping} object per entry. Usernames are indexed by
+ * their lowercase form in a sorted map, which also serves prefix lookups. Once full, the oldest entry
+ * is replaced.
+ * <p>
+ * Not thread safe.
+ */
+final class UUIDMappingTable {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final int maximumSize;
+    private final TreeMap<String, Integer> usernames = new TreeMap<>();
+    private long[] mostSignificant;
+    private long[] leastSignificant;
+    private String[] names;
+    // Entry index + 1 per slot, 0 if free
+    private int[] slots;
+    private int size;
+    private int next;
+
+    UUIDMappingTable(final int maximumSize) {
+        this.maximumSize = Math.max(1, maximumSize);
+        this.allocate(Math.min(this.maximumSize, INITIAL_CAPACITY));
+    }
+
+    private static int hash(final long most, final long least) {
+        final long hash = most ^ least;
+        return ((int) (hash ^ (hash >>> 32))) * 0x9E3779B9;
+    }
+
+    private static @NonNull String toKey(final @NonNull String username) {
+        return username.toLowerCase(Locale.ENGLISH);
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    @Nullable String getUsername(final @NonNull UUID uuid) {
+        final int entry = this.find(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+        return entry < 0 ? null : this.names[entry];
+    }
+
+    @Nullable UUIDMapping getByUsername(final @NonNull String username) {
+        final Integer entry = this.usernames.get(toKey(username));
+        return entry == null ? null : this.toMapping(entry);
+    }
+
+    /**
+     * Get the mappings of all usernames starting with the given prefix, ignoring case, in alphabetical order
+     */
+    @NonNull List<UUIDMapping> getByPrefix(final @NonNull String prefix) {
+        final String key = toKey(prefix);
+        final List<UUIDMapping> mappings = new ArrayList<>();
+        for (final Map.Entry<String, Integer> entry : this.usernames.tailMap(key, true).entrySet()) {
+            if (!entry.getKey().startsWith(key)) {
+                break;
+            }
+            mappings.add(this.toMapping(entry.getValue()));
+        }
+        return mappings;
+    }
+
+    @NonNull List<UUIDMapping> getAll() {
+        final List<UUIDMapping> mappings = new ArrayList<>(this.size);
+        for (int entry = 0; entry < this.names.length; entry++) {
+            if (this.names[entry] != null) {
+                mappings.add(this.toMapping(entry));
+            }
+        }
+        return mappings;
+    }
+
+    /**
+     * Call the consumer for every entry, without creating {@link UUID} or {@link UUIDMapping} objects
+     */
+    void forEach(final @NonNull EntryConsumer consumer) {
+        for (int entry = 0; entry < this.names.length; entry++) {
+            if (this.names[entry] != null) {
+                consumer.accept(this.mostSignificant[entry], this.leastSignificant[entry], this.names[entry]);
+            }
+        }
+    }
+
+    void put(final @NonNull UUID uuid, final @NonNull String username) {
+        this.put(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), username);
+    }
+
+    void put(final long most, final long least, final @NonNull String username) {
+        int entry = this.find(most, least);
+        if (entry >= 0) {
+            final String previous = this.names[entry];
+            if (previous.equals(username)) {
+                return;
+            }
+            this.usernames.remove(toKey(previous), entry);
+        } else {
+            if (this.size == this.names.length && this.names.length < this.maximumSize) {
+                this.allocate(Math.min(this.names.length << 1, this.maximumSize));
+            }
+            entry = this.next;
+            this.next = (this.next + 1) % this.maximumSize;
+            if (this.names[entry] != null) {
+                this.remove(entry);
+            }
+            this.mostSignificant[entry] = most;
+            this.leastSignificant[entry] = least;
+            this.insertSlot(entry);
+            this.size++;
+        }
+        this.names[entry] = username;
+        this.usernames.put(toKey(username), entry);
+    }
+
+    private @NonNull UUIDMapping toMapping(final int entry) {
+        return new UUIDMapping(new UUID(this.mostSignificant[entry], this.leastSignificant[entry]), this.names[entry]);
+    }
+
+    private int find(final long most, final long least) {
+        final int mask = this.slots.length - 1;
+        for (int slot = hash(most, least) & mask; ; slot = (slot + 1) & mask) {
+            final int value = this.slots[slot];
+            if (value == 0) {
+                return -1;
+            }
+            final int entry = value - 1;
+            if (this.mostSignificant[entry] == most && this.leastSignificant[entry] == least) {
+                return entry;
+            }
+        }
+    }
+
+    private void insertSlot(final int entry) {
+        final int mask = this.slots.length - 1;
+        int slot = hash(this.mostSignificant[entry], this.leastSignificant[entry]) & mask;
+        while (this.slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        this.slots[slot] = entry + 1;
+    }
+
+    private void remove(final int entry) {
+        this.usernames.remove(toKey(this.names[entry]), entry);
+        this.names[entry] = null;
+        this.size--;
+        // Backward shift deletion keeps probe sequences intact without tombstones
+        final int mask = this.slots.length - 1;
+        int slot = hash(this.mostSignificant[entry], this.leastSignificant[entry]) & mask;
+        while (this.slots[slot] != entry + 1) {
+            slot = (slot + 1) & mask;
+        }
+        int free = slot;
+        for (slot = (slot + 1) & mask; this.slots[slot] != 0; slot = (slot + 1) & mask) {
+            final int other = this.slots[slot] - 1;
+            final int home = hash(this.mostSignificant[other], this.leastSignificant[other]) & mask;
+            // Move the entry back if its home slot is not between the free slot and its current slot
+            if (free <= slot ? (home <= free || home > slot) : (home <= free && home > slot)) {
+                this.slots[free] = this.slots[slot];
+                free = slot;
+            }
+        }
+        this.slots[free] = 0;
+    }
+
+    private void allocate(final int capacity) {
+        final int length = this.names == null ? 0 : this.names.length;
+        this.mostSignificant = this.mostSignificant == null ? new long[capacity] : Arrays.copyOf(this.mostSignificant, capacity);
+        this.leastSignificant = this.leastSignificant == null ? new long[capacity] : Arrays.copyOf(this.leastSignificant, capacity);
+        this.names = this.names == null ? new String[capacity] : Arrays.copyOf(this.names, capacity);
+        this.slots = new int[Integer.highestOneBit(Math.max(2, capacity * 2 - 1)) << 1];
+        for (int entry = 0; entry < length; entry++) {
+            if (this.names[entry] != null) {
+                this.insertSlot(entry);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface EntryConsumer {
+
+        void accept(long mostSignificant, long leastSignificant, @NonNull String username);
+
+    }
+
+}
@@ -435,6 +435,21 @@ public class UUIDPipeline {
         return mappings;
     }
 
+    /**
+     * Get as many UUID mappings with a username starting with the given prefix (ignoring case)
+     * as possible under the condition that the operation cannot be blocking
+     *
+     * @param prefix Username prefix
+     * @return All matching mappings that could be provided immediately
+     */
+    public @NonNull final Collection<@NonNull UUIDMapping> getAllImmediatelyByPrefix(final @NonNull String prefix) {
+        final Set<UUIDMapping> mappings = new LinkedHashSet<>();
+        for (final UUIDService service : this.getServiceListInstance()) {
+            mappings.addAll(service.getImmediatelyByPrefix(prefix));
+        }
+        return mappings;
+    }
+
     /**
      * Get a single UUID mapping immediately, if possible
      *
@@ -28,9 +28,11 @@ package com.plotsquared.core.uuid;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 
 /**
@@ -66,6 +68,24 @@ public interface UUIDService {
         return Collections.emptyList();
     }
 
+    /**
+     * Get the mappings of all usernames that start with the given prefix (ignoring case),
+     * under the same conditions as {@link #getImmediately()}
+     *
+     * @param prefix Username prefix
+     * @return All matching mappings that could be provided immediately
+     */
+    default @NonNull Collection<@NonNull UUIDMapping> getImmediatelyByPrefix(final @NonNull String prefix) {
+        final String lowerPrefix = prefix.toLowerCase(Locale.ENGLISH);
+        final List<UUIDMapping> mappings = new ArrayList<>();
+        for (final UUIDMapping mapping : this.getImmediately()) {
+            if (mapping.getUsername().toLowerCase(Locale.ENGLISH).startsWith(lowerPrefix)) {
+                mappings.add(mapping);
+            }
+        }
+        return mappings;
+    }
+
     /**
      * Check whether or not this service can be safely used synchronously
      * without blocking the server for an extended amount of time.
@@ -0,0 +1,93 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *                  Copyright (C) 2021 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import com.plotsquared.core.database.AbstractDBTest;
+import com.plotsquared.core.database.DBFunc;
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PlotAccessCacheTest {
+
+    private static final UUID OWNER = UUID.fromString("84499644-ad72-454b-a19d-f28c28df382b");
+    private static final UUID OTHER = UUID.fromString("1c9f7d4e-0b47-4a36-9d5f-2f0d7c6f1a55");
+
+    @Test
+    public void uncheckedPlayersAreMissing() {
+        PlotAccessCache cache = new PlotAccessCache(0, 0);
+        assertEquals(-1, cache.get(OWNER));
+        cache.put(OWNER, PlotAccessCache.OWNER | PlotAccessCache.ADDED);
+        assertEquals(PlotAccessCache.OWNER | PlotAccessCache.ADDED, cache.get(OWNER));
+        assertEquals(-1, cache.get(OTHER));
+    }
+
+    @Test
+    public void emptyDecisionIsCached() {
+        PlotAccessCache cache = new PlotAccessCache(0, 0);
+        cache.put(OTHER, 0);
+        assertEquals(0, cache.get(OTHER));
+        cache.put(OTHER, PlotAccessCache.DENIED);
+        assertEquals(PlotAccessCache.DENIED, cache.get(OTHER));
+    }
+
+    @Test
+    public void cacheIsInvalidatedByEitherVersion() {
+        PlotAccessCache cache = new PlotAccessCache(3, 7);
+        assertTrue(cache.isValid(3, 7));
+        assertFalse(cache.isValid(4, 7));
+        assertFalse(cache.isValid(3, 8));
+    }
+
+    @Test
+    public void cacheIsResetOnceFull() {
+        PlotAccessCache cache = new PlotAccessCache(0, 0);
+        cache.put(OWNER, PlotAccessCache.OWNER);
+        for (int i = 0; i < 1024; i++) {
+            cache.put(new UUID(0, i), 0);
+        }
+        assertEquals(-1, cache.get(OWNER));
+    }
+
+    @Test
+    public void ownerChangeInvalidatesTheArea() {
+        DBFunc.dbManager = new AbstractDBTest();
+        TestPlotArea area = new TestPlotArea("world");
+        Plot plot = area.claim(0, 0, OWNER);
+        long version = area.getAccessVersion();
+        plot.setOwnerAbs(OTHER);
+        assertNotEquals(version, area.getAccessVersion());
+        version = area.getAccessVersion();
+        plot.setOwnerAbs(OTHER);
+        assertEquals(version, area.getAccessVersion());
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *                  Copyright (C) 2021 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.plotsquared.core.util.entity.EntityCategories.CAP_ANIMAL;
+import static com.plotsquared.core.util.entity.EntityCategories.CAP_COUNT;
+import static com.plotsquared.core.util.entity.EntityCategories.CAP_ENTITY;
+import static com.plotsquared.core.util.entity.EntityCategories.CAP_MOB;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PlotEntityIndexTest {
+
+    private static final int ANIMAL = 1 << CAP_ENTITY | 1 << CAP_MOB | 1 << CAP_ANIMAL;
+    private static final PlotId ID = PlotId.of(1, 2);
+
+    private PlotEntityIndex index;
+
+    @Before
+    public void setUp() {
+        this.index = new PlotEntityIndex();
+        this.index.setTracked("world", true);
+    }
+
+    private int[] counts(String world, PlotId id) {
+        int[] count = new int[CAP_COUNT];
+        this.index.addTo(world, id, count);
+        return count;
+    }
+
+    @Test
+    public void countsAddedAndRemovedEntities() {
+        this.index.update("world", ID, ANIMAL, 1);
+        this.index.update("world", ID, ANIMAL, 1);
+        this.index.update("world", ID, ANIMAL, -1);
+        assertArrayEquals(new int[]{1, 1, 0, 1, 0, 0}, counts("world", ID));
+        this.index.update("world", ID, ANIMAL, -1);
+        assertArrayEquals(new int[CAP_COUNT], counts("world", ID));
+    }
+
+    @Test
+    public void countsNeverGoNegative() {
+        this.index.update("world", ID, ANIMAL, -1);
+        this.index.update("world", ID, ANIMAL, 1);
+        assertArrayEquals(new int[]{1, 1, 0, 1, 0, 0}, counts("world", ID));
+    }
+
+    @Test
+    public void untrackedWorldsAreIgnored() {
+        this.index.update("other", ID, ANIMAL, 1);
+        assertFalse(this.index.isTracked("other"));
+        assertArrayEquals(new int[CAP_COUNT], counts("other", ID));
+    }
+
+    @Test
+    public void untrackingClearsOnlyThatWorld() {
+        this.index.setTracked("other", true);
+        this.index.update("world", ID, ANIMAL, 1);
+        this.index.update("other", ID, ANIMAL, 1);
+        this.index.setTracked("other", false);
+        assertFalse(this.index.isTracked("other"));
+        assertTrue(this.index.isTracked("world"));
+        assertArrayEquals(new int[]{1, 1, 0, 1, 0, 0}, counts("world", ID));
+        // Tracking again starts from zero
+        this.index.setTracked("other", true);
+        assertArrayEquals(new int[CAP_COUNT], counts("other", ID));
+    }
+
+    @Test
+    public void trackingTwiceKeepsCounts() {
+        this.index.update("world", ID, ANIMAL, 1);
+        this.index.setTracked("world", true);
+        assertArrayEquals(new int[]{1, 1, 0, 1, 0, 0}, counts("world", ID));
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *                  Copyright (C) 2021 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class PlotIdTest {
+
+    @Test
+    public void packRoundTrips() {
+        int[][] coordinates = {{0, 0}, {1, -1}, {-1, 1}, {-5000, 7000}, {Integer.MAX_VALUE, Integer.MIN_VALUE}};
+        for (int[] xy : coordinates) {
+            long packed = PlotId.pack(xy[0], xy[1]);
+            assertEquals(xy[0], PlotId.unpackX(packed));
+            assertEquals(xy[1], PlotId.unpackY(packed));
+            assertEquals(PlotId.of(xy[0], xy[1]), PlotId.unpack(packed));
+            assertEquals(packed, PlotId.of(xy[0], xy[1]).pack());
+        }
+    }
+
+    @Test
+    public void unpackNoneIsNull() {
+        assertNull(PlotId.unpack(PlotId.NONE_PACKED));
+    }
+
+    @Test
+    public void idsNearOriginAreInterned() {
+        assertSame(PlotId.of(3, -4), PlotId.of(3, -4));
+        assertSame(PlotId.of(3, -4), PlotId.unpack(PlotId.pack(3, -4)));
+    }
+
+    @Test
+    public void distantIdsAreEqualButNotInterned() {
+        PlotId a = PlotId.of(1_000_000, 1_000_000);
+        PlotId b = PlotId.of(1_000_000, 1_000_000);
+        assertNotSame(a, b);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+    }
+
+}
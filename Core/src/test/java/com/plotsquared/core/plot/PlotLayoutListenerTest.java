@@ -0,0 +1,83 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *                  Copyright (C) 2021 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import com.plotsquared.core.database.AbstractDBTest;
+import com.plotsquared.core.database.DBFunc;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PlotLayoutListenerTest {
+
+    private static final UUID OWNER = UUID.fromString("84499644-ad72-454b-a19d-f28c28df382b");
+
+    private TestPlotArea area;
+    private Set<PlotId> changed;
+
+    @Before
+    public void setUp() {
+        DBFunc.dbManager = new AbstractDBTest();
+        this.area = new TestPlotArea("world");
+        this.changed = new HashSet<>();
+        this.area.setPlotLayoutListener(this.changed::add);
+    }
+
+    @Test
+    public void claimNotifiesPlotAndNeighbours() {
+        this.area.claim(3, 3, OWNER);
+        assertEquals(5, this.changed.size());
+        assertTrue(this.changed.contains(PlotId.of(3, 3)));
+        assertTrue(this.changed.contains(PlotId.of(3, 2)));
+        assertTrue(this.changed.contains(PlotId.of(4, 3)));
+        assertTrue(this.changed.contains(PlotId.of(3, 4)));
+        assertTrue(this.changed.contains(PlotId.of(2, 3)));
+    }
+
+    @Test
+    public void mergeNotifiesBothPlots() {
+        Plot a = this.area.claim(0, 0, OWNER);
+        this.area.claim(1, 0, OWNER);
+        this.changed.clear();
+        a.setMerged(new boolean[]{false, true, false, false});
+        assertTrue(this.changed.contains(PlotId.of(0, 0)));
+        assertTrue(this.changed.contains(PlotId.of(1, 0)));
+    }
+
+    @Test
+    public void removedListenerIsNotNotified() {
+        this.area.setPlotLayoutListener(null);
+        this.area.claim(0, 0, OWNER);
+        assertTrue(this.changed.isEmpty());
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *                  Copyright (C) 2021 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import com.google.common.collect.ImmutableSet;
+import com.plotsquared.core.database.AbstractDBTest;
+import com.plotsquared.core.database.DBFunc;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+
+public class PlotMergeGroupTest {
+
+    private static final UUID OWNER = UUID.fromString("84499644-ad72-454b-a19d-f28c28df382b");
+    private static final boolean[] NONE = {false, false, false, false};
+    private static final boolean[] EAST = {false, true, false, false};
+    private static final boolean[] WEST = {false, false, false, true};
+    private static final boolean[] EAST_WEST = {false, true, false, true};
+
+    private TestPlotArea area;
+
+    @Before
+    public void setUp() {
+        DBFunc.dbManager = new AbstractDBTest();
+        this.area = new TestPlotArea("world");
+    }
+
+    @Test
+    public void mergeInvalidatesCachedGroupsOfNeighbours() {
+        Plot a = this.area.claim(0, 0, OWNER);
+        Plot b = this.area.claim(1, 0, OWNER);
+        Plot c = this.area.claim(2, 0, OWNER);
+        b.setMerged(EAST);
+        c.setMerged(WEST);
+        // Cache the group of c before a joins
+        assertEquals(ImmutableSet.of(b, c), c.getConnectedPlots());
+        a.setMerged(EAST);
+        b.setMerged(EAST_WEST);
+        assertEquals(ImmutableSet.of(a, b, c), c.getConnectedPlots());
+        assertEquals(ImmutableSet.of(a, b, c), a.getConnectedPlots());
+    }
+
+    @Test
+    public void unmergeInvalidatesCachedGroupsOfNeighbours() {
+        Plot a = this.area.claim(0, 0, OWNER);
+        Plot b = this.area.claim(1, 0, OWNER);
+        Plot c = this.area.claim(2, 0, OWNER);
+        a.setMerged(EAST);
+        b.setMerged(EAST_WEST);
+        c.setMerged(WEST);
+        assertEquals(ImmutableSet.of(a, b, c), a.getConnectedPlots());
+        assertEquals(a, c.getBasePlot(false));
+        // Split c off, as the copy in PlotModificationManager does one plot at a time
+        b.setMerged(WEST);
+        c.setMerged(NONE);
+        assertEquals(ImmutableSet.of(a, b), a.getConnectedPlots());
+        assertEquals(ImmutableSet.of(c), c.getConnectedPlots());
+        assertEquals(c, c.getBasePlot(false));
+    }
+
+}
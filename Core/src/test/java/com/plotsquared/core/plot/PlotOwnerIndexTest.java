@@ -0,0 +1,103 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *                  Copyright (C) 2021 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import com.google.common.collect.ImmutableSet;
+import com.plotsquared.core.database.AbstractDBTest;
+import com.plotsquared.core.database.DBFunc;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PlotOwnerIndexTest {
+
+    private static final UUID OWNER = UUID.fromString("84499644-ad72-454b-a19d-f28c28df382b");
+    private static final UUID OTHER = UUID.fromString("1c9f7d4e-0b47-4a36-9d5f-2f0d7c6f1a55");
+
+    private TestPlotArea area;
+
+    @Before
+    public void setUp() {
+        DBFunc.dbManager = new AbstractDBTest();
+        this.area = new TestPlotArea("world");
+    }
+
+    @Test
+    public void claimedPlotsAreIndexedByOwner() {
+        Plot a = this.area.claim(0, 0, OWNER);
+        Plot b = this.area.claim(1, 0, OWNER);
+        Plot c = this.area.claim(0, 1, OTHER);
+        assertEquals(ImmutableSet.of(a, b), this.area.getPlotsAbs(OWNER));
+        assertEquals(ImmutableSet.of(c), this.area.getPlotsAbs(OTHER));
+        assertEquals(ImmutableSet.of(OWNER, OTHER), this.area.getOwners());
+        assertEquals(2, this.area.getPlotCount(OWNER));
+    }
+
+    @Test
+    public void removedPlotsAreUnindexed() {
+        Plot a = this.area.claim(0, 0, OWNER);
+        this.area.claim(1, 0, OWNER);
+        this.area.removePlot(PlotId.of(1, 0));
+        assertEquals(ImmutableSet.of(a), this.area.getPlotsAbs(OWNER));
+        assertEquals(1, this.area.getPlotCount(OWNER));
+        this.area.removePlot(PlotId.of(0, 0));
+        assertTrue(this.area.getPlotsAbs(OWNER).isEmpty());
+        assertEquals(0, this.area.getPlotCount(OWNER));
+        assertFalse(this.area.getOwners().contains(OWNER));
+    }
+
+    @Test
+    public void ownerChangeMovesThePlot() {
+        Plot a = this.area.claim(0, 0, OWNER);
+        a.setOwnerAbs(OTHER);
+        assertTrue(this.area.getPlotsAbs(OWNER).isEmpty());
+        assertEquals(ImmutableSet.of(a), this.area.getPlotsAbs(OTHER));
+        assertEquals(ImmutableSet.of(OTHER), this.area.getOwners());
+    }
+
+    @Test
+    public void replacedPlotIsIndexedUnderTheNewOwner() {
+        this.area.claim(0, 0, OWNER);
+        Plot replacement = this.area.claim(0, 0, OTHER);
+        assertTrue(this.area.getPlotsAbs(OWNER).isEmpty());
+        assertEquals(ImmutableSet.of(replacement), this.area.getPlotsAbs(OTHER));
+    }
+
+    @Test
+    public void detachedPlotsDoNotUpdateTheIndex() {
+        Plot a = this.area.claim(0, 0, OWNER);
+        this.area.removePlot(a.getId());
+        a.setOwnerAbs(OTHER);
+        assertTrue(this.area.getPlotsAbs(OTHER).isEmpty());
+        assertTrue(this.area.getOwners().isEmpty());
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *                  Copyright (C) 2021 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import com.google.common.collect.ImmutableSet;
+import com.plotsquared.core.database.AbstractDBTest;
+import com.plotsquared.core.database.DBFunc;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PlotSearchIndexTest {
+
+    private static final UUID OWNER = UUID.fromString("84499644-ad72-454b-a19d-f28c28df382b");
+    private static final UUID HELPER = UUID.fromString("1c9f7d4e-0b47-4a36-9d5f-2f0d7c6f1a55");
+
+    private TestPlotArea area;
+
+    @Before
+    public void setUp() {
+        DBFunc.dbManager = new AbstractDBTest();
+        this.area = new TestPlotArea("world");
+    }
+
+    @Test
+    public void aliasLookupIsCaseInsensitive() {
+        Plot plot = this.area.claim(0, 0, OWNER);
+        plot.setAlias("Spawn");
+        assertEquals(ImmutableSet.of(plot), this.area.getPlotsByAlias("spawn"));
+        assertEquals(ImmutableSet.of(plot), this.area.getPlotsByAlias("SPAWN"));
+    }
+
+    @Test
+    public void aliasChangeReplacesTheEntry() {
+        Plot plot = this.area.claim(0, 0, OWNER);
+        plot.setAlias("spawn");
+        plot.setAlias("market");
+        assertTrue(this.area.getPlotsByAlias("spawn").isEmpty());
+        assertEquals(ImmutableSet.of(plot), this.area.getPlotsByAlias("market"));
+        plot.setAlias("");
+        assertTrue(this.area.getPlotsByAlias("market").isEmpty());
+    }
+
+    @Test
+    public void trustedAndMembersAreIndexed() {
+        Plot a = this.area.claim(0, 0, OWNER);
+        Plot b = this.area.claim(1, 0, OWNER);
+        a.addTrusted(HELPER);
+        b.addMember(HELPER);
+        assertEquals(ImmutableSet.of(a, b), this.area.getPlotsAddedTo(HELPER));
+        a.removeTrusted(HELPER);
+        assertEquals(ImmutableSet.of(b), this.area.getPlotsAddedTo(HELPER));
+        b.removeMember(HELPER);
+        assertTrue(this.area.getPlotsAddedTo(HELPER).isEmpty());
+    }
+
+    @Test
+    public void everyoneIsIncludedForAnyPlayer() {
+        Plot plot = this.area.claim(0, 0, OWNER);
+        plot.addTrusted(DBFunc.EVERYONE);
+        assertEquals(ImmutableSet.of(plot), this.area.getPlotsAddedTo(HELPER));
+    }
+
+    @Test
+    public void ownedPlotsAreIncluded() {
+        Plot plot = this.area.claim(0, 0, OWNER);
+        assertEquals(ImmutableSet.of(plot), this.area.getPlotsAddedTo(OWNER));
+    }
+
+    @Test
+    public void removedPlotsAreUnindexed() {
+        Plot plot = this.area.claim(0, 0, OWNER);
+        plot.setAlias("spawn");
+        plot.addTrusted(HELPER);
+        this.area.removePlot(plot.getId());
+        assertTrue(this.area.getPlotsByAlias("spawn").isEmpty());
+        assertTrue(this.area.getPlotsAddedTo(HELPER).isEmpty());
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *                  Copyright (C) 2021 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import com.plotsquared.core.location.Direction;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class PlotSettingsTest {
+
+    @Test
+    public void mergedArrayRoundTrips() {
+        PlotSettings settings = new PlotSettings();
+        for (int bits = 0; bits < 16; bits++) {
+            boolean[] merged = new boolean[4];
+            for (int i = 0; i < 4; i++) {
+                merged[i] = (bits & 1 << i) != 0;
+            }
+            settings.setMerged(merged);
+            assertArrayEquals(merged, settings.getMerged());
+            for (int i = 0; i < 4; i++) {
+                assertEquals(merged[i], settings.getMerged(i));
+            }
+        }
+    }
+
+    @Test
+    public void mergedArrayIsACopy() {
+        PlotSettings settings = new PlotSettings();
+        settings.getMerged()[1] = true;
+        assertFalse(settings.getMerged(1));
+    }
+
+    @Test
+    public void singleDirectionReportsChanges() {
+        PlotSettings settings = new PlotSettings();
+        assertTrue(settings.setMerged(Direction.EAST, true));
+        assertFalse(settings.setMerged(Direction.EAST, true));
+        assertTrue(settings.setMerged(3, true));
+        assertArrayEquals(new boolean[]{false, true, false, true}, settings.getMerged());
+        assertTrue(settings.setMerged(1, false));
+        assertFalse(settings.setMerged(1, false));
+        assertArrayEquals(new boolean[]{false, false, false, true}, settings.getMerged());
+    }
+
+    @Test
+    public void allDirectionsIsRejected() {
+        PlotSettings settings = new PlotSettings();
+        assertThrows(IllegalArgumentException.class, () -> settings.setMerged(Direction.ALL, true));
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *                  Copyright (C) 2021 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import com.plotsquared.core.configuration.ConfigurationNode;
+import com.plotsquared.core.configuration.ConfigurationSection;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.UUID;
+
+/**
+ * Bare plot area for tests that only need the plot bookkeeping of {@link PlotArea}.
+ */
+final class TestPlotArea extends PlotArea {
+
+    TestPlotArea(final @NonNull String worldName) {
+        super(worldName, null, null, null, null, null, null);
+    }
+
+    /**
+     * Add an owned plot to this area
+     *
+     * @param x     plot x coordinate
+     * @param y     plot y coordinate
+     * @param owner plot owner
+     * @return the plot
+     */
+    @NonNull Plot claim(final int x, final int y, final @NonNull UUID owner) {
+        final Plot plot = new Plot(this, PlotId.of(x, y), owner);
+        this.addPlotAbs(plot);
+        return plot;
+    }
+
+    @Override
+    protected PlotManager createManager() {
+        return null;
+    }
+
+    @Override
+    public void loadConfiguration(final ConfigurationSection config) {
+    }
+
+    @Override
+    public ConfigurationNode[] getSettingNodes() {
+        return new ConfigurationNode[0];
+    }
+
+}
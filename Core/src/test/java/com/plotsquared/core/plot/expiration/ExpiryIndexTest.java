@@ -0,0 +1,126 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *                  Copyright (C) 2021 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot.expiration;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ExpiryIndexTest {
+
+    private static final UUID A = UUID.fromString("84499644-ad72-454b-a19d-f28c28df382b");
+    private static final UUID B = UUID.fromString("1a2b3c4d-0000-4000-8000-000000000001");
+    private static final UUID C = UUID.fromString("1a2b3c4d-0000-4000-8000-000000000002");
+
+    private ExpiryIndex index;
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        this.index = new ExpiryIndex();
+        this.file = Files.createTempFile("expiry-index", ".bin").toFile();
+    }
+
+    @After
+    public void tearDown() {
+        this.file.delete();
+    }
+
+    @Test
+    public void seenBeforeIsOrderedByTime() {
+        this.index.update(A, 300);
+        this.index.update(B, 100);
+        this.index.update(C, 200);
+        assertEquals(Arrays.asList(B, C), this.index.getSeenBefore(250));
+        assertEquals(Arrays.asList(B, C, A), this.index.getSeenBefore(1000));
+    }
+
+    @Test
+    public void updateMovesPlayer() {
+        this.index.update(A, 100);
+        assertEquals(Long.valueOf(100), this.index.update(A, 500));
+        assertEquals(Long.valueOf(500), this.index.get(A));
+        assertEquals(Collections.emptyList(), this.index.getSeenBefore(400));
+    }
+
+    @Test
+    public void unknownLoginIsNeverInactive() {
+        this.index.update(A, 0);
+        assertEquals(Collections.emptyList(), this.index.getSeenBefore(1000));
+    }
+
+    @Test
+    public void updateIfLaterKeepsLaterTime() {
+        assertNull(this.index.get(A));
+        assertEquals(100, this.index.updateIfLater(A, 100));
+        assertEquals(100, this.index.updateIfLater(A, 50));
+        assertEquals(Arrays.asList(A), this.index.getSeenBefore(150));
+        assertEquals(200, this.index.updateIfLater(A, 200));
+        assertEquals(Collections.emptyList(), this.index.getSeenBefore(150));
+        assertEquals(1, this.index.size());
+    }
+
+    @Test
+    public void snapshotRoundTrips() throws IOException {
+        this.index.update(A, 300);
+        this.index.update(B, 100);
+        this.index.save(this.file);
+        ExpiryIndex loaded = new ExpiryIndex();
+        assertEquals(2, loaded.load(this.file));
+        assertEquals(Long.valueOf(300), loaded.get(A));
+        assertEquals(Arrays.asList(B, A), loaded.getSeenBefore(1000));
+    }
+
+    @Test
+    public void loadKeepsIndexedPlayers() throws IOException {
+        this.index.update(A, 300);
+        this.index.save(this.file);
+        ExpiryIndex loaded = new ExpiryIndex();
+        loaded.update(A, 500);
+        loaded.load(this.file);
+        assertEquals(Long.valueOf(500), loaded.get(A));
+        assertEquals(1, loaded.size());
+    }
+
+    @Test
+    public void invalidSnapshotIsIgnored() throws IOException {
+        Files.write(this.file.toPath(), new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        assertEquals(0, this.index.load(this.file));
+        this.file.delete();
+        assertEquals(0, this.index.load(this.file));
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *                  Copyright (C) 2021 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot.world;
+
+import com.plotsquared.core.plot.PlotId;
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.plotsquared.core.util.entity.EntityCategories.CAP_ENTITY;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class SinglePlotAreaEntityCountTest {
+
+    private static final int ENTITY = 1 << CAP_ENTITY;
+
+    private SinglePlotArea area;
+
+    @Before
+    public void setUp() {
+        this.area = new SinglePlotArea(null, null, null, null, null);
+        this.area.setEntityCountTracked("1_2", true);
+        this.area.setEntityCountTracked("3_4", true);
+    }
+
+    @Test
+    public void plotIdIsResolvedFromTheWorld() {
+        assertEquals(PlotId.of(1, 2), this.area.getPlotId("1_2", 100, 64, -300));
+        assertEquals(PlotId.of(3, 4), this.area.getPlotId("3_4", 0, 0, 0));
+        assertNull(this.area.getPlotId("world", 0, 0, 0));
+    }
+
+    @Test
+    public void entitiesAreCountedInTheirOwnPlot() {
+        this.area.updateEntityCount("1_2", this.area.getPlotId("1_2", 5, 64, 5), ENTITY, 1);
+        this.area.updateEntityCount("3_4", this.area.getPlotId("3_4", 5, 64, 5), ENTITY, 1);
+        this.area.updateEntityCount("3_4", this.area.getPlotId("3_4", 9, 64, 9), ENTITY, 1);
+        assertEquals(1, this.area.getEntityCounts("1_2", PlotId.of(1, 2))[CAP_ENTITY]);
+        assertEquals(2, this.area.getEntityCounts("3_4", PlotId.of(3, 4))[CAP_ENTITY]);
+        assertEquals(0, this.area.getEntityCounts("1_2", PlotId.of(0, 0))[CAP_ENTITY]);
+    }
+
+    @Test
+    public void unloadingOneWorldKeepsTheOthers() {
+        this.area.updateEntityCount("1_2", PlotId.of(1, 2), ENTITY, 1);
+        this.area.updateEntityCount("3_4", PlotId.of(3, 4), ENTITY, 1);
+        this.area.setEntityCountTracked("3_4", false);
+        assertFalse(this.area.isEntityCountTracked("3_4"));
+        assertTrue(this.area.isEntityCountTracked("1_2"));
+        assertEquals(1, this.area.getEntityCounts("1_2", PlotId.of(1, 2))[CAP_ENTITY]);
+        assertEquals(0, this.area.getEntityCounts("3_4", PlotId.of(3, 4))[CAP_ENTITY]);
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *                  Copyright (C) 2021 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.uuid;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CacheUUIDServiceTest {
+
+    private static final UUID ALICE = UUID.fromString("84499644-ad72-454b-a19d-f28c28df382b");
+    private static final UUID BOB = UUID.fromString("0b1e4b6c-1f2a-4a5e-9c3d-2e6f7a8b9c0d");
+    private static final UUID CAROL = UUID.fromString("f3a2b1c0-9d8e-4f7a-8b6c-5d4e3f2a1b0c");
+
+    @Test
+    public void usernamesAreCaseInsensitive() {
+        CacheUUIDService service = new CacheUUIDService(16);
+        service.accept(Collections.singletonList(new UUIDMapping(ALICE, "Alice")));
+        assertEquals(ALICE, service.getImmediately("alice").getUuid());
+        assertEquals("Alice", service.getImmediately(ALICE).getUsername());
+    }
+
+    @Test
+    public void renameReplacesTheOldUsername() {
+        CacheUUIDService service = new CacheUUIDService(16);
+        service.accept(Collections.singletonList(new UUIDMapping(ALICE, "Alice")));
+        service.accept(Collections.singletonList(new UUIDMapping(ALICE, "Alicia")));
+        assertNull(service.getImmediately("Alice"));
+        assertEquals(ALICE, service.getImmediately("Alicia").getUuid());
+        assertEquals(1, service.size());
+    }
+
+    @Test
+    public void prefixLookup() {
+        CacheUUIDService service = new CacheUUIDService(16);
+        service.accept(Arrays.asList(
+                new UUIDMapping(ALICE, "Alice"),
+                new UUIDMapping(BOB, "Bob"),
+                new UUIDMapping(CAROL, "alfred")
+        ));
+        assertEquals(
+                Arrays.asList(new UUIDMapping(CAROL, "alfred"), new UUIDMapping(ALICE, "Alice")),
+                service.getImmediatelyByPrefix("AL")
+        );
+        assertTrue(service.getImmediatelyByPrefix("z").isEmpty());
+    }
+
+    @Test
+    public void oldestEntryIsReplacedWhenFull() {
+        CacheUUIDService service = new CacheUUIDService(2);
+        service.accept(Arrays.asList(
+                new UUIDMapping(ALICE, "Alice"),
+                new UUIDMapping(BOB, "Bob"),
+                new UUIDMapping(CAROL, "Carol")
+        ));
+        assertEquals(2, service.size());
+        assertFalse(service.contains(ALICE));
+        assertNull(service.getImmediately("Alice"));
+        assertTrue(service.contains(BOB));
+        assertTrue(service.contains(CAROL));
+    }
+
+    @Test
+    public void snapshotRoundTrip() throws IOException {
+        File file = Files.createTempFile("uuids", ".bin").toFile();
+        try {
+            CacheUUIDService service = new CacheUUIDService(16);
+            service.accept(Arrays.asList(new UUIDMapping(ALICE, "Alice"), new UUIDMapping(BOB, "Bob")));
+            service.saveSnapshot(file);
+
+            CacheUUIDService loaded = new CacheUUIDService(16);
+            assertEquals(2, loaded.loadSnapshot(file));
+            assertEquals("Alice", loaded.getImmediately(ALICE).getUsername());
+            assertEquals(BOB, loaded.getImmediately("bob").getUuid());
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void invalidSnapshotIsIgnored() throws IOException {
+        File file = Files.createTempFile("uuids", ".bin").toFile();
+        try {
+            Files.write(file.toPath(), new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+            CacheUUIDService service = new CacheUUIDService(16);
+            assertEquals(0, service.loadSnapshot(file));
+            assertEquals(0, service.size());
+            assertEquals(0, service.loadSnapshot(new File(file.getPath() + ".missing")));
+        } finally {
+            file.delete();
+        }
+    }
+
+}
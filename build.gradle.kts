@@ -9,6 +9,7 @@ plugins {
     id("com.github.johnrengelman.shadow") version "7.0.0"
     id("org.cadixdev.licenser") version "0.6.1"
     id("org.ajoberstar.grgit") version "4.1.0"
+    id("me.champeau.jmh") version "0.6.6" apply false
 
     eclipse
     idea